@@ -91,6 +91,61 @@ public class Action<T> {
         };
     }
 
+    /**
+     * Constructs an action based on the passed {@link Callable}, that performs its computation at most
+     * once and memoizes its result. A failure of the computation isn't memoized ({@link FailurePolicy#RETRY}).
+     * <p>
+     * Example:<pre>{@code
+     * MemoizedAction<Properties> configuration = Action.memoized(() -> loadConfiguration());
+     * conditional(isProduction).onTrue(configuration).execute();
+     * conditional(isStaging).onTrue(configuration).execute(); // configuration is loaded only once
+     * }</pre>
+     * @param engine entity that performs the computation of a constructed action
+     * @param <T> type of value returned in the result of action execution
+     * @return memoizing action based on the passed {@link Callable}
+     */
+    @Nonnull
+    public static <T> MemoizedAction<T> memoized(@Nonnull Callable<T> engine) {
+        return memoized(engine, FailurePolicy.RETRY);
+    }
+
+    /**
+     * Constructs an action based on the passed {@link Callable}, that performs its computation at most
+     * once and memoizes its result. Whether a failure of the computation is memoized is determined
+     * by the passed {@link FailurePolicy}.
+     * @param engine entity that performs the computation of a constructed action
+     * @param failurePolicy policy that determines whether a failure of the computation is memoized
+     * @param <T> type of value returned in the result of action execution
+     * @return memoizing action based on the passed {@link Callable}
+     */
+    @Nonnull
+    public static <T> MemoizedAction<T> memoized(@Nonnull Callable<T> engine, @Nonnull FailurePolicy failurePolicy) {
+        return new MemoizedAction<>(engine, failurePolicy);
+    }
+
+    /**
+     * Returns a new action that performs the computation of this action at most once and memoizes
+     * its result. A failure of the computation isn't memoized ({@link FailurePolicy#RETRY}).
+     * This action remains unchanged.
+     * @return memoizing action based on this action
+     */
+    @Nonnull
+    public MemoizedAction<T> memoize() {
+        return memoize(FailurePolicy.RETRY);
+    }
+
+    /**
+     * Returns a new action that performs the computation of this action at most once and memoizes
+     * its result. Whether a failure of the computation is memoized is determined by the passed
+     * {@link FailurePolicy}. This action remains unchanged.
+     * @param failurePolicy policy that determines whether a failure of the computation is memoized
+     * @return memoizing action based on this action
+     */
+    @Nonnull
+    public MemoizedAction<T> memoize(@Nonnull FailurePolicy failurePolicy) {
+        return memoized(engine, failurePolicy);
+    }
+
     /**
      * Executes this action.
      * <ol>
@@ -454,6 +509,90 @@ public class Action<T> {
         }
     }
 
+    /**
+     * Executes this action and returns a return value that is produced in the result
+     * of execution of this action as an {@code int}.
+     * <p>
+     * If this action was submitted to a {@link Conditional} via {@code onTrueInt(...)} or
+     * {@code onFalseInt(...)} methods, the return value is never boxed. Otherwise, the return
+     * value is retrieved via {@link Action#get(Class)} and unboxed from {@link Integer}.
+     * @return return value that is produced in the result of execution of this action as an {@code int}
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Integer}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of this action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows})
+     */
+    @SuppressWarnings({"JavadocDeclaration", "DataFlowIssue"})
+    public int getAsInt() {
+        return get(Integer.class);
+    }
+
+    /**
+     * Executes this action and returns a return value that is produced in the result
+     * of execution of this action as a {@code long}.
+     * <p>
+     * If this action was submitted to a {@link Conditional} via {@code onTrueLong(...)} or
+     * {@code onFalseLong(...)} methods, the return value is never boxed. Otherwise, the return
+     * value is retrieved via {@link Action#get(Class)} and unboxed from {@link Long}.
+     * @return return value that is produced in the result of execution of this action as a {@code long}
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Long}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of this action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows})
+     */
+    @SuppressWarnings({"JavadocDeclaration", "DataFlowIssue"})
+    public long getAsLong() {
+        return get(Long.class);
+    }
+
+    /**
+     * Executes this action and returns a return value that is produced in the result
+     * of execution of this action as a {@code double}.
+     * <p>
+     * If this action was submitted to a {@link Conditional} via {@code onTrueDouble(...)} or
+     * {@code onFalseDouble(...)} methods, the return value is never boxed. Otherwise, the return
+     * value is retrieved via {@link Action#get(Class)} and unboxed from {@link Double}.
+     * @return return value that is produced in the result of execution of this action as a {@code double}
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Double}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of this action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows})
+     */
+    @SuppressWarnings({"JavadocDeclaration", "DataFlowIssue"})
+    public double getAsDouble() {
+        return get(Double.class);
+    }
+
+    /**
+     * Executes this action and returns a return value that is produced in the result
+     * of execution of this action as a {@code boolean}.
+     * <p>
+     * If this action was submitted to a {@link Conditional} via {@code onTrueBoolean(...)} or
+     * {@code onFalseBoolean(...)} methods, the return value is never boxed. Otherwise, the return
+     * value is retrieved via {@link Action#get(Class)} and unboxed from {@link Boolean}.
+     * @return return value that is produced in the result of execution of this action as a {@code boolean}
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Boolean}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of this action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows})
+     */
+    @SuppressWarnings({"JavadocDeclaration", "DataFlowIssue"})
+    public boolean getAsBoolean() {
+        return get(Boolean.class);
+    }
+
     /**
      * Executes this action and returns a return value that is produced in the result of execution
      * of this action, but cast into a specified type. The passed exception class is set as a unary
@@ -1,42 +1,102 @@
 package eu.ciechanowiec.conditional;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
 
 /**
  * Entity that stores {@link Action}s and provides basic API pertaining to the stored elements.
  * <p>
- * Actions are stored in an internal {@link List}.
+ * This class declares only that API, while the way in which {@link Action}s are stored is determined
+ * by its implementations: {@link InlineActionsList}, used by default, {@link ConcurrentActionsList},
+ * used by concurrent {@link Conditional}s, and {@link DiscardingActionsList}, used by pruned
+ * {@link Conditional}s. Therefore, no implementation carries the state of another one.
  */
-public class ActionsList {
-
-    /**
-     * Internal list where {@link Action}s are actually stored.
-     */
-    private final List<Action<?>> internalList;
+public abstract class ActionsList {
 
     /**
      * Constructs an instance of an {@link ActionsList} that stores {@link Action}s
      * and provides basic API pertaining to the stored elements.
-     * <p>
-     * Actions are stored in an internal {@link List}.
      */
     ActionsList() {
-        internalList = new ArrayList<>();
+        // Constructor to keep javadoc
     }
 
     /**
      * Adds the passed {@link Action} to this actions list.
      * <p>
-     * The {@link Action} is added at the front of this actions list.
+     * The {@link Action} is added at the end of this actions list.
      * @param actionToAdd {@link Action} to add to this actions list
      * @param <T> type of value returned in the result of submitted action execution
      */
-    <T> void add(Action<T> actionToAdd) {
-        internalList.add(actionToAdd);
+    abstract <T> void add(Action<T> actionToAdd);
+
+    /**
+     * Wraps the passed {@link Callable} into an instance of an {@link Action} via an
+     * {@link Action#Action(Callable)} constructor and adds that {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param callableToAdd {@link Callable} to add to this actions list
+     * @param <T> type of value returned in the result of submitted action execution
+     */
+    <T> void add(Callable<T> callableToAdd) {
+        add(new Action<>(callableToAdd));
+    }
+
+    /**
+     * Wraps the passed {@link Runnable} into an instance of an {@link Action} via an
+     * {@link Action#Action(Runnable)} constructor and adds that {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param runnableToAdd {@link Runnable} to add to this actions list
+     */
+    void add(Runnable runnableToAdd) {
+        add(new Action<>(runnableToAdd));
+    }
+
+    /**
+     * Wraps the passed {@link IntCallable} into an instance of an {@link IntAction}
+     * and adds that {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param callableToAdd {@link IntCallable} to add to this actions list
+     */
+    void add(IntCallable callableToAdd) {
+        add(new IntAction(callableToAdd));
+    }
+
+    /**
+     * Wraps the passed {@link LongCallable} into an instance of a {@link LongAction}
+     * and adds that {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param callableToAdd {@link LongCallable} to add to this actions list
+     */
+    void add(LongCallable callableToAdd) {
+        add(new LongAction(callableToAdd));
+    }
+
+    /**
+     * Wraps the passed {@link DoubleCallable} into an instance of a {@link DoubleAction}
+     * and adds that {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param callableToAdd {@link DoubleCallable} to add to this actions list
+     */
+    void add(DoubleCallable callableToAdd) {
+        add(new DoubleAction(callableToAdd));
+    }
+
+    /**
+     * Wraps the passed {@link BooleanCallable} into an instance of a {@link BooleanAction}
+     * and adds that {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param callableToAdd {@link BooleanCallable} to add to this actions list
+     */
+    void add(BooleanCallable callableToAdd) {
+        add(new BooleanAction(callableToAdd));
     }
 
     /**
@@ -44,50 +104,42 @@ public class ActionsList {
      * @return the first element of this actions list
      * @throws NoSuchElementException if this actions list is empty
      */
-    @SuppressWarnings({"squid:S1452", "squid:S1166"})
-    Action<?> getFirst() {
-        try {
-            return internalList.get(0);
-        } catch (IndexOutOfBoundsException exception) {
-            throw new NoSuchElementException("Actions list is empty. Nothing to return");
-        }
-    }
+    @SuppressWarnings("squid:S1452")
+    abstract Action<?> getFirst();
 
     /**
      * Informs, whether this actions list stores exactly one action.
      * @return {@code true} if this actions list stores exactly one action; {@code false} otherwise
      */
-    boolean isExactlyOneActionInList() {
-        return internalList.size() == 1;
-    }
+    abstract boolean isExactlyOneActionInList();
+
+    /**
+     * Informs, whether this actions list doesn't store any action.
+     * @return {@code true} if this actions list doesn't store any action; {@code false} otherwise
+     */
+    abstract boolean isEmpty();
 
     /**
      * Removes all {@link Action}s from this actions list.
      * <p>
      * The list will be empty after this call returns.
      */
-    void clear() {
-        internalList.clear();
-    }
+    abstract void clear();
 
     /**
      * Retrieves by reference all instances of {@link Action}s stored in this actions list.
      * @return unmodifiable {@link List} of all instances of {@link Action}s stored in this actions list;
-     *         the returned list isn't the same instance of {@link List} used
-     *         by this actions list internally to store {@link Action}s
+     *         the returned list is a snapshot, i.e. it doesn't reflect changes made to this actions
+     *         list after the call of this method
      */
     @Nonnull
     @SuppressWarnings("squid:S1452")
-    public List<Action<?>> getAll() {
-        return Collections.unmodifiableList(internalList);
-    }
+    public abstract List<Action<?>> getAll();
 
     /**
      * Executes, subsequently and starting from the first one, all {@link Action}s stored in this actions list.
      * <p>
      * Execution is performed by calling an {@link Action#execute()} method of an executed {@link Action}.
      */
-    void executeAll() {
-        internalList.forEach(Action::execute);
-    }
+    abstract void executeAll();
 }
@@ -0,0 +1,234 @@
+package eu.ciechanowiec.conditional;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Short-circuiting combination of {@link BooleanCallable}s (operands), that reorders evaluation
+ * of its operands according to their cost and selectivity observed at runtime.
+ * <p>
+ * Operands are evaluated one by one, until one of them returns a decisive result, i.e. the result
+ * that determines the result of the whole combination ({@code false} for a conjunction and {@code true}
+ * for a disjunction). The order of evaluation minimizes the expected cost of the combination: assuming
+ * that operands are independent, it is minimal if operands are sorted by the ratio of their average cost
+ * to the probability of a decisive result.
+ * <p>
+ * Cost and results are profiled only for randomly sampled evaluations, so that most evaluations
+ * don't pay for time measurement. After every profiled evaluation, operands are checked to be in order,
+ * which doesn't allocate, and are reordered only if they aren't.
+ * Operands that have never been profiled are evaluated first, so every operand gets profiled.
+ */
+final class AdaptiveCondition implements BooleanCallable {
+
+    /**
+     * Evaluations of an {@link AdaptiveCondition}, indexed with {@link BooleanIndex#of(boolean)}
+     * by the information whether a given evaluation should be profiled.
+     */
+    private static final Evaluation[] EVALUATIONS = {Evaluation.PLAIN, Evaluation.PROFILED};
+
+    /**
+     * Result of an operand that determines the result of this condition.
+     */
+    private final boolean decisiveResult;
+
+    /**
+     * One in how many evaluations is profiled.
+     */
+    private final int samplingPeriod;
+
+    /**
+     * Current order of evaluation of operands. The array is never modified, but replaced with a new one.
+     */
+    private volatile Operand[] order;
+
+    /**
+     * Constructs an instance of an {@link AdaptiveCondition}.
+     * @param decisiveResult result of an operand that determines the result of the constructed condition:
+     *                       {@code false} for a conjunction and {@code true} for a disjunction
+     * @param samplingPeriod one in how many evaluations should be profiled
+     * @param operands operands of the constructed condition, in the initial order of evaluation
+     */
+    AdaptiveCondition(boolean decisiveResult, int samplingPeriod, BooleanCallable... operands) {
+        this.decisiveResult = decisiveResult;
+        this.samplingPeriod = samplingPeriod;
+        order = Arrays.stream(operands).map(Operand::new).toArray(Operand[]::new);
+    }
+
+    /**
+     * Evaluates operands of this condition in the current order, until one of them returns
+     * a decisive result.
+     * @return the decisive result if any operand returned it; the opposite one otherwise,
+     *         including the case when there are no operands
+     * @throws Exception if an {@link Exception} during evaluation of an operand was thrown;
+     *         in that case, subsequent operands aren't evaluated
+     */
+    @Override
+    public boolean call() throws Exception {
+        boolean isProfiled = ThreadLocalRandom.current().nextInt(samplingPeriod) == 0;
+        return EVALUATIONS[BooleanIndex.of(isProfiled)].evaluate(this);
+    }
+
+    /**
+     * Returns operands of this condition in the current order of evaluation.
+     * @return operands of this condition in the current order of evaluation
+     */
+    BooleanCallable[] order() {
+        return Arrays.stream(order).map(operand -> operand.condition).toArray(BooleanCallable[]::new);
+    }
+
+    /**
+     * Sorts operands of this condition by the expected cost of finding a decisive result,
+     * unless they are already sorted. In the latter case, nothing is allocated.
+     */
+    private void reorder() {
+        Operand[] currentOrder = order;
+        boolean isSorted = true;
+        double previousRank = Double.NEGATIVE_INFINITY;
+        for (int index = 0; isSorted && index < currentOrder.length; index++) {
+            double rank = currentOrder[index].rank(decisiveResult);
+            isSorted = previousRank <= rank;
+            previousRank = rank;
+        }
+        Conditional.onFalseExecute(isSorted, () -> order = sortedByRank(currentOrder));
+    }
+
+    /**
+     * Returns a copy of the passed operands, sorted by the expected cost of finding a decisive result.
+     * Ranks of operands are computed once upfront, so that the sorting is consistent even if operands
+     * are being profiled concurrently. Operands of equal rank keep their relative order.
+     * @param operands operands to sort
+     * @return sorted copy of the passed operands
+     */
+    private Operand[] sortedByRank(Operand[] operands) {
+        Operand[] sorted = operands.clone();
+        double[] ranks = Arrays.stream(sorted).mapToDouble(operand -> operand.rank(decisiveResult)).toArray();
+        for (int index = 1; index < sorted.length; index++) {
+            Operand operand = sorted[index];
+            double rank = ranks[index];
+            int position = index - 1;
+            while (position >= 0 && ranks[position] > rank) {
+                sorted[position + 1] = sorted[position];
+                ranks[position + 1] = ranks[position];
+                position--;
+            }
+            sorted[position + 1] = operand;
+            ranks[position + 1] = rank;
+        }
+        return sorted;
+    }
+
+    /**
+     * Way in which an {@link AdaptiveCondition} is evaluated.
+     */
+    private enum Evaluation {
+
+        /**
+         * Operands are evaluated without profiling.
+         */
+        PLAIN {
+            @Override
+            boolean evaluate(AdaptiveCondition condition) throws Exception {
+                Operand[] operands = condition.order;
+                boolean isDecided = false;
+                for (int index = 0; !isDecided && index < operands.length; index++) {
+                    isDecided = operands[index].condition.call() == condition.decisiveResult;
+                }
+                return isDecided == condition.decisiveResult;
+            }
+        },
+
+        /**
+         * Cost and results of evaluated operands are recorded, and operands are reordered afterwards.
+         */
+        PROFILED {
+            @Override
+            boolean evaluate(AdaptiveCondition condition) throws Exception {
+                Operand[] operands = condition.order;
+                boolean isDecided = false;
+                for (int index = 0; !isDecided && index < operands.length; index++) {
+                    isDecided = operands[index].callProfiled() == condition.decisiveResult;
+                }
+                condition.reorder();
+                return isDecided == condition.decisiveResult;
+            }
+        };
+
+        /**
+         * Evaluates the passed {@link AdaptiveCondition}.
+         * @param condition {@link AdaptiveCondition} to evaluate
+         * @return result of the passed {@link AdaptiveCondition}
+         * @throws Exception if an {@link Exception} during evaluation of an operand was thrown
+         */
+        abstract boolean evaluate(AdaptiveCondition condition) throws Exception;
+    }
+
+    /**
+     * Operand of an {@link AdaptiveCondition} together with its profile.
+     */
+    private static final class Operand {
+
+        /**
+         * Wrapped {@link BooleanCallable}.
+         */
+        private final BooleanCallable condition;
+
+        /**
+         * Amount of profiled evaluations of this operand.
+         */
+        private final LongAdder evaluations;
+
+        /**
+         * Amount of profiled evaluations of this operand that returned a {@code true} result.
+         */
+        private final LongAdder trueResults;
+
+        /**
+         * Total time of profiled evaluations of this operand, in nanoseconds.
+         */
+        private final LongAdder nanos;
+
+        /**
+         * Constructs an instance of an {@link Operand} without any profiled evaluations.
+         * @param condition wrapped {@link BooleanCallable}
+         */
+        private Operand(BooleanCallable condition) {
+            this.condition = condition;
+            evaluations = new LongAdder();
+            trueResults = new LongAdder();
+            nanos = new LongAdder();
+        }
+
+        /**
+         * Evaluates this operand and records the cost and the result of that evaluation.
+         * @return result of this operand
+         * @throws Exception if an {@link Exception} during evaluation of this operand was thrown
+         */
+        private boolean callProfiled() throws Exception {
+            long start = System.nanoTime();
+            boolean result = condition.call();
+            nanos.add(System.nanoTime() - start);
+            evaluations.increment();
+            trueResults.add(BooleanIndex.of(result));
+            return result;
+        }
+
+        /**
+         * Returns the expected cost of finding a decisive result via this operand, i.e. the ratio of
+         * the average cost of this operand to the probability that it returns a decisive result.
+         * The probability is estimated with Laplace smoothing, so it is never zero. An operand
+         * that has never been profiled has the lowest possible rank.
+         * @param decisiveResult result of this operand that determines the result of a whole condition
+         * @return expected cost of finding a decisive result via this operand
+         */
+        private double rank(boolean decisiveResult) {
+            long evaluated = evaluations.sum();
+            long trueResulted = trueResults.sum();
+            long decisiveResults = BooleanIndex.of(decisiveResult) * trueResulted
+                                   + BooleanIndex.of(!decisiveResult) * (evaluated - trueResulted);
+            double averageCost = (double) nanos.sum() / Math.max(evaluated, 1);
+            double decisiveProbability = (decisiveResults + 1.0) / (evaluated + 2.0);
+            return averageCost / decisiveProbability;
+        }
+    }
+}
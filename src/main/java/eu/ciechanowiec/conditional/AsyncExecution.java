@@ -0,0 +1,47 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Executes tasks asynchronously and reports their results via {@link CompletableFuture}s.
+ */
+@UtilityClass
+class AsyncExecution {
+
+    /**
+     * Submits the passed task to the passed {@link Executor} and returns a {@link CompletableFuture}
+     * that is completed with the result of that task once the task finishes.
+     * <p>
+     * Every {@link Throwable} thrown by the task, including checked {@link Exception}s that are
+     * sneaky-thrown by {@link Action}s, completes the returned {@link CompletableFuture}
+     * exceptionally with that very {@link Throwable} instead of being thrown.
+     * @param task task to execute
+     * @param executor {@link Executor} used to execute the passed task
+     * @param <T> type of value returned in the result of task execution
+     * @return {@link CompletableFuture} completed with the result of the passed task
+     */
+    <T> CompletableFuture<T> supply(Callable<T> task, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> complete(result, task));
+        return result;
+    }
+
+    /**
+     * Executes the passed task and completes the passed {@link CompletableFuture} with its result.
+     * @param result {@link CompletableFuture} to complete
+     * @param task task to execute
+     * @param <T> type of value returned in the result of task execution
+     */
+    @SuppressWarnings({"squid:S1181", "OverlyBroadCatchBlock"})
+    private static <T> void complete(CompletableFuture<T> result, Callable<T> task) {
+        try {
+            result.complete(task.call());
+        } catch (Throwable failure) {
+            result.completeExceptionally(failure);
+        }
+    }
+}
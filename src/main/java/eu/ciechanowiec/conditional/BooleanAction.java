@@ -0,0 +1,55 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link Action} based on a {@link BooleanCallable}, that returns its result
+ * via {@link BooleanAction#getAsBoolean()} without boxing it into {@link Boolean}.
+ * <p>
+ * The result is boxed only if it is retrieved via generic {@code get(...)} methods.
+ */
+class BooleanAction extends Action<Boolean> {
+
+    /**
+     * An underlying {@link BooleanCallable} instance used as an engine of this action.
+     */
+    @Nonnull
+    private final BooleanCallable primitiveEngine;
+
+    /**
+     * Constructs an action based on the passed {@link BooleanCallable}.
+     * @param primitiveEngine entity used for method calls of a constructed action
+     */
+    BooleanAction(@Nonnull BooleanCallable primitiveEngine) {
+        super(primitiveEngine::call);
+        this.primitiveEngine = primitiveEngine;
+    }
+
+    /**
+     * Executes this action without boxing its result.
+     * <p>
+     * For details on the execution see documentation for {@link Action#execute()}.
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public void execute() {
+        primitiveEngine.call();
+    }
+
+    /**
+     * Executes this action and returns a {@code boolean} value produced in the result
+     * of that execution, without boxing it into {@link Boolean}.
+     * @return {@code boolean} value produced in the result of execution of this action
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public boolean getAsBoolean() {
+        return primitiveEngine.call();
+    }
+}
@@ -0,0 +1,23 @@
+package eu.ciechanowiec.conditional;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Functional interface that takes any command, runs it and returns a {@code boolean} result.
+ * <p>
+ * It is a primitive specialization of a {@link Callable}: the result is returned as a primitive
+ * {@code boolean}, so it is never boxed into {@link Boolean}. Like a {@link Callable}, its unary
+ * {@link BooleanCallable#call()} method has an {@link Exception} specified in the method declaration
+ * within a {@code throws...} clause.
+ */
+@FunctionalInterface
+public interface BooleanCallable {
+
+    /**
+     * Takes any command, runs it and returns a {@code boolean} result.
+     * @return {@code boolean} result produced by the run command(s)
+     * @throws Exception if during the run of the passed command(s) an {@link Exception} occurred
+     */
+    @SuppressWarnings("squid:S112")
+    boolean call() throws Exception;
+}
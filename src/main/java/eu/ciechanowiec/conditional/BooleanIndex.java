@@ -0,0 +1,36 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps boolean values onto indices of two-element arrays, so that an element
+ * bound to a given boolean value can be retrieved without branching on that value.
+ */
+@UtilityClass
+class BooleanIndex {
+
+    /**
+     * Index of an element bound to a {@code false} value.
+     */
+    static final int FALSE_INDEX = 0;
+
+    /**
+     * Index of an element bound to a {@code true} value.
+     */
+    static final int TRUE_INDEX = 1;
+
+    /**
+     * Length of a two-element array indexed with this mapping.
+     */
+    static final int LENGTH = 2;
+
+    /**
+     * Returns an index of an element bound to the passed boolean value.
+     * @param value boolean value for which an index should be returned
+     * @return {@link BooleanIndex#TRUE_INDEX} if the passed value is {@code true};
+     *         {@link BooleanIndex#FALSE_INDEX} otherwise
+     */
+    static int of(boolean value) {
+        return Boolean.compare(value, false);
+    }
+}
@@ -0,0 +1,16 @@
+package eu.ciechanowiec.conditional;
+
+/**
+ * Unchecked exception that indicates that an action submitted to a given {@link Conditional}
+ * didn't produce a return value within the specified time budget.
+ */
+public class BudgetExceededException extends RuntimeException {
+
+    /**
+     * Constructs an instance of a {@link BudgetExceededException}.
+     * @param message exception message
+     */
+    BudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,81 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Immutable report on time-budgeted execution of actions via {@link Conditional#executeWithin(Duration)}.
+ * <p>
+ * Every action bound to the value described by a given {@link Conditional} is reported in exactly one
+ * of three lists, in the order of submission: completed actions, an overrunning action (the one
+ * that was running when the budget was spent) and skipped actions (never started, since the budget
+ * had been spent before their turn came).
+ */
+@SuppressWarnings("WeakerAccess")
+public final class BudgetReport {
+
+    private final List<Action<?>> completedActions;
+    private final List<Action<?>> overrunActions;
+    private final List<Action<?>> skippedActions;
+
+    /**
+     * Constructs an instance of a {@link BudgetReport}.
+     * @param completedActions actions that completed within the budget
+     * @param overrunActions actions that were running when the budget was spent
+     * @param skippedActions actions that were never started
+     */
+    BudgetReport(List<Action<?>> completedActions, List<Action<?>> overrunActions,
+                 List<Action<?>> skippedActions) {
+        this.completedActions = List.copyOf(completedActions);
+        this.overrunActions = List.copyOf(overrunActions);
+        this.skippedActions = List.copyOf(skippedActions);
+    }
+
+    /**
+     * Returns actions that completed within the budget ({@link Duration}).
+     * @return unmodifiable {@link List} of actions that completed within the budget
+     */
+    @Nonnull
+    @SuppressWarnings("squid:S1452")
+    public List<Action<?>> completedActions() {
+        return completedActions;
+    }
+
+    /**
+     * Returns actions that were running when the budget ({@link Duration}) was spent and were handled
+     * according to the specified {@link OverrunPolicy}. Since actions are executed subsequently,
+     * there is at most one such action.
+     * @return unmodifiable {@link List} of actions that were running when the budget was spent
+     */
+    @Nonnull
+    @SuppressWarnings("squid:S1452")
+    public List<Action<?>> overrunActions() {
+        return overrunActions;
+    }
+
+    /**
+     * Returns actions that were never started, since the budget ({@link Duration})
+     * had been spent before their turn came.
+     * @return unmodifiable {@link List} of actions that were never started
+     */
+    @Nonnull
+    @SuppressWarnings("squid:S1452")
+    public List<Action<?>> skippedActions() {
+        return skippedActions;
+    }
+
+    /**
+     * Informs whether all actions completed within the budget ({@link Duration}).
+     * @return {@code true} if all actions completed within the budget; {@code false} otherwise
+     */
+    public boolean isWithinBudget() {
+        return overrunActions.isEmpty() && skippedActions.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d completed, %d overrun, %d skipped",
+                             completedActions.size(), overrunActions.size(), skippedActions.size());
+    }
+}
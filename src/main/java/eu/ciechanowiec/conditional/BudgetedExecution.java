@@ -0,0 +1,164 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes {@link Action}s within a time budget ({@link Duration}).
+ * <p>
+ * Every {@link Action} is executed as a separate task of an {@link Executor}, while the calling
+ * thread waits for it at most until the deadline. Therefore, an {@link Action} that overruns
+ * the deadline doesn't block the calling thread and can be interrupted or abandoned.
+ */
+@UtilityClass
+class BudgetedExecution {
+
+    /**
+     * Executes subsequently, starting from the first one, the passed {@link Action}s within the passed budget.
+     * No {@link Action} is started once the budget is spent. An {@link Action} that is still running
+     * when the budget is spent is handled according to the passed {@link OverrunPolicy}.
+     * @param actionsToExecute {@link Action}s to execute
+     * @param budget time budget for execution of all passed {@link Action}s
+     * @param overrunPolicy policy applied to an {@link Action} that is still running when the budget is spent
+     * @param executor {@link Executor} used to execute the passed {@link Action}s
+     * @return report on completed, overrunning and skipped {@link Action}s
+     * @throws Exception if an {@link Exception} during execution of an action was thrown; in that case,
+     *         subsequent {@link Action}s aren't executed
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    BudgetReport execute(List<Action<?>> actionsToExecute, Duration budget,
+                         OverrunPolicy overrunPolicy, Executor executor) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        int startedActions = 0;
+        boolean isLastStartedCompleted = true;
+        while (isLastStartedCompleted && startedActions < actionsToExecute.size() && isBefore(deadline)) {
+            Action<?> action = actionsToExecute.get(startedActions);
+            FutureTask<Void> task = new FutureTask<>(action::execute, null);
+            startedActions++;
+            isLastStartedCompleted = awaitCompletion(task, deadline, overrunPolicy, executor);
+        }
+        int completedActions = startedActions - BooleanIndex.of(!isLastStartedCompleted);
+        return new BudgetReport(
+                actionsToExecute.subList(0, completedActions),
+                actionsToExecute.subList(completedActions, startedActions),
+                actionsToExecute.subList(startedActions, actionsToExecute.size())
+        );
+    }
+
+    /**
+     * Executes the passed {@link Action} within the passed time budget and returns a return value
+     * that is produced in the result of that execution, cast into a specified type. If the budget
+     * isn't positive, the {@link Action} isn't started at all.
+     * @param unaryAction {@link Action} to execute
+     * @param typeToGet {@link Class} representing a type ({@code <T>}) to which the return value will be cast into
+     * @param timeout time budget for execution of the passed {@link Action}
+     * @param overrunPolicy policy applied to the passed {@link Action} if it is still running when the budget is spent
+     * @param executor {@link Executor} used to execute the passed {@link Action}
+     * @param <T> type to which the return value will be cast into
+     * @return return value that is produced in the result of execution of the passed {@link Action}
+     * @throws BudgetExceededException if the passed {@link Action} didn't complete within the budget
+     * @throws Exception if an {@link Exception} during execution of an action was thrown
+     */
+    @SneakyThrows
+    @SuppressWarnings("JavadocDeclaration")
+    <T> T get(Action<?> unaryAction, Class<T> typeToGet, Duration timeout,
+              OverrunPolicy overrunPolicy, Executor executor) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Conditional.isTrueOrThrowLazily(isBefore(deadline), () -> budgetExceeded(timeout));
+        FutureTask<T> task = new FutureTask<>(() -> unaryAction.get(typeToGet));
+        boolean isCompleted = awaitCompletion(task, deadline, overrunPolicy, executor);
+        Conditional.isTrueOrThrowLazily(isCompleted, () -> budgetExceeded(timeout));
+        return task.get();
+    }
+
+    /**
+     * Submits the passed task to the passed {@link Executor} and waits for its completion
+     * at most until the passed deadline.
+     * @param task task to execute
+     * @param deadline deadline, in terms of {@link System#nanoTime()}
+     * @param overrunPolicy policy applied to the task if it is still running at the deadline
+     * @param executor {@link Executor} used to execute the passed task
+     * @return {@code true} if the task completed before the deadline; {@code false} otherwise
+     * @throws Exception if an {@link Exception} during execution of the task was thrown
+     * @throws InterruptedException if the current thread was interrupted while waiting;
+     *         in that case, the task is interrupted as well
+     */
+    @SneakyThrows
+    @SuppressWarnings({"JavadocDeclaration", "squid:S1166"})
+    private boolean awaitCompletion(FutureTask<?> task, long deadline,
+                                    OverrunPolicy overrunPolicy, Executor executor) {
+        executor.execute(task);
+        try {
+            task.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException exception) {
+            return isCompletedDespiteOverrun(task, overrunPolicy);
+        } catch (ExecutionException exception) {
+            throw exception.getCause();
+        } catch (InterruptedException exception) {
+            task.cancel(true);
+            throw exception;
+        }
+    }
+
+    /**
+     * Applies the passed {@link OverrunPolicy} to the passed task, that was still running at the deadline.
+     * Since the task might complete between the deadline and application of the policy, the policy
+     * might find the task already completed; in that case, the task is considered completed.
+     * @param task task that was still running at the deadline
+     * @param overrunPolicy policy applied to the task
+     * @return {@code true} if the task completed before the policy was applied; {@code false} otherwise
+     * @throws Exception if the task completed before the policy was applied, but an {@link Exception}
+     *         during its execution was thrown
+     */
+    @SneakyThrows
+    @SuppressWarnings("JavadocDeclaration")
+    boolean isCompletedDespiteOverrun(FutureTask<?> task, OverrunPolicy overrunPolicy) {
+        boolean isCompleted = !overrunPolicy.handleOverrun(task);
+        Conditional.onTrueExecute(isCompleted, () -> awaitResult(task));
+        return isCompleted;
+    }
+
+    /**
+     * Waits for the result of the passed task, that has already completed or is completing at the moment.
+     * @param task task whose result should be awaited
+     * @throws Exception if an {@link Exception} during execution of the task was thrown
+     */
+    @SneakyThrows
+    @SuppressWarnings("JavadocDeclaration")
+    private void awaitResult(FutureTask<?> task) {
+        try {
+            task.get();
+        } catch (ExecutionException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Informs whether the passed deadline hasn't passed yet.
+     * @param deadline deadline, in terms of {@link System#nanoTime()}
+     * @return {@code true} if the passed deadline hasn't passed yet; {@code false} otherwise
+     */
+    private boolean isBefore(long deadline) {
+        return deadline - System.nanoTime() > 0;
+    }
+
+    /**
+     * Creates an exception that indicates that an action didn't complete within the passed time budget.
+     * @param timeout time budget that was exceeded
+     * @return exception that indicates that an action didn't complete within the passed time budget
+     */
+    private BudgetExceededException budgetExceeded(Duration timeout) {
+        return new BudgetExceededException(
+                String.format("Action didn't produce a return value within %s", timeout)
+        );
+    }
+}
@@ -0,0 +1,439 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Condition, represented by a {@link BooleanCallable}, whose value is cached for a specified time to live
+ * and refreshed ahead of its expiry.
+ * <p>
+ * Depending on the age of the cached value, a read of a {@link CachedCondition}:
+ * <ol>
+ *     <li>returns the cached value, if it is younger than the time to live reduced by the refresh-ahead
+ *     period;</li>
+ *     <li>returns the cached value and starts an asynchronous refresh of that value, if it is within
+ *     the refresh-ahead period before its expiry; therefore, if the condition is read often enough,
+ *     the value is refreshed before it expires;</li>
+ *     <li>returns the cached value as a stale value and starts an asynchronous refresh of that value,
+ *     if it has expired.</li>
+ * </ol>
+ * Therefore, only reads that happen before the value is loaded for the first time wait for a refresh.
+ * At most one refresh is in progress at a time: reads that need a refresh while another one is
+ * in progress don't start a new refresh, but rely on the one in progress. If a refresh fails, the cached
+ * value is kept and is returned as a stale value, while the next refresh is attempted no sooner than after
+ * the refresh-ahead period. A failure is rethrown only if there is no cached value yet.
+ * <p>
+ * Reads that don't wait for a refresh are lock-free: they read the cached value via a single volatile read,
+ * and don't allocate as long as the cached value is younger than the time to live reduced by
+ * the refresh-ahead period.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CachedCondition implements BooleanCallable {
+
+    /**
+     * Freshness of the cached value, indexed with the sum of {@link BooleanIndex#of(boolean)} of the information
+     * whether the value is due for a refresh and of the information whether it has expired.
+     */
+    private static final Freshness[] FRESHNESS_BY_AGE = {Freshness.FRESH, Freshness.DUE, Freshness.EXPIRED};
+
+    /**
+     * {@link Executor} that executes tasks in the calling thread, used by reads that wait for the first load.
+     */
+    private static final Executor CALLING_THREAD = java.lang.Runnable::run;
+
+    /**
+     * Condition whose value is cached.
+     */
+    private final BooleanCallable condition;
+
+    /**
+     * Age in nanoseconds after which the cached value is refreshed ahead of its expiry.
+     */
+    private final long refreshAfterNanos;
+
+    /**
+     * Age in nanoseconds after which the cached value expires.
+     */
+    private final long timeToLiveNanos;
+
+    /**
+     * Time in nanoseconds after a failed refresh, before which no new refresh is started.
+     */
+    private final long retryDelayNanos;
+
+    /**
+     * {@link Executor} used to refresh the cached value.
+     */
+    private final Executor executor;
+
+    /**
+     * Source of the current time in nanoseconds, compatible with {@link System#nanoTime()}.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Currently cached value. The entry is never modified, but replaced with a new one.
+     */
+    private volatile Entry entry;
+
+    /**
+     * The latest refresh of the cached value, which might be still in progress.
+     */
+    private final AtomicReference<Future<Boolean>> latestRefresh;
+
+    /**
+     * Amount of reads that returned a value that hadn't expired.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Amount of reads that returned an expired value.
+     */
+    private final LongAdder staleHits;
+
+    /**
+     * Amount of reads that waited for the first load of the value.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Amount of refreshes that succeeded, including the first load.
+     */
+    private final LongAdder refreshes;
+
+    /**
+     * Amount of refreshes that failed, including failed attempts of the first load.
+     */
+    private final LongAdder failedRefreshes;
+
+    /**
+     * Constructs an instance of a {@link CachedCondition}.
+     * @param condition condition whose value should be cached
+     * @param timeToLive time after which the cached value expires
+     * @param refreshAhead period before the expiry of the cached value in which reads refresh
+     *                     that value asynchronously; also the time after a failed refresh,
+     *                     before which no new refresh is started
+     * @param executor {@link Executor} used to refresh the cached value
+     * @param clock source of the current time in nanoseconds, compatible with {@link System#nanoTime()}
+     * @throws IllegalArgumentException if the passed time to live is negative or if the passed refresh-ahead
+     *         period is negative or longer than the passed time to live
+     */
+    CachedCondition(BooleanCallable condition, Duration timeToLive, Duration refreshAhead,
+                    Executor executor, LongSupplier clock) {
+        Conditional.isTrueOrThrowLazily(
+                !timeToLive.isNegative() && !refreshAhead.isNegative() && refreshAhead.compareTo(timeToLive) <= 0,
+                () -> new IllegalArgumentException(String.format(
+                        "Refresh-ahead period must be between 0 and time to live (%s), but was %s",
+                        timeToLive, refreshAhead
+                )));
+        this.condition = condition;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.retryDelayNanos = refreshAhead.toNanos();
+        this.refreshAfterNanos = timeToLiveNanos - retryDelayNanos;
+        this.executor = executor;
+        this.clock = clock;
+        entry = new AbsentEntry(clock.getAsLong() - timeToLiveNanos);
+        latestRefresh = new AtomicReference<>(CompletableFuture.completedFuture(false));
+        hits = new LongAdder();
+        staleHits = new LongAdder();
+        misses = new LongAdder();
+        refreshes = new LongAdder();
+        failedRefreshes = new LongAdder();
+    }
+
+    /**
+     * Returns the cached value of the condition, starting its refresh if needed.
+     * @return the cached value of the condition, which might be stale if it has expired
+     * @throws Exception if there is no cached value yet and an {@link Exception} during evaluation
+     *         of the condition was thrown
+     */
+    @Override
+    public boolean call() throws Exception {
+        Entry currentEntry = entry;
+        long now = clock.getAsLong();
+        long age = now - currentEntry.loadedAt;
+        int freshnessIndex = BooleanIndex.of(age >= refreshAfterNanos) + BooleanIndex.of(age >= timeToLiveNanos);
+        return FRESHNESS_BY_AGE[freshnessIndex].read(this, currentEntry, now);
+    }
+
+    /**
+     * Returns the amount of reads that returned a cached value that hadn't expired.
+     * @return amount of reads that returned a cached value that hadn't expired
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the amount of reads that returned a cached value that had expired,
+     * since it hadn't been refreshed in time.
+     * @return amount of reads that returned a cached value that had expired
+     */
+    public long staleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * Returns the amount of reads that waited for the first load of the value.
+     * @return amount of reads that waited for the first load of the value
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the amount of refreshes of the cached value that succeeded, including the first load.
+     * @return amount of refreshes of the cached value that succeeded
+     */
+    public long refreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the amount of refreshes of the cached value that failed, including failed attempts
+     * of the first load.
+     * @return amount of refreshes of the cached value that failed
+     */
+    public long failedRefreshes() {
+        return failedRefreshes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d stale hits, %d misses, %d refreshes, %d failed refreshes",
+                             hits(), staleHits(), misses(), refreshes(), failedRefreshes());
+    }
+
+    /**
+     * Returns the refresh of the cached value that is in progress. If no refresh is in progress and
+     * a refresh is allowed, starts a new one on the passed {@link Executor}.
+     * @param refreshExecutor {@link Executor} used to perform a new refresh
+     * @param isAllowed {@code true} if a new refresh is allowed; {@code false} otherwise
+     * @return refresh of the cached value that is in progress or has finished most recently
+     */
+    private Future<Boolean> refresh(Executor refreshExecutor, boolean isAllowed) {
+        Future<Boolean> previousRefresh = latestRefresh.get();
+        Conditional.onTrueExecute(isAllowed && previousRefresh.isDone(), () -> {
+            Refresh newRefresh = new Refresh();
+            Conditional.onTrueExecute(latestRefresh.compareAndSet(previousRefresh, newRefresh),
+                                      () -> newRefresh.submitTo(refreshExecutor));
+        });
+        return latestRefresh.get();
+    }
+
+    /**
+     * Returns the passed cached value and starts its refresh in the background,
+     * unless a failed refresh was attempted too recently.
+     * @param currentEntry entry that should be refreshed
+     * @param now current time in nanoseconds
+     * @return the value of the passed entry
+     */
+    private boolean refreshInBackground(Entry currentEntry, long now) {
+        refresh(executor, now - currentEntry.retryAt >= 0);
+        return currentEntry.value;
+    }
+
+    /**
+     * Freshness of the cached value, which determines how the value is read.
+     */
+    private enum Freshness {
+
+        /**
+         * The value is younger than the time to live reduced by the refresh-ahead period.
+         */
+        FRESH {
+            @Override
+            boolean read(CachedCondition cache, Entry currentEntry, long now) {
+                cache.hits.increment();
+                return currentEntry.value;
+            }
+        },
+
+        /**
+         * The value is within the refresh-ahead period before its expiry.
+         */
+        DUE {
+            @Override
+            boolean read(CachedCondition cache, Entry currentEntry, long now) {
+                cache.hits.increment();
+                return cache.refreshInBackground(currentEntry, now);
+            }
+        },
+
+        /**
+         * The value has expired or hasn't been loaded yet.
+         */
+        EXPIRED {
+            @Override
+            boolean read(CachedCondition cache, Entry currentEntry, long now) {
+                return currentEntry.readExpired(cache, now);
+            }
+        };
+
+        /**
+         * Reads the value of the passed {@link CachedCondition}.
+         * @param cache {@link CachedCondition} whose value should be read
+         * @param currentEntry entry currently cached by the passed {@link CachedCondition}
+         * @param now current time in nanoseconds
+         * @return value of the passed {@link CachedCondition}
+         */
+        abstract boolean read(CachedCondition cache, Entry currentEntry, long now);
+    }
+
+    /**
+     * Immutable cached value along with the moment when it was loaded.
+     */
+    private static class Entry {
+
+        /**
+         * Cached value of the condition.
+         */
+        private final boolean value;
+
+        /**
+         * Moment when the value was loaded, in terms of the clock of the enclosing {@link CachedCondition}.
+         */
+        private final long loadedAt;
+
+        /**
+         * Moment before which no refresh of the value is started, in terms of the clock
+         * of the enclosing {@link CachedCondition}.
+         */
+        private final long retryAt;
+
+        /**
+         * Constructs an instance of an {@link Entry}.
+         * @param value cached value
+         * @param loadedAt moment when the value was loaded
+         * @param retryAt moment before which no refresh of the value is started
+         */
+        private Entry(boolean value, long loadedAt, long retryAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.retryAt = retryAt;
+        }
+
+        /**
+         * Reads the value of this entry after it has expired: returns it as a stale value
+         * and starts its refresh in the background.
+         * @param cache {@link CachedCondition} that caches this entry
+         * @param now current time in nanoseconds
+         * @return the value of this entry
+         */
+        boolean readExpired(CachedCondition cache, long now) {
+            cache.staleHits.increment();
+            return cache.refreshInBackground(this, now);
+        }
+
+        /**
+         * Returns an entry that replaces this one after a failed refresh.
+         * @param retryAt moment before which no new refresh should be started
+         * @return entry with the value of this entry and the passed moment of the next refresh
+         */
+        Entry failed(long retryAt) {
+            return new Entry(value, loadedAt, retryAt);
+        }
+    }
+
+    /**
+     * Entry that doesn't hold any value, since the value hasn't been loaded yet.
+     */
+    private static final class AbsentEntry extends Entry {
+
+        /**
+         * Constructs an instance of an {@link AbsentEntry}.
+         * @param expiredAt moment at which the constructed entry is already expired
+         */
+        private AbsentEntry(long expiredAt) {
+            super(false, expiredAt, expiredAt);
+        }
+
+        /**
+         * Loads the value in the calling thread, or waits for the load already in progress.
+         * @param cache {@link CachedCondition} that caches this entry
+         * @param now current time in nanoseconds
+         * @return loaded value
+         * @throws Exception if an {@link Exception} during evaluation of the condition was thrown
+         */
+        @Override
+        @SneakyThrows
+        @SuppressWarnings("JavadocDeclaration")
+        boolean readExpired(CachedCondition cache, long now) {
+            cache.misses.increment();
+            try {
+                return cache.refresh(CALLING_THREAD, true).get();
+            } catch (ExecutionException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        /**
+         * Returns this entry, so that the next read attempts to load the value again.
+         * @param retryAt ignored
+         * @return this entry
+         */
+        @Override
+        Entry failed(long retryAt) {
+            return this;
+        }
+    }
+
+    /**
+     * Single refresh of the cached value of the enclosing {@link CachedCondition}.
+     */
+    private final class Refresh extends FutureTask<Boolean> {
+
+        /**
+         * Constructs a refresh of the cached value of the enclosing {@link CachedCondition}.
+         */
+        private Refresh() {
+            super(condition::call);
+        }
+
+        /**
+         * Submits this refresh to the passed {@link Executor}. If the {@link Executor} rejects
+         * this refresh, the rejection is handled as a failure of this refresh.
+         * @param refreshExecutor {@link Executor} to which this refresh should be submitted
+         */
+        private void submitTo(Executor refreshExecutor) {
+            try {
+                refreshExecutor.execute(this);
+            } catch (RejectedExecutionException exception) {
+                setException(exception);
+            }
+        }
+
+        /**
+         * Caches the passed refreshed value and completes this refresh with that value.
+         * @param refreshedValue refreshed value
+         */
+        @Override
+        protected void set(Boolean refreshedValue) {
+            long now = clock.getAsLong();
+            entry = new Entry(refreshedValue, now, now);
+            refreshes.increment();
+            super.set(refreshedValue);
+        }
+
+        /**
+         * Keeps the cached value, postpones the next refresh and completes this refresh exceptionally.
+         * @param failure {@link Throwable} thrown by the condition
+         */
+        @Override
+        protected void setException(Throwable failure) {
+            entry = entry.failed(clock.getAsLong() + retryDelayNanos);
+            failedRefreshes.increment();
+            super.setException(failure);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe and lock-free {@link ActionsList}, used by concurrent {@link Conditional}s.
+ * <p>
+ * {@link Action}s are stored in an immutable array, which is replaced with a new one on every
+ * modification (copy-on-write). The replacement is performed via a compare-and-set operation,
+ * so concurrent submissions never block each other and are never lost. All read operations work
+ * on a snapshot of the array taken at their start, hence they are consistent and aren't affected
+ * by modifications performed during them, e.g. during execution of stored {@link Action}s.
+ * <p>
+ * Since every submission copies the array, this actions list is meant for rarely
+ * modified and frequently executed {@link Action}s, e.g. startup and shutdown hooks.
+ */
+class ConcurrentActionsList extends ActionsList {
+
+    /**
+     * Array without any {@link Action}s.
+     */
+    private static final Action<?>[] NO_ACTIONS = new Action<?>[0];
+
+    /**
+     * Current immutable snapshot of {@link Action}s stored in this actions list.
+     */
+    private final AtomicReference<Action<?>[]> snapshot;
+
+    /**
+     * Constructs an instance of a {@link ConcurrentActionsList}.
+     */
+    ConcurrentActionsList() {
+        snapshot = new AtomicReference<>(NO_ACTIONS);
+    }
+
+    /**
+     * Adds the passed {@link Action} to this actions list without locking.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param actionToAdd {@link Action} to add to this actions list
+     * @param <T> type of value returned in the result of submitted action execution
+     */
+    @Override
+    <T> void add(Action<T> actionToAdd) {
+        Action<?>[] currentActions;
+        Action<?>[] extendedActions;
+        do {
+            currentActions = snapshot.get();
+            extendedActions = Arrays.copyOf(currentActions, currentActions.length + 1);
+            extendedActions[currentActions.length] = actionToAdd;
+        } while (!snapshot.compareAndSet(currentActions, extendedActions));
+    }
+
+    /**
+     * Retrieves, but does not remove, the first {@link Action} from the current snapshot of this actions list.
+     * @return the first element of this actions list
+     * @throws NoSuchElementException if this actions list is empty
+     */
+    @Override
+    Action<?> getFirst() {
+        try {
+            return snapshot.get()[0];
+        } catch (ArrayIndexOutOfBoundsException exception) {
+            throw new NoSuchElementException("Actions list is empty. Nothing to return");
+        }
+    }
+
+    /**
+     * Informs, whether the current snapshot of this actions list stores exactly one action.
+     * @return {@code true} if this actions list stores exactly one action; {@code false} otherwise
+     */
+    @Override
+    boolean isExactlyOneActionInList() {
+        return snapshot.get().length == 1;
+    }
+
+    /**
+     * Informs, whether the current snapshot of this actions list doesn't store any action.
+     * @return {@code true} if this actions list doesn't store any action; {@code false} otherwise
+     */
+    @Override
+    boolean isEmpty() {
+        return snapshot.get().length == 0;
+    }
+
+    /**
+     * Atomically removes all {@link Action}s from this actions list.
+     * <p>
+     * Executions that have already started aren't affected.
+     */
+    @Override
+    void clear() {
+        snapshot.set(NO_ACTIONS);
+    }
+
+    /**
+     * Retrieves by reference all instances of {@link Action}s stored in the current snapshot of this actions list.
+     * @return unmodifiable {@link List} of all instances of {@link Action}s stored in this actions list;
+     *         the returned list is a snapshot, i.e. it doesn't reflect changes made to this actions
+     *         list after the call of this method
+     */
+    @Nonnull
+    @Override
+    public List<Action<?>> getAll() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.get()));
+    }
+
+    /**
+     * Executes, subsequently and starting from the first one, all {@link Action}s stored
+     * in the snapshot of this actions list taken at the start of this method call.
+     * <p>
+     * {@link Action}s submitted during execution aren't executed by this call.
+     */
+    @Override
+    void executeAll() {
+        Action<?>[] actionsToExecute = snapshot.get();
+        for (Action<?> action : actionsToExecute) {
+            action.execute();
+        }
+    }
+}
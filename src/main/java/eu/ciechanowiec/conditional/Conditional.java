@@ -4,10 +4,14 @@ import lombok.SneakyThrows;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.stream.IntStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -67,8 +71,44 @@ import static java.lang.Boolean.TRUE;
 @SuppressWarnings({"WeakerAccess", "UnusedReturnValue", "ClassWithTooManyMethods"})
 public final class Conditional {
 
-    private final boolean describedValue;
-    private final Map<Boolean, ActionsList> actionsMap;
+    /**
+     * Stateless executors used by static execution operations, indexed via {@link BooleanIndex}.
+     * Shared between all calls, so that static execution operations don't allocate.
+     */
+    private static final RunnableExecutor[] RUNNABLE_EXECUTORS = {
+            new RunnableExecutorVoid(), new RunnableExecutorActive()
+    };
+
+    /**
+     * Stateless exception throwers used by assertion operations, indexed via {@link BooleanIndex}.
+     * Shared between all calls, so that assertion operations don't allocate.
+     */
+    private static final ExceptionThrower[] EXCEPTION_THROWERS = {
+            new ExceptionThrowerVoid(), new ExceptionThrowerActive()
+    };
+
+    /**
+     * {@link ActionsList} shared by all pruned conditionals for the value opposite to the described one.
+     */
+    private static final ActionsList DISCARDING_ACTIONS = new DiscardingActionsList();
+
+    /**
+     * Message of an {@link UndeterminedReturnValueException} thrown by {@code get(...)} methods.
+     */
+    private static final String UNDETERMINED_RETURN_VALUE_MESSAGE =
+            "To use a get(...) method for a given Conditional, exactly one " +
+            "action must be submitted. This condition hasn't been met";
+
+    /**
+     * Value described by this conditional, either known upfront or evaluated lazily.
+     */
+    private final DescribedValue describedValue;
+
+    /**
+     * {@link ActionsList}s of this conditional, indexed with {@link BooleanIndex#of(boolean)}
+     * by the value to which {@link Action}s stored in a given {@link ActionsList} are bound.
+     */
+    private final ActionsList[] actionsByValue;
 
 //  <!-- ====================================================================== -->
 //  <!--        CREATION                                                        -->
@@ -81,10 +121,33 @@ public final class Conditional {
      * @param describedValue value described by the created conditional
      */
     private Conditional(boolean describedValue) {
+        this(describedValue, new InlineActionsList(), new InlineActionsList());
+    }
+
+    /**
+     * Constructs an instance of a {@link Conditional} that describes the passed
+     * boolean value ({@code true} or {@code false}) and stores submitted actions
+     * in the passed {@link ActionsList}s.
+     * @param describedValue value described by the created conditional
+     * @param actionsForDescribedValue {@link ActionsList} for actions bound to the described value
+     * @param actionsForOppositeValue {@link ActionsList} for actions bound to the opposite value
+     */
+    private Conditional(boolean describedValue, ActionsList actionsForDescribedValue,
+                        ActionsList actionsForOppositeValue) {
+        this.describedValue = DescribedValue.known(describedValue);
+        actionsByValue = new ActionsList[BooleanIndex.LENGTH];
+        actionsByValue[BooleanIndex.of(describedValue)] = actionsForDescribedValue;
+        actionsByValue[BooleanIndex.of(!describedValue)] = actionsForOppositeValue;
+    }
+
+    /**
+     * Constructs an instance of a {@link Conditional} that describes the passed value,
+     * which might be evaluated lazily.
+     * @param describedValue value described by the created conditional
+     */
+    private Conditional(DescribedValue describedValue) {
         this.describedValue = describedValue;
-        actionsMap = new HashMap<>();
-        actionsMap.put(TRUE, new ActionsList());
-        actionsMap.put(FALSE, new ActionsList());
+        actionsByValue = new ActionsList[]{new InlineActionsList(), new InlineActionsList()};
     }
 
     /**
@@ -99,6 +162,119 @@ public final class Conditional {
         return new Conditional(describedValue);
     }
 
+    /**
+     * Returns a new instance of a lazy {@link Conditional} that describes a boolean value
+     * ({@code true} or {@code false}) returned by the passed {@link BooleanCallable}.
+     * <p>
+     * A lazy conditional behaves like the one returned by {@link Conditional#conditional(boolean)},
+     * except that the described value is evaluated at most once, when it is needed for the first time:
+     * <ol>
+     *     <li>the value is evaluated upon the first call of an {@code execute(...)}, {@code get(...)},
+     *     {@link Conditional#describedValue()}, {@link Conditional#isTrue()} or {@link Conditional#isFalse()}
+     *     method, and is reused by all subsequent calls;</li>
+     *     <li>if no actions are submitted to the conditional at the moment of an {@code execute(...)}
+     *     or {@code get(...)} method call, the value isn't evaluated at all, since it wouldn't affect
+     *     the result of that call;</li>
+     *     <li>if an {@link Exception} during evaluation of the value is thrown, it is rethrown by
+     *     the triggering call and by all subsequent calls that need the value.</li>
+     * </ol>
+     * A lazy conditional can be shared between threads, provided that actions aren't submitted concurrently:
+     * if many threads need the value at once, only one of them evaluates it, while the others wait until
+     * that evaluation finishes and see its result.
+     * <p>
+     * Example:<pre>{@code
+     * conditional(() -> cache.contains(key))
+     *         .onTrue(() -> refresh(key))
+     *         .execute();
+     * }</pre>
+     * @param condition entity that evaluates the value that will be described by the created conditional
+     * @return new instance of a lazy conditional that describes the value returned by the passed
+     *         {@link BooleanCallable}
+     */
+    @Nonnull
+    public static Conditional conditional(@Nonnull BooleanCallable condition) {
+        return new Conditional(DescribedValue.lazy(condition));
+    }
+
+    /**
+     * Returns a new instance of a pruned {@link Conditional} that describes the passed
+     * boolean value ({@code true} or {@code false}). That value is final
+     * and cannot be changed in conventional way.
+     * <p>
+     * A pruned conditional behaves like the one returned by {@link Conditional#conditional(boolean)},
+     * except that actions bound to the value opposite to the described one are discarded
+     * immediately upon submission, since they can never be executed. Submitted {@link Callable}s
+     * and {@link Runnable}s bound to the opposite value aren't even wrapped into an {@link Action}.
+     * Therefore, an {@link ActionsList} for the opposite value, retrieved via
+     * {@link Conditional#actionsOnTrue()} or {@link Conditional#actionsOnFalse()},
+     * is always empty.
+     * @param describedValue value that will be described by the created conditional
+     * @return new instance of a pruned conditional that describes the passed boolean value
+     */
+    @Nonnull
+    public static Conditional pruned(boolean describedValue) {
+        return new Conditional(describedValue, new InlineActionsList(), DISCARDING_ACTIONS);
+    }
+
+    /**
+     * Returns a new instance of a concurrent {@link Conditional} that describes the passed
+     * boolean value ({@code true} or {@code false}). That value is final
+     * and cannot be changed in conventional way.
+     * <p>
+     * A concurrent conditional behaves like the one returned by {@link Conditional#conditional(boolean)},
+     * but can be shared between threads without external synchronization:
+     * <ol>
+     *     <li>actions can be submitted concurrently; submission is lock-free and no submitted action is lost;</li>
+     *     <li>{@code execute(...)} methods execute a snapshot of actions taken at the start of execution,
+     *     so actions submitted or discarded during execution don't affect it;</li>
+     *     <li>{@code discardActionsOn...()} methods atomically remove all actions bound to a given value.</li>
+     * </ol>
+     * Every submission copies the stored actions, so a concurrent conditional is meant for actions that
+     * are submitted rarely and executed often. Note that {@code get(...)} methods check the amount of
+     * actions and retrieve the unary action in two separate steps, so they should be used only if actions
+     * bound to the described value aren't modified at the same time.
+     * @param describedValue value that will be described by the created conditional
+     * @return new instance of a concurrent conditional that describes the passed boolean value
+     */
+    @Nonnull
+    public static Conditional concurrent(boolean describedValue) {
+        return new Conditional(describedValue, new ConcurrentActionsList(), new ConcurrentActionsList());
+    }
+
+    /**
+     * Returns a new instance of a {@link TypedConditional} that describes the passed
+     * boolean value ({@code true} or {@code false}) and accepts only actions returning
+     * values of type {@code <T>}. That boolean value is final and cannot be changed in conventional way.
+     * <p>
+     * Contrary to {@link Conditional#get(Class)}, a {@link TypedConditional#get()} method of the
+     * returned typed conditional requires neither a {@link Class} token nor a runtime cast.
+     * The type of a return value can be specified via a type witness, e.g.
+     * {@code Conditional.<String>returning(true)}.
+     * @param describedValue value that will be described by the created typed conditional
+     * @param <T> type of values returned in the result of execution of submitted actions
+     * @return new instance of a typed conditional that describes the passed boolean value
+     */
+    @Nonnull
+    public static <T> TypedConditional<T> returning(boolean describedValue) {
+        return new TypedConditional<>(describedValue);
+    }
+
+    /**
+     * Returns a new instance of a {@link Router} without any submitted sinks, that routes elements,
+     * e.g. of a stream, according to the result of the passed predicate tested against every element.
+     * <p>
+     * Contrary to creating a {@link Conditional} for every element, routing doesn't allocate any memory.
+     * The type of routed elements can be specified via a type witness, e.g.
+     * {@code Conditional.<String>router(String::isEmpty)}.
+     * @param predicate predicate tested against every routed element
+     * @param <T> type of routed elements
+     * @return new instance of a router without any submitted sinks
+     */
+    @Nonnull
+    public static <T> Router<T> router(@Nonnull Predicate<? super T> predicate) {
+        return Router.of(predicate);
+    }
+
 //  <!-- ====================================================================== -->
 //  <!--        RETRIEVING DATA                                                 -->
 //  <!-- ====================================================================== -->
@@ -109,7 +285,7 @@ public final class Conditional {
      */
     @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
     public boolean describedValue() {
-        return describedValue;
+        return describedValue.get();
     }
 
     /**
@@ -118,7 +294,7 @@ public final class Conditional {
      *         {@code false} otherwise
      */
     public boolean isTrue() {
-        return describedValue == TRUE;
+        return describedValue.get() == TRUE;
     }
 
     /**
@@ -127,29 +303,35 @@ public final class Conditional {
      *         {@code false} otherwise
      */
     public boolean isFalse() {
-        return describedValue == FALSE;
+        return describedValue.get() == FALSE;
     }
 
     /**
      * Retrieves by reference an {@link ActionsList} that stores all actions
      * submitted to this conditional and bound to a {@code true} value.
+     * <p>
+     * If this conditional is pruned (see {@link Conditional#pruned(boolean)}) and describes
+     * a {@code false} value, the retrieved {@link ActionsList} is always empty.
      * @return {@link ActionsList} (by reference) that stores all actions
      *          submitted to this conditional and bound to a {@code true} value
      */
     @Nonnull
     public ActionsList actionsOnTrue() {
-        return actionsMap.get(TRUE);
+        return actionsFor(TRUE);
     }
 
     /**
      * Retrieves by reference an {@link ActionsList} that stores all actions
      * submitted to this conditional and bound to a {@code false} value.
+     * <p>
+     * If this conditional is pruned (see {@link Conditional#pruned(boolean)}) and describes
+     * a {@code true} value, the retrieved {@link ActionsList} is always empty.
      * @return {@link ActionsList} (by reference) that stores all actions
      *         submitted to this conditional and bound to a {@code false} value
      */
     @Nonnull
     public ActionsList actionsOnFalse() {
-        return actionsMap.get(FALSE);
+        return actionsFor(FALSE);
     }
 
 //  <!-- ====================================================================== -->
@@ -168,8 +350,8 @@ public final class Conditional {
      */
     @Nonnull
     public <T> Conditional onTrue(@Nonnull Callable<T> actionOnTrue) {
-        Action<T> actionOnTrueWrapped = new Action<>(actionOnTrue);
-        addToActions(actionOnTrueWrapped, TRUE);
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
         return this;
     }
 
@@ -184,8 +366,8 @@ public final class Conditional {
      */
     @Nonnull
     public Conditional onTrue(@Nonnull Runnable actionOnTrue) {
-        Action<?> actionOnTrueWrapped = new Action<>(actionOnTrue);
-        addToActions(actionOnTrueWrapped, TRUE);
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
         return this;
     }
 
@@ -213,8 +395,8 @@ public final class Conditional {
      */
     @Nonnull
     public <T> Conditional onFalse(@Nonnull Callable<T> actionOnFalse) {
-        Action<T> actionOnFalseWrapped = new Action<>(actionOnFalse);
-        addToActions(actionOnFalseWrapped, FALSE);
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
         return this;
     }
 
@@ -229,8 +411,8 @@ public final class Conditional {
      */
     @Nonnull
     public Conditional onFalse(@Nonnull Runnable actionOnFalse) {
-        Action<?> actionOnFalseWrapped = new Action<>(actionOnFalse);
-        addToActions(actionOnFalseWrapped, FALSE);
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
         return this;
     }
 
@@ -246,6 +428,142 @@ public final class Conditional {
         return this;
     }
 
+    /**
+     * Submits an action that returns an {@code int} to this conditional and bounds it to a {@code true} value.
+     * <p>
+     * The submitted {@link IntCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsInt()} method returns the result without boxing it into {@link Integer}.
+     * Combined with {@link Conditional#getAsInt()}, it allows to retrieve an {@code int}
+     * value from this conditional without any boxing.
+     * @param actionOnTrue action that should be submitted to this conditional and bound to a {@code true} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onTrueInt(@Nonnull IntCallable actionOnTrue) {
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns an {@code int} to this conditional and bounds it to a {@code false} value.
+     * <p>
+     * The submitted {@link IntCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsInt()} method returns the result without boxing it into {@link Integer}.
+     * Combined with {@link Conditional#getAsInt()}, it allows to retrieve an {@code int}
+     * value from this conditional without any boxing.
+     * @param actionOnFalse action that should be submitted to this conditional and bound to a {@code false} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onFalseInt(@Nonnull IntCallable actionOnFalse) {
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns a {@code long} to this conditional and bounds it to a {@code true} value.
+     * <p>
+     * The submitted {@link LongCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsLong()} method returns the result without boxing it into {@link Long}.
+     * Combined with {@link Conditional#getAsLong()}, it allows to retrieve a {@code long}
+     * value from this conditional without any boxing.
+     * @param actionOnTrue action that should be submitted to this conditional and bound to a {@code true} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onTrueLong(@Nonnull LongCallable actionOnTrue) {
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns a {@code long} to this conditional and bounds it to a {@code false} value.
+     * <p>
+     * The submitted {@link LongCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsLong()} method returns the result without boxing it into {@link Long}.
+     * Combined with {@link Conditional#getAsLong()}, it allows to retrieve a {@code long}
+     * value from this conditional without any boxing.
+     * @param actionOnFalse action that should be submitted to this conditional and bound to a {@code false} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onFalseLong(@Nonnull LongCallable actionOnFalse) {
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns a {@code double} to this conditional and bounds it to a {@code true} value.
+     * <p>
+     * The submitted {@link DoubleCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsDouble()} method returns the result without boxing it into {@link Double}.
+     * Combined with {@link Conditional#getAsDouble()}, it allows to retrieve a {@code double}
+     * value from this conditional without any boxing.
+     * @param actionOnTrue action that should be submitted to this conditional and bound to a {@code true} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onTrueDouble(@Nonnull DoubleCallable actionOnTrue) {
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns a {@code double} to this conditional and bounds it to a {@code false} value.
+     * <p>
+     * The submitted {@link DoubleCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsDouble()} method returns the result without boxing it into {@link Double}.
+     * Combined with {@link Conditional#getAsDouble()}, it allows to retrieve a {@code double}
+     * value from this conditional without any boxing.
+     * @param actionOnFalse action that should be submitted to this conditional and bound to a {@code false} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onFalseDouble(@Nonnull DoubleCallable actionOnFalse) {
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns a {@code boolean} to this conditional and bounds it to a {@code true} value.
+     * <p>
+     * The submitted {@link BooleanCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsBoolean()} method returns the result without boxing it into {@link Boolean}.
+     * Combined with {@link Conditional#getAsBoolean()}, it allows to retrieve a {@code boolean}
+     * value from this conditional without any boxing.
+     * @param actionOnTrue action that should be submitted to this conditional and bound to a {@code true} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onTrueBoolean(@Nonnull BooleanCallable actionOnTrue) {
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
+        return this;
+    }
+
+    /**
+     * Submits an action that returns a {@code boolean} to this conditional and bounds it to a {@code false} value.
+     * <p>
+     * The submitted {@link BooleanCallable} is wrapped into an instance of an {@link Action}, whose
+     * {@link Action#getAsBoolean()} method returns the result without boxing it into {@link Boolean}.
+     * Combined with {@link Conditional#getAsBoolean()}, it allows to retrieve a {@code boolean}
+     * value from this conditional without any boxing.
+     * @param actionOnFalse action that should be submitted to this conditional and bound to a {@code false} value
+     * @return this conditional after submitting an action
+     */
+    @Nonnull
+    public Conditional onFalseBoolean(@Nonnull BooleanCallable actionOnFalse) {
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
+        return this;
+    }
+
     /**
      * Submits an action to this conditional and bounds it to a specified value.
      * @param actionToAdd action that should be submitted to this conditional and bound to a specified value
@@ -253,8 +571,33 @@ public final class Conditional {
      * @param <T> type of value returned in the result of submitted action execution
      */
     private <T> void addToActions(Action<T> actionToAdd, boolean valueToWhichActionMustBeBoundTo) {
-        ActionsList actionsOnTrue = actionsMap.get(valueToWhichActionMustBeBoundTo);
-        actionsOnTrue.add(actionToAdd);
+        ActionsList actionsForValue = actionsFor(valueToWhichActionMustBeBoundTo);
+        actionsForValue.add(actionToAdd);
+    }
+
+    /**
+     * Retrieves by reference an {@link ActionsList} that stores all actions
+     * submitted to this conditional and bound to the passed value.
+     * @param boundValue value to which actions stored in the retrieved {@link ActionsList} are bound
+     * @return {@link ActionsList} (by reference) that stores all actions
+     *         submitted to this conditional and bound to the passed value
+     */
+    private ActionsList actionsFor(boolean boundValue) {
+        return actionsByValue[BooleanIndex.of(boundValue)];
+    }
+
+    /**
+     * Retrieves by reference an {@link ActionsList} that stores all actions
+     * submitted to this conditional and bound to the value described by this conditional.
+     * <p>
+     * If no actions are submitted to this conditional, the described value isn't evaluated, since
+     * both {@link ActionsList}s are empty, and the one bound to a {@code false} value is retrieved.
+     * @return {@link ActionsList} (by reference) that stores all actions
+     *         submitted to this conditional and bound to the value described by this conditional
+     */
+    private ActionsList actionsForDescribedValue() {
+        boolean hasActions = !actionsFor(TRUE).isEmpty() || !actionsFor(FALSE).isEmpty();
+        return actionsFor(hasActions && describedValue.get());
     }
 
 //  <!-- ====================================================================== -->
@@ -285,7 +628,7 @@ public final class Conditional {
     @Nonnull
     @SuppressWarnings("JavadocDeclaration")
     public Conditional execute() {
-        ActionsList actionsForDescribedValue = actionsMap.get(describedValue);
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
         actionsForDescribedValue.executeAll();
         return this;
     }
@@ -310,8 +653,10 @@ public final class Conditional {
     @Nonnull
     @SuppressWarnings("JavadocDeclaration")
     public Conditional execute(int cyclesToExecute) {
-        ActionsList actionsForDescribedValue = actionsMap.get(describedValue);
-        IntStream.range(0, cyclesToExecute).forEach(index -> actionsForDescribedValue.executeAll());
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
+        for (int cycle = 0; cycle < cyclesToExecute; cycle++) {
+            actionsForDescribedValue.executeAll();
+        }
         return this;
     }
 
@@ -579,6 +924,451 @@ public final class Conditional {
         return this;
     }
 
+//  <!-- ====================================================================== -->
+//  <!--        EXECUTION OPERATIONS - PARALLEL                                 -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Executes in parallel all submitted actions, bound to the value described by this conditional,
+     * and waits until all of them finish.
+     * <p>
+     * Execution is performed via a dedicated {@link ForkJoinPool}, shared by all conditionals. The pool
+     * isn't limited to the amount of processors, so that blocking actions (e.g. performing I/O) don't
+     * starve each other. Apart from that, this method behaves the same way as
+     * {@link Conditional#executeParallel(Executor)}.
+     * @return this conditional after this method call
+     * @throws ParallelExecutionException if at least one action failed; all {@link Throwable}s thrown
+     *         by failed actions are attached to it as suppressed exceptions
+     */
+    @Nonnull
+    public Conditional executeParallel() {
+        return executeParallel(ParallelExecution.DEFAULT_POOL);
+    }
+
+    /**
+     * Executes in parallel via the passed {@link Executor} all submitted actions,
+     * bound to the value described by this conditional, and waits until all of them finish.
+     * <ol>
+     *     <li>Every action is executed as a separate task of the passed {@link Executor}, via calling an
+     *     {@link Action#execute()} method of that action. Therefore, the order of execution isn't
+     *     determined and actions should be independent of each other.</li>
+     *     <li>This method returns only after all actions finished, regardless of whether
+     *     some of them failed. If at least one action failed, a {@link ParallelExecutionException}
+     *     is thrown, to which all {@link Throwable}s thrown by failed actions are attached
+     *     as suppressed exceptions, in the order in which the failed actions were submitted.</li>
+     *     <li>If the passed {@link Executor} rejects an action, that action is considered failed,
+     *     with a {@link java.util.concurrent.RejectedExecutionException} as its {@link Throwable}.</li>
+     *     <li>If there are no submitted actions, bound to the value described
+     *     by this conditional, then nothing happens: no action is executed,
+     *     no exception is thrown.</li>
+     * </ol>
+     * @param executor {@link Executor} used to execute actions
+     * @return this conditional after this method call
+     * @throws ParallelExecutionException if at least one action failed; all {@link Throwable}s thrown
+     *         by failed actions are attached to it as suppressed exceptions
+     */
+    @Nonnull
+    public Conditional executeParallel(@Nonnull Executor executor) {
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
+        ParallelExecution.executeAll(actionsForDescribedValue.getAll(), executor);
+        return this;
+    }
+
+    /**
+     * Executes all submitted actions, bound to the value described by this conditional,
+     * in parallel, and waits until all of them finish.
+     * <p>
+     * On Java 21 and newer, every action is executed in its own new virtual thread, so that many
+     * blocking actions (e.g. performing I/O) can be executed at once without occupying platform
+     * threads. On older JVMs, actions are executed on the same bounded pool of platform threads
+     * as the one used by {@link Conditional#executeParallel()}, so only a limited number of them
+     * is executed at once. Apart from that, this method behaves the same way as {@link Conditional#executeParallel(Executor)}.
+     * @return this conditional after this method call
+     * @throws ParallelExecutionException if at least one action failed; all {@link Throwable}s thrown
+     *         by failed actions are attached to it as suppressed exceptions
+     */
+    @Nonnull
+    public Conditional executeOnVirtualThreads() {
+        return executeParallel(VirtualThreads.EXECUTOR);
+    }
+
+    /**
+     * Executes concurrently all submitted actions, bound to the value described by this conditional,
+     * failing fast: as soon as one action fails, all other actions are cancelled.
+     * <p>
+     * Execution is performed via the same dedicated {@link ForkJoinPool} as in case of
+     * {@link Conditional#executeParallel()}. Apart from that, this method behaves the same way as
+     * {@link Conditional#executeFailFast(Executor)}.
+     * @return this conditional after this method call
+     * @throws Throwable the first {@link Throwable} thrown by an action; all {@link Throwable}s
+     *         thrown afterwards are attached to it as suppressed exceptions; note that the
+     *         {@link Throwable} isn't specified in a method declaration in a {@code throws...} clause
+     *         in order to avoid enforcing that {@link Throwable} handling
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public Conditional executeFailFast() {
+        return executeFailFast(ParallelExecution.DEFAULT_POOL);
+    }
+
+    /**
+     * Executes concurrently via the passed {@link Executor} all submitted actions, bound to the value
+     * described by this conditional, failing fast: as soon as one action fails, all other actions are cancelled.
+     * <ol>
+     *     <li>Every action is executed as a separate task of the passed {@link Executor}, via calling an
+     *     {@link Action#execute()} method of that action. Therefore, the order of execution isn't
+     *     determined and actions should be independent of each other.</li>
+     *     <li>As soon as one action fails, all other actions are cancelled: the running ones are
+     *     interrupted, while the pending ones are never started. Actions should respond to interruption
+     *     (e.g. by performing interruptible blocking operations), otherwise they run until they finish.</li>
+     *     <li>This method returns only after all actions finished, either normally, exceptionally
+     *     or due to cancellation, so that no action keeps running after this method returned.</li>
+     *     <li>If any action failed, the first {@link Throwable} thrown by an action is rethrown. All
+     *     {@link Throwable}s thrown afterwards, including the ones caused by cancellation (e.g.
+     *     {@link InterruptedException}s), are attached to it as suppressed exceptions.</li>
+     *     <li>If the passed {@link Executor} rejects an action, the rejection is handled
+     *     as a failure of that action.</li>
+     *     <li>If the current thread is interrupted while waiting, all actions are cancelled and, once
+     *     the running ones finished, an {@link InterruptedException} is thrown, with the interrupt status
+     *     of the current thread restored.</li>
+     * </ol>
+     * @param executor {@link Executor} used to execute actions
+     * @return this conditional after this method call
+     * @throws Throwable the first {@link Throwable} thrown by an action; all {@link Throwable}s
+     *         thrown afterwards are attached to it as suppressed exceptions; note that the
+     *         {@link Throwable} isn't specified in a method declaration in a {@code throws...} clause
+     *         in order to avoid enforcing that {@link Throwable} handling
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public Conditional executeFailFast(@Nonnull Executor executor) {
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
+        FailFastExecution.executeAll(actionsForDescribedValue.getAll(), executor);
+        return this;
+    }
+
+    /**
+     * Executes the specified amount of cycles all submitted actions, bound to the value
+     * described by this conditional, splitting the cycles into batches executed concurrently
+     * on the common {@link ForkJoinPool}.
+     * <p>
+     * Apart from that, this method behaves the same way as {@link Conditional#executeCycles(long, int, ForkJoinPool)}.
+     * @param cyclesToExecute the amount of cycles that relevant actions should be executed;
+     *                        if value of the passed argument is {@code 0} or less, then nothing
+     *                        happens: no action is executed, no exception is thrown
+     * @param cyclesPerBatch the amount of cycles in a single batch; must be positive
+     * @return report on the performed execution, including the amount of cycles executed per second
+     * @throws IllegalArgumentException if the passed amount of cycles in a single batch isn't positive
+     * @throws Throwable the first {@link Throwable} thrown by an action; all {@link Throwable}s
+     *         thrown afterwards are attached to it as suppressed exceptions; note that the
+     *         {@link Throwable} isn't specified in a method declaration in a {@code throws...} clause
+     *         in order to avoid enforcing that {@link Throwable} handling
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public CycleReport executeCycles(long cyclesToExecute, int cyclesPerBatch) {
+        return executeCycles(cyclesToExecute, cyclesPerBatch, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executes the specified amount of cycles all submitted actions, bound to the value
+     * described by this conditional, splitting the cycles into batches executed concurrently
+     * on the passed {@link ForkJoinPool}.
+     * <ol>
+     *     <li>Cycles are split into batches of the specified size. Every batch is executed subsequently
+     *     by a single thread, the same way as in case of {@link Conditional#execute(int)}, while
+     *     different batches are executed concurrently, one by every thread of the passed pool.
+     *     Therefore, the order of execution of actions from different batches isn't determined
+     *     and actions must be thread-safe.</li>
+     *     <li>Larger batches reduce coordination overhead, while smaller batches
+     *     balance work more evenly between threads and stop sooner after a failure.</li>
+     *     <li>No speedup over {@link Conditional#execute(int)} is guaranteed: it depends on the amount
+     *     of processors available to the passed pool and on the cost of actions. With a single processor,
+     *     this method only adds the coordination overhead.</li>
+     *     <li>As soon as an action fails, no new batches are started. Batches that are being executed
+     *     at that moment are finished, unless they fail as well. Afterwards, the first {@link Throwable}
+     *     thrown by an action is rethrown, with all subsequent ones attached to it as suppressed exceptions.</li>
+     *     <li>Actions mustn't be submitted or discarded during execution.</li>
+     * </ol>
+     * @param cyclesToExecute the amount of cycles that relevant actions should be executed;
+     *                        if value of the passed argument is {@code 0} or less, then nothing
+     *                        happens: no action is executed, no exception is thrown
+     * @param cyclesPerBatch the amount of cycles in a single batch; must be positive
+     * @param pool {@link ForkJoinPool} where batches should be executed
+     * @return report on the performed execution, including the amount of cycles executed per second
+     * @throws IllegalArgumentException if the passed amount of cycles in a single batch isn't positive
+     * @throws Throwable the first {@link Throwable} thrown by an action; all {@link Throwable}s
+     *         thrown afterwards are attached to it as suppressed exceptions; note that the
+     *         {@link Throwable} isn't specified in a method declaration in a {@code throws...} clause
+     *         in order to avoid enforcing that {@link Throwable} handling
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public CycleReport executeCycles(long cyclesToExecute, int cyclesPerBatch, @Nonnull ForkJoinPool pool) {
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
+        return CycleExecution.execute(actionsForDescribedValue, cyclesToExecute, cyclesPerBatch, pool);
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        EXECUTION OPERATIONS - ASYNCHRONOUS                             -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Executes asynchronously via the passed {@link Executor} all submitted actions,
+     * bound to the value described by this conditional.
+     * <ol>
+     *     <li>This method doesn't block: it returns immediately after submitting a task to
+     *     the passed {@link Executor}. That task executes the actions subsequently, in the same
+     *     way as described in documentation for {@link Conditional#execute()}.</li>
+     *     <li>Actions that are executed are determined at the moment of this method call.
+     *     Actions submitted or discarded after that moment don't affect the execution.</li>
+     *     <li>If an action throws a {@link Throwable}, including a checked {@link Exception},
+     *     the execution is stopped and the returned {@link CompletableFuture} is completed
+     *     exceptionally with that {@link Throwable}. Otherwise, it is completed normally
+     *     with {@code null} once all actions finish.</li>
+     * </ol>
+     * @param executor {@link Executor} used to execute actions
+     * @return {@link CompletableFuture} completed once all actions finish
+     * @throws java.util.concurrent.RejectedExecutionException if the passed {@link Executor}
+     *         doesn't accept a task executing actions
+     */
+    @Nonnull
+    public CompletableFuture<Void> executeAsync(@Nonnull Executor executor) {
+        List<Action<?>> actionsToExecute = actionsForDescribedValue().getAll();
+        return AsyncExecution.supply(() -> {
+            actionsToExecute.forEach(Action::execute);
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Executes asynchronously via the passed {@link Executor} a unary action submitted to this
+     * conditional and bound to the value described by this conditional and returns
+     * a {@link CompletableFuture} of a return value that is produced in the result of that
+     * execution, cast into a specified type.
+     * <ol>
+     *     <li>This method doesn't block: it returns immediately after submitting a task to
+     *     the passed {@link Executor}. That task executes the action in the same way
+     *     as described in documentation for {@link Conditional#get(Class)}.</li>
+     *     <li>The action that is executed is determined at the moment of this method call.</li>
+     *     <li>If not exactly one action is bound to the value described by this conditional, the returned
+     *     {@link CompletableFuture} is completed exceptionally with an {@link UndeterminedReturnValueException}.
+     *     If a return value cannot be cast into a specified type, it is completed exceptionally with
+     *     a {@link MismatchedReturnTypeException}. If the action throws a {@link Throwable}, including
+     *     a checked {@link Exception}, it is completed exceptionally with that {@link Throwable}.</li>
+     * </ol>
+     * @param typeToGet {@link Class} representing a type ({@code <T>}) to which the return value will be cast into
+     * @param executor {@link Executor} used to execute the action
+     * @param <T> type to which the return value will be cast into
+     * @return {@link CompletableFuture} completed with a return value produced in the result of
+     *         execution of a unary action bound to the value described by this conditional
+     * @throws java.util.concurrent.RejectedExecutionException if the passed {@link Executor}
+     *         doesn't accept a task executing the action
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> getAsync(@Nonnull Class<T> typeToGet, @Nonnull Executor executor) {
+        List<Action<?>> actionsToExecute = actionsForDescribedValue().getAll();
+        return AsyncExecution.supply(() -> {
+            isTrueOrThrowLazily(actionsToExecute.size() == 1,
+                    () -> new UndeterminedReturnValueException(UNDETERMINED_RETURN_VALUE_MESSAGE));
+            Action<?> unaryAction = actionsToExecute.get(0);
+            return unaryAction.get(typeToGet);
+        }, executor);
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        EXECUTION OPERATIONS - TIME-BUDGETED                            -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Executes all submitted actions, bound to the value described by this conditional,
+     * within the passed time budget, interrupting an action that overruns the budget.
+     * <p>
+     * This method behaves the same way as {@link Conditional#executeWithin(Duration, OverrunPolicy)}
+     * called with {@link OverrunPolicy#INTERRUPT}.
+     * @param budget time budget for execution of all actions
+     * @return report on completed, overrunning and skipped actions
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public BudgetReport executeWithin(@Nonnull Duration budget) {
+        return executeWithin(budget, OverrunPolicy.INTERRUPT);
+    }
+
+    /**
+     * Executes all submitted actions, bound to the value described by this conditional, within the passed
+     * time budget, via the same dedicated {@link ForkJoinPool} as in case of {@link Conditional#executeParallel()}.
+     * <p>
+     * This method behaves the same way as {@link Conditional#executeWithin(Duration, OverrunPolicy, Executor)}
+     * called with that pool. Since the pool is shared by all conditionals, actions that keep running after
+     * the budget is spent occupy threads of the pool that other executions need; in order to isolate such
+     * actions, use a dedicated {@link Executor}.
+     * @param budget time budget for execution of all actions
+     * @param overrunPolicy policy applied to an action that is still running when the budget is spent
+     * @return report on completed, overrunning and skipped actions
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public BudgetReport executeWithin(@Nonnull Duration budget, @Nonnull OverrunPolicy overrunPolicy) {
+        return executeWithin(budget, overrunPolicy, ParallelExecution.DEFAULT_POOL);
+    }
+
+    /**
+     * Executes all submitted actions, bound to the value described by this conditional, within the passed
+     * time budget. Actions that cannot be executed within the budget are reported in the returned report.
+     * <ol>
+     *     <li>Execution is performed subsequently, starting from the first submitted action, the same way
+     *     as in case of {@link Conditional#execute()}, with the difference that every action is executed
+     *     as a separate task of the passed {@link Executor}, while the calling thread waits for it.</li>
+     *     <li>Once the budget is spent, no new actions are started. Such actions
+     *     are reported as skipped ({@link BudgetReport#skippedActions()}).</li>
+     *     <li>The calling thread never waits longer than the budget. An action that is still running when the
+     *     budget is spent is handled according to the passed {@link OverrunPolicy} and is reported as
+     *     overrunning ({@link BudgetReport#overrunActions()}).</li>
+     *     <li>If an action completed within the budget has thrown an {@link Exception}, that
+     *     {@link Exception} is rethrown and subsequent actions aren't executed.</li>
+     *     <li>If the current thread is interrupted while waiting, the running action
+     *     is interrupted and an {@link InterruptedException} is thrown.</li>
+     *     <li>An overrunning action keeps occupying a thread of the passed {@link Executor} until
+     *     it finishes: an abandoned action, as well as an interrupted one that doesn't respond
+     *     to interruption, runs in the background.</li>
+     * </ol>
+     * @param budget time budget for execution of all actions
+     * @param overrunPolicy policy applied to an action that is still running when the budget is spent
+     * @param executor {@link Executor} used to execute actions
+     * @return report on completed, overrunning and skipped actions
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public BudgetReport executeWithin(@Nonnull Duration budget, @Nonnull OverrunPolicy overrunPolicy,
+                                      @Nonnull Executor executor) {
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
+        return BudgetedExecution.execute(actionsForDescribedValue.getAll(), budget, overrunPolicy, executor);
+    }
+
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional within the passed time budget, interrupting that action if it overruns the budget.
+     * <p>
+     * This method behaves the same way as {@link Conditional#getWithin(Class, Duration, OverrunPolicy)}
+     * called with {@link OverrunPolicy#INTERRUPT}.
+     * @param typeToGet {@link Class} representing a type ({@code <T>}) to which the return value will be cast into
+     * @param timeout time budget for execution of the action
+     * @param <T> type to which the return value will be cast into
+     * @return return value that is produced in the result of execution of a unary action submitted
+     *         to this conditional and bound to the value described by this conditional,
+     *         cast into a specified type ({@code typeToGet})
+     * @throws BudgetExceededException if the action didn't produce a return value within the time budget
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into a specified type
+     *                                       ({@code typeToGet}) due to {@link ClassCastException}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this conditional
+     *                                          and was bound to the value described by this conditional
+     * @throws Exception if an {@link Exception} different from the described above during execution of
+     *         an action was thrown; note that the {@link Exception} isn't specified in a method
+     *         declaration in a {@code throws...} clause in order to avoid enforcing that
+     *         {@link Exception} handling (omitting of specifying the {@link Exception} in the
+     *         method declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nullable
+    @SuppressWarnings("JavadocDeclaration")
+    public <T> T getWithin(@Nonnull Class<T> typeToGet, @Nonnull Duration timeout) {
+        return getWithin(typeToGet, timeout, OverrunPolicy.INTERRUPT);
+    }
+
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional within the passed time budget, via the same dedicated {@link ForkJoinPool} as in case
+     * of {@link Conditional#executeParallel()}.
+     * <p>
+     * This method behaves the same way as {@link Conditional#getWithin(Class, Duration, OverrunPolicy, Executor)}
+     * called with that pool. Since the pool is shared by all conditionals, an action that keeps running after
+     * the budget is spent occupies a thread of the pool that other executions need; in order to isolate such
+     * an action, use a dedicated {@link Executor}.
+     * @param typeToGet {@link Class} representing a type ({@code <T>}) to which the return value will be cast into
+     * @param timeout time budget for execution of the action
+     * @param overrunPolicy policy applied to the action if it is still running when the budget is spent
+     * @param <T> type to which the return value will be cast into
+     * @return return value that is produced in the result of execution of a unary action submitted
+     *         to this conditional and bound to the value described by this conditional,
+     *         cast into a specified type ({@code typeToGet})
+     * @throws BudgetExceededException if the action didn't produce a return value within the time budget
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into a specified type
+     *                                       ({@code typeToGet}) due to {@link ClassCastException}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this conditional
+     *                                          and was bound to the value described by this conditional
+     * @throws Exception if an {@link Exception} different from the described above during execution of
+     *         an action was thrown; note that the {@link Exception} isn't specified in a method
+     *         declaration in a {@code throws...} clause in order to avoid enforcing that
+     *         {@link Exception} handling (omitting of specifying the {@link Exception} in the
+     *         method declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nullable
+    @SuppressWarnings("JavadocDeclaration")
+    public <T> T getWithin(@Nonnull Class<T> typeToGet, @Nonnull Duration timeout,
+                           @Nonnull OverrunPolicy overrunPolicy) {
+        return getWithin(typeToGet, timeout, overrunPolicy, ParallelExecution.DEFAULT_POOL);
+    }
+
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional within the passed time budget; after that, returns a return value that is produced
+     * in the result of execution of the action, but cast into a specified type.
+     * <ol>
+     *     <li>Apart from the time budget, this method behaves the same way as
+     *     {@link Conditional#get(Class)}.</li>
+     *     <li>The action is executed as a separate task of the passed {@link Executor},
+     *     while the calling thread waits for it.</li>
+     *     <li>The calling thread never waits longer than the budget. If the action is still running
+     *     when the budget is spent, it is handled according to the passed {@link OverrunPolicy}
+     *     and a {@link BudgetExceededException} is thrown. If the budget isn't positive,
+     *     the action isn't executed at all.</li>
+     *     <li>An overrunning action keeps occupying a thread of the passed {@link Executor} until
+     *     it finishes: an abandoned action, as well as an interrupted one that doesn't respond
+     *     to interruption, runs in the background.</li>
+     * </ol>
+     * @param typeToGet {@link Class} representing a type ({@code <T>}) to which the return value will be cast into
+     * @param timeout time budget for execution of the action
+     * @param overrunPolicy policy applied to the action if it is still running when the budget is spent
+     * @param executor {@link Executor} used to execute the action
+     * @param <T> type to which the return value will be cast into
+     * @return return value that is produced in the result of execution of a unary action submitted
+     *         to this conditional and bound to the value described by this conditional,
+     *         cast into a specified type ({@code typeToGet})
+     * @throws BudgetExceededException if the action didn't produce a return value within the time budget
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into a specified type
+     *                                       ({@code typeToGet}) due to {@link ClassCastException}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this conditional
+     *                                          and was bound to the value described by this conditional
+     * @throws Exception if an {@link Exception} different from the described above during execution of
+     *         an action was thrown; note that the {@link Exception} isn't specified in a method
+     *         declaration in a {@code throws...} clause in order to avoid enforcing that
+     *         {@link Exception} handling (omitting of specifying the {@link Exception} in the
+     *         method declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nullable
+    @SuppressWarnings("JavadocDeclaration")
+    public <T> T getWithin(@Nonnull Class<T> typeToGet, @Nonnull Duration timeout,
+                           @Nonnull OverrunPolicy overrunPolicy, @Nonnull Executor executor) {
+        rejectIfNotExactlyOneActionInDescribedCollection();
+        Action<?> unaryAction = actionsForDescribedValue().getFirst();
+        return BudgetedExecution.get(unaryAction, typeToGet, timeout, overrunPolicy, executor);
+    }
+
 //  <!-- ====================================================================== -->
 //  <!--        EXECUTION OPERATIONS - STATIC                                   -->
 //  <!-- ====================================================================== -->
@@ -586,6 +1376,9 @@ public final class Conditional {
     /**
      * Executes the submitted action if the passed boolean value is {@code true}.
      * If the passed boolean value is {@code false}, does nothing.
+     * <p>
+     * The passed action is dispatched directly, without constructing an instance of {@link Conditional}
+     * and without wrapping the action into an {@link Action}, so the call of this method doesn't allocate.
      * @param conditionThatMustBeTrue condition that must be {@code true} in order for
      *                                the passed action to be executed
      * @param actionToExecute action to execute if the passed boolean value is {@code true}
@@ -597,9 +1390,8 @@ public final class Conditional {
      */
     @SuppressWarnings("JavadocDeclaration")
     public static void onTrueExecute(boolean conditionThatMustBeTrue, @Nonnull Runnable actionToExecute) {
-        conditional(conditionThatMustBeTrue)
-                .onTrue(actionToExecute)
-                .execute();
+        RunnableExecutor runnableExecutor = RUNNABLE_EXECUTORS[BooleanIndex.of(conditionThatMustBeTrue)];
+        runnableExecutor.executeIfActive(actionToExecute);
     }
 
     /**
@@ -650,14 +1442,15 @@ public final class Conditional {
     public static <X extends Exception> void onTrueExecute
     (boolean conditionThatMustBeTrue, @Nonnull Runnable actionToExecute, @Nullable Class<X> expectedException)
     throws X {
-        conditional(conditionThatMustBeTrue)
-                .onTrue(actionToExecute)
-                .execute();
+        onTrueExecute(conditionThatMustBeTrue, actionToExecute);
     }
 
     /**
      * Executes the submitted action if the passed boolean value is {@code false}.
      * If the passed boolean value is {@code true}, does nothing.
+     * <p>
+     * The passed action is dispatched directly, without constructing an instance of {@link Conditional}
+     * and without wrapping the action into an {@link Action}, so the call of this method doesn't allocate.
      * @param conditionThatMustBeFalse condition that must be {@code false} in order for
      *                                 the passed action to be executed
      * @param actionToExecute action to execute if the passed boolean value is {@code false}
@@ -669,9 +1462,8 @@ public final class Conditional {
      */
     @SuppressWarnings("JavadocDeclaration")
     public static void onFalseExecute(boolean conditionThatMustBeFalse, @Nonnull Runnable actionToExecute) {
-        conditional(conditionThatMustBeFalse)
-                .onFalse(actionToExecute)
-                .execute();
+        RunnableExecutor runnableExecutor = RUNNABLE_EXECUTORS[BooleanIndex.of(!conditionThatMustBeFalse)];
+        runnableExecutor.executeIfActive(actionToExecute);
     }
 
     /**
@@ -722,9 +1514,7 @@ public final class Conditional {
     public static <X extends Exception> void onFalseExecute
     (boolean conditionThatMustBeFalse, @Nonnull Runnable actionToExecute, @Nullable Class<X> expectedException)
     throws X {
-        conditional(conditionThatMustBeFalse)
-                .onFalse(actionToExecute)
-                .execute();
+        onFalseExecute(conditionThatMustBeFalse, actionToExecute);
     }
 
 //  <!-- ====================================================================== -->
@@ -769,11 +1559,127 @@ public final class Conditional {
     @SuppressWarnings("JavadocDeclaration")
     public <T> T get(@Nonnull Class<T> typeToGet) {
         rejectIfNotExactlyOneActionInDescribedCollection();
-        ActionsList action = actionsMap.get(describedValue);
+        ActionsList action = actionsForDescribedValue();
         Action<?> unaryAction = action.getFirst();
         return unaryAction.get(typeToGet);
     }
 
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional and returns a return value that is produced in the result of that execution as an
+     * {@code int}. If the action was submitted via {@code onTrueInt(...)} or {@code onFalseInt(...)}
+     * methods, the return value is never boxed.
+     * <p>
+     * Apart from the type of the return value, this method behaves the same way
+     * as {@link Conditional#get(Class)}.
+     * @return return value that is produced in the result of execution of a unary action
+     *         bound to the value described by this conditional as an {@code int}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this
+     *                                          conditional and was bound to the value described
+     *                                          by this conditional
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Integer}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    public int getAsInt() {
+        rejectIfNotExactlyOneActionInDescribedCollection();
+        ActionsList action = actionsForDescribedValue();
+        Action<?> unaryAction = action.getFirst();
+        return unaryAction.getAsInt();
+    }
+
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional and returns a return value that is produced in the result of that execution as a
+     * {@code long}. If the action was submitted via {@code onTrueLong(...)} or {@code onFalseLong(...)}
+     * methods, the return value is never boxed.
+     * <p>
+     * Apart from the type of the return value, this method behaves the same way
+     * as {@link Conditional#get(Class)}.
+     * @return return value that is produced in the result of execution of a unary action
+     *         bound to the value described by this conditional as a {@code long}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this
+     *                                          conditional and was bound to the value described
+     *                                          by this conditional
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Long}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    public long getAsLong() {
+        rejectIfNotExactlyOneActionInDescribedCollection();
+        ActionsList action = actionsForDescribedValue();
+        Action<?> unaryAction = action.getFirst();
+        return unaryAction.getAsLong();
+    }
+
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional and returns a return value that is produced in the result of that execution as a
+     * {@code double}. If the action was submitted via {@code onTrueDouble(...)} or {@code onFalseDouble(...)}
+     * methods, the return value is never boxed.
+     * <p>
+     * Apart from the type of the return value, this method behaves the same way
+     * as {@link Conditional#get(Class)}.
+     * @return return value that is produced in the result of execution of a unary action
+     *         bound to the value described by this conditional as a {@code double}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this
+     *                                          conditional and was bound to the value described
+     *                                          by this conditional
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Double}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    public double getAsDouble() {
+        rejectIfNotExactlyOneActionInDescribedCollection();
+        ActionsList action = actionsForDescribedValue();
+        Action<?> unaryAction = action.getFirst();
+        return unaryAction.getAsDouble();
+    }
+
+    /**
+     * Executes a unary action submitted to this conditional and bound to the value described by this
+     * conditional and returns a return value that is produced in the result of that execution as a
+     * {@code boolean}. If the action was submitted via {@code onTrueBoolean(...)} or {@code onFalseBoolean(...)}
+     * methods, the return value is never boxed.
+     * <p>
+     * Apart from the type of the return value, this method behaves the same way
+     * as {@link Conditional#get(Class)}.
+     * @return return value that is produced in the result of execution of a unary action
+     *         bound to the value described by this conditional as a {@code boolean}
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this
+     *                                          conditional and was bound to the value described
+     *                                          by this conditional
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into {@link Boolean}
+     * @throws NullPointerException if the produced return value is {@code null}
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    public boolean getAsBoolean() {
+        rejectIfNotExactlyOneActionInDescribedCollection();
+        ActionsList action = actionsForDescribedValue();
+        Action<?> unaryAction = action.getFirst();
+        return unaryAction.getAsBoolean();
+    }
+
     /**
      * Executes a unary action submitted to this conditional and bound to the
      * value described by this conditional; after that, returns a return value
@@ -1092,18 +1998,19 @@ public final class Conditional {
 
     /**
      * Assures that exactly one action was submitted to this conditional
-     * and is bound to the value described by this conditional
+     * and is bound to the value described by this conditional.
+     * <p>
+     * The {@link UndeterminedReturnValueException} is constructed only if the assurance fails,
+     * so a successful call of this method doesn't allocate.
      * @throws UndeterminedReturnValueException if not exactly one action was submitted
      * to this conditional and was bound to the value described by this conditional
      */
     private void rejectIfNotExactlyOneActionInDescribedCollection() {
-        String exceptionMessage = "To use a get(...) method for a given Conditional, exactly one " +
-                                  "action must be submitted. This condition hasn't been met";
-        ActionsList actionsForDescribedValue = actionsMap.get(describedValue);
+        ActionsList actionsForDescribedValue = actionsForDescribedValue();
         boolean isExactlyOneActionInDescribedCollection =
                 actionsForDescribedValue.isExactlyOneActionInList();
-        isTrueOrThrow(isExactlyOneActionInDescribedCollection,
-                new UndeterminedReturnValueException(exceptionMessage));
+        isTrueOrThrowLazily(isExactlyOneActionInDescribedCollection,
+                () -> new UndeterminedReturnValueException(UNDETERMINED_RETURN_VALUE_MESSAGE));
     }
 
 //  <!-- ====================================================================== -->
@@ -1129,7 +2036,7 @@ public final class Conditional {
      */
     @Nonnull
     public Conditional discardActionsOnTrue() {
-        ActionsList actionsOnTrue = actionsMap.get(TRUE);
+        ActionsList actionsOnTrue = actionsFor(TRUE);
         actionsOnTrue.clear();
         return this;
     }
@@ -1141,7 +2048,7 @@ public final class Conditional {
      */
     @Nonnull
     public Conditional discardActionsOnFalse() {
-        ActionsList actionsOnFalse = actionsMap.get(FALSE);
+        ActionsList actionsOnFalse = actionsFor(FALSE);
         actionsOnFalse.clear();
         return this;
     }
@@ -1204,11 +2111,36 @@ public final class Conditional {
      */
     public static <T extends Exception> 
     void isTrueOrThrow(boolean conditionThatMustBeTrue, @Nonnull T exceptionToThrow) throws T {
-        Conditional conditional = conditional(!conditionThatMustBeTrue);
-        ExceptionThrower exceptionThrower = conditional.getThrower();
+        ExceptionThrower exceptionThrower = EXCEPTION_THROWERS[BooleanIndex.of(!conditionThatMustBeTrue)];
         exceptionThrower.throwIfActive(exceptionToThrow);
     }
 
+    /**
+     * Assures that the passed boolean value is {@code true}.
+     * <p>
+     * Throws an {@link Exception} produced by the passed {@link Supplier} if the passed boolean value
+     * is {@code false}. Does nothing if the passed boolean value is {@code true}; in that case
+     * the passed {@link Supplier} isn't called at all, so no {@link Exception} is constructed.
+     * <p>
+     * Contrary to {@link Conditional#isTrueOrThrow(boolean, Exception)}, this method doesn't require
+     * an {@link Exception} to be constructed (and its stack trace to be filled) upfront, which makes
+     * it suitable for frequently checked conditions:
+     * <pre>{@code
+     * Conditional.isTrueOrThrowLazily(message.isValid(),
+     *                                 () -> new IllegalArgumentException("Invalid message"));
+     * }</pre>
+     * @param conditionThatMustBeTrue boolean value that is supposed to be {@code true}
+     * @param exceptionSupplier supplier of an exception that is thrown if the passed boolean value is {@code false}
+     * @param <T> type of the supplied exception
+     * @throws T if the passed boolean value is {@code false}
+     */
+    public static <T extends Exception>
+    void isTrueOrThrowLazily(boolean conditionThatMustBeTrue, @Nonnull Supplier<? extends T> exceptionSupplier)
+    throws T {
+        ExceptionThrower exceptionThrower = EXCEPTION_THROWERS[BooleanIndex.of(!conditionThatMustBeTrue)];
+        exceptionThrower.throwSuppliedIfActive(exceptionSupplier);
+    }
+
     /**
      * Assures that the passed boolean value is {@code false}.
      * <p>
@@ -1221,15 +2153,27 @@ public final class Conditional {
      */
     public static <T extends Exception>
     void isFalseOrThrow(boolean conditionThatMustBeFalse, @Nonnull T exceptionToThrow) throws T {
-        Conditional conditional = conditional(conditionThatMustBeFalse);
-        ExceptionThrower exceptionThrower = conditional.getThrower();
+        ExceptionThrower exceptionThrower = EXCEPTION_THROWERS[BooleanIndex.of(conditionThatMustBeFalse)];
         exceptionThrower.throwIfActive(exceptionToThrow);
     }
 
-    private ExceptionThrower getThrower() {
-        Map<Boolean, ExceptionThrower> checkedThrowers = new HashMap<>();
-        checkedThrowers.put(TRUE, new ExceptionThrowerActive());
-        checkedThrowers.put(FALSE, new ExceptionThrowerVoid());
-        return checkedThrowers.get(describedValue);
+    /**
+     * Assures that the passed boolean value is {@code false}.
+     * <p>
+     * Throws an {@link Exception} produced by the passed {@link Supplier} if the passed boolean value
+     * is {@code true}. Does nothing if the passed boolean value is {@code false}; in that case
+     * the passed {@link Supplier} isn't called at all, so no {@link Exception} is constructed.
+     * <p>
+     * For details see documentation for {@link Conditional#isTrueOrThrowLazily(boolean, Supplier)}.
+     * @param conditionThatMustBeFalse boolean value that is supposed to be {@code false}
+     * @param exceptionSupplier supplier of an exception that is thrown if the passed boolean value is {@code true}
+     * @param <T> type of the supplied exception
+     * @throws T if the passed boolean value is {@code true}
+     */
+    public static <T extends Exception>
+    void isFalseOrThrowLazily(boolean conditionThatMustBeFalse, @Nonnull Supplier<? extends T> exceptionSupplier)
+    throws T {
+        ExceptionThrower exceptionThrower = EXCEPTION_THROWERS[BooleanIndex.of(conditionThatMustBeFalse)];
+        exceptionThrower.throwSuppliedIfActive(exceptionSupplier);
     }
 }
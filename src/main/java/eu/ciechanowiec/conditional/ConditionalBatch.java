@@ -0,0 +1,379 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable and reusable counterpart of many {@link Conditional}s, that describes a batch of boolean values
+ * (a mask) instead of a single one. Every action submitted to a batch receives a position of a value
+ * in the mask and is executed for every position holding the value to which that action is bound.
+ * <p>
+ * A batch is created via one of {@code over(...)} methods, which pack the passed mask into 64-bit words.
+ * During execution, positions holding a given value are found with word-level operations
+ * ({@link Long#numberOfTrailingZeros(long)}), so long runs of the opposite value are skipped at once.
+ * Values to which no actions are bound aren't scanned at all, e.g. if only actions bound to a {@code true}
+ * value are submitted, positions holding a {@code false} value are never visited.
+ * <p>
+ * Within a single execution, actions bound to a given value are executed in the ascending order of
+ * positions, but executions for different values are interleaved in blocks of 64 positions.
+ * <p>
+ * Every submission method returns a new batch and leaves the original one untouched.
+ * Therefore, a batch is thread-safe and can be executed in parallel via
+ * {@link ConditionalBatch#executeParallel()}, provided that submitted actions are thread-safe as well.
+ * <p>
+ * Example:<pre>{@code
+ * boolean[] isPaid = ...;
+ * ConditionalBatch.over(isPaid)
+ *                 .onTrue(position -> ship(orders[position]))
+ *                 .onFalse(position -> remind(orders[position]))
+ *                 .execute();
+ * }</pre>
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ConditionalBatch {
+
+    /**
+     * Amount of positions in a single word.
+     */
+    private static final int WORD_SIZE = Long.SIZE;
+
+    /**
+     * Binary logarithm of {@link ConditionalBatch#WORD_SIZE}.
+     */
+    private static final int WORD_SIZE_LOG = 6;
+
+    /**
+     * Masks applied to words in order to get bits set for positions holding a given value, indexed with
+     * {@link BooleanIndex#of(boolean)}: positions holding a {@code false} value are set in inverted words.
+     */
+    private static final long[] FLIP_MASKS_BY_VALUE = {-1L, 0L};
+
+    /**
+     * Amount of words scanned by a single task during parallel execution.
+     */
+    private static final int WORDS_PER_TASK = 1024;
+
+    /**
+     * Action that does nothing, bound to both values of a batch before any action is submitted.
+     */
+    private static final IntConsumer NO_ACTION = position -> {
+        // Do nothing
+    };
+
+    /**
+     * Described mask, packed into words. The array is never modified.
+     */
+    private final long[] words;
+
+    /**
+     * Amount of positions in the described mask.
+     */
+    private final int size;
+
+    /**
+     * Actions of this batch, indexed with {@link BooleanIndex#of(boolean)} by the value to which a given
+     * action is bound. Every action is a composition of all actions submitted for a given value.
+     * The array is never modified.
+     */
+    private final IntConsumer[] actionsByValue;
+
+    /**
+     * Indices (according to {@link BooleanIndex#of(boolean)}) of values to which at least one action
+     * is bound, i.e. values whose positions are scanned during execution. The array is never modified.
+     */
+    private final int[] scannedValues;
+
+    /**
+     * Constructs an instance of a {@link ConditionalBatch}.
+     * @param words described mask, packed into words
+     * @param size amount of positions in the described mask
+     * @param actionsByValue actions of the created batch, indexed with {@link BooleanIndex#of(boolean)}
+     *                       by the value to which a given action is bound
+     * @param scannedValues indices of values whose positions are scanned during execution
+     */
+    private ConditionalBatch(long[] words, int size, IntConsumer[] actionsByValue, int[] scannedValues) {
+        this.words = words;
+        this.size = size;
+        this.actionsByValue = actionsByValue;
+        this.scannedValues = scannedValues;
+    }
+
+    /**
+     * Constructs an instance of a {@link ConditionalBatch} without any submitted actions.
+     * @param words described mask, packed into words
+     * @param size amount of positions in the described mask
+     */
+    private ConditionalBatch(long[] words, int size) {
+        this(words, size, new IntConsumer[]{NO_ACTION, NO_ACTION}, new int[0]);
+    }
+
+    /**
+     * Returns a new batch without any submitted actions, that describes the passed mask.
+     * The passed array is copied, so its subsequent modifications don't affect the batch.
+     * @param mask boolean values described by the created batch
+     * @return new batch without any submitted actions, that describes the passed mask
+     */
+    @Nonnull
+    public static ConditionalBatch over(@Nonnull boolean[] mask) {
+        long[] words = new long[wordsFor(mask.length)];
+        for (int position = 0; position < mask.length; position++) {
+            words[position >>> WORD_SIZE_LOG] |= (long) BooleanIndex.of(mask[position]) << position;
+        }
+        return new ConditionalBatch(words, mask.length);
+    }
+
+    /**
+     * Returns a new batch without any submitted actions, that describes the passed mask. A position holds
+     * a {@code true} value if a bit with a corresponding index is set in the passed {@link BitSet}.
+     * The passed {@link BitSet} is copied, so its subsequent modifications don't affect the batch.
+     * @param mask boolean values described by the created batch
+     * @param size amount of positions in the described mask; bits of the passed {@link BitSet} with
+     *             indices greater or equal to that amount are ignored
+     * @return new batch without any submitted actions, that describes the passed mask
+     * @throws IllegalArgumentException if the passed amount of positions is negative
+     */
+    @Nonnull
+    public static ConditionalBatch over(@Nonnull BitSet mask, int size) {
+        Conditional.isTrueOrThrowLazily(size >= 0, () -> new IllegalArgumentException(
+                String.format("Amount of positions must not be negative, but was %d", size)
+        ));
+        long[] words = Arrays.copyOf(mask.toLongArray(), wordsFor(size));
+        return new ConditionalBatch(words, size);
+    }
+
+    /**
+     * Returns a new batch without any submitted actions, that describes the passed mask, packed into
+     * words in the same way as by {@link BitSet#toLongArray()}: a position {@code n} holds a {@code true}
+     * value if {@code (mask[n / 64] & (1L << (n % 64))) != 0}. The described mask has
+     * {@code 64 * mask.length} positions. The passed array is copied, so its subsequent
+     * modifications don't affect the batch.
+     * @param mask boolean values described by the created batch, packed into words
+     * @return new batch without any submitted actions, that describes the passed mask
+     */
+    @Nonnull
+    public static ConditionalBatch over(@Nonnull long[] mask) {
+        return new ConditionalBatch(mask.clone(), Math.multiplyExact(mask.length, WORD_SIZE));
+    }
+
+    /**
+     * Returns the amount of words needed to pack the specified amount of positions.
+     * @param size amount of positions to pack
+     * @return amount of words needed to pack the specified amount of positions
+     */
+    private static int wordsFor(int size) {
+        return (size + WORD_SIZE - 1) >>> WORD_SIZE_LOG;
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        RETRIEVING DATA                                                 -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Returns the amount of positions in the mask described by this batch.
+     * @return amount of positions in the mask described by this batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the amount of positions holding a {@code true} value in the mask described by this batch.
+     * @return amount of positions holding a {@code true} value in the mask described by this batch
+     */
+    public int countTrue() {
+        int trueValues = 0;
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            trueValues += Long.bitCount(words[wordIndex] & validBits(wordIndex));
+        }
+        return trueValues;
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        ACTIONS SUBMISSION                                              -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Returns a new batch with all actions of this batch and the passed action,
+     * bound to a {@code true} value. This batch remains unchanged.
+     * @param actionOnTrue action that should be executed for every position holding a {@code true} value;
+     *                     the action receives that position
+     * @return new batch with the submitted action
+     */
+    @Nonnull
+    public ConditionalBatch onTrue(@Nonnull IntConsumer actionOnTrue) {
+        return with(actionOnTrue, true);
+    }
+
+    /**
+     * Returns a new batch with all actions of this batch and the passed action,
+     * bound to a {@code false} value. This batch remains unchanged.
+     * @param actionOnFalse action that should be executed for every position holding a {@code false} value;
+     *                      the action receives that position
+     * @return new batch with the submitted action
+     */
+    @Nonnull
+    public ConditionalBatch onFalse(@Nonnull IntConsumer actionOnFalse) {
+        return with(actionOnFalse, false);
+    }
+
+    /**
+     * Returns a new batch with all actions of this batch and the passed action,
+     * bound to a specified value. This batch remains unchanged.
+     * @param actionToAdd action that should be bound to a specified value
+     * @param valueToWhichActionMustBeBoundTo value to which the passed action should be bound to
+     * @return new batch with the passed action
+     */
+    private ConditionalBatch with(IntConsumer actionToAdd, boolean valueToWhichActionMustBeBoundTo) {
+        int boundIndex = BooleanIndex.of(valueToWhichActionMustBeBoundTo);
+        IntConsumer[] extendedActionsByValue = actionsByValue.clone();
+        extendedActionsByValue[boundIndex] = actionsByValue[boundIndex].andThen(actionToAdd);
+        int[] extendedScannedValues = IntStream.concat(IntStream.of(scannedValues), IntStream.of(boundIndex))
+                                               .distinct()
+                                               .sorted()
+                                               .toArray();
+        return new ConditionalBatch(words, size, extendedActionsByValue, extendedScannedValues);
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        EXECUTION OPERATIONS                                            -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Executes all actions submitted to this batch for every position holding the value
+     * to which a given action is bound, on the current thread.
+     * <p>
+     * If there are no actions submitted to this batch, then nothing happens.
+     * @return this batch after this method call
+     */
+    @Nonnull
+    public ConditionalBatch execute() {
+        scan(0, words.length);
+        return this;
+    }
+
+    /**
+     * Executes all actions submitted to this batch for every position holding the value
+     * to which a given action is bound, in parallel on the {@link ForkJoinPool#commonPool()}.
+     * <p>
+     * The mask is split into parts of {@value WORDS_PER_TASK} words, which are executed as
+     * separate tasks, so the order of executed positions isn't determined. This method
+     * returns when all parts are executed. No speedup over {@link ConditionalBatch#execute()}
+     * is guaranteed: it depends on the amount of processors available to the pool and on the cost
+     * of actions, while with a single processor the parts are only executed one after another.
+     * @return this batch after this method call
+     */
+    @Nonnull
+    public ConditionalBatch executeParallel() {
+        return executeParallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executes all actions submitted to this batch for every position holding the value
+     * to which a given action is bound, in parallel on the passed {@link ForkJoinPool}.
+     * <p>
+     * The mask is split into parts of {@value WORDS_PER_TASK} words, which are executed as
+     * separate tasks, so the order of executed positions isn't determined. This method
+     * returns when all parts are executed. No speedup over {@link ConditionalBatch#execute()}
+     * is guaranteed: it depends on the amount of processors available to the pool and on the cost
+     * of actions, while with a single processor the parts are only executed one after another.
+     * @param pool {@link ForkJoinPool} where parts of the mask should be executed
+     * @return this batch after this method call
+     */
+    @Nonnull
+    public ConditionalBatch executeParallel(@Nonnull ForkJoinPool pool) {
+        pool.invoke(new ScanTask(0, words.length));
+        return this;
+    }
+
+    /**
+     * Executes all actions submitted to this batch for every position, within words
+     * with the specified indices, holding the value to which a given action is bound.
+     * @param fromWord index of the first scanned word, inclusive
+     * @param toWord index of the last scanned word, exclusive
+     */
+    private void scan(int fromWord, int toWord) {
+        for (int wordIndex = fromWord; wordIndex < toWord; wordIndex++) {
+            for (int scannedValue : scannedValues) {
+                scanWord(wordIndex, scannedValue);
+            }
+        }
+    }
+
+    /**
+     * Executes an action bound to the specified value for every position, within a word
+     * with the specified index, holding that value.
+     * @param wordIndex index of the scanned word
+     * @param valueIndex index (according to {@link BooleanIndex#of(boolean)}) of the value
+     *                   whose positions should be found
+     */
+    private void scanWord(int wordIndex, int valueIndex) {
+        IntConsumer action = actionsByValue[valueIndex];
+        int firstPosition = wordIndex << WORD_SIZE_LOG;
+        long bits = (words[wordIndex] ^ FLIP_MASKS_BY_VALUE[valueIndex]) & validBits(wordIndex);
+        while (bits != 0) {
+            action.accept(firstPosition + Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+        }
+    }
+
+    /**
+     * Returns bits of a word with the specified index, that correspond to positions within the mask.
+     * All bits of all words except the last one correspond to positions within the mask.
+     * @param wordIndex index of the word
+     * @return word with bits set for positions within the mask
+     */
+    private long validBits(int wordIndex) {
+        int positionsInWord = Math.min(WORD_SIZE, size - (wordIndex << WORD_SIZE_LOG));
+        return -1L >>> (WORD_SIZE - positionsInWord);
+    }
+
+    /**
+     * Task that scans a range of words, splitting it into halves until
+     * it has at most {@value WORDS_PER_TASK} words.
+     */
+    private final class ScanTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Index of the first scanned word, inclusive.
+         */
+        private final int fromWord;
+
+        /**
+         * Index of the last scanned word, exclusive.
+         */
+        private final int toWord;
+
+        /**
+         * Constructs an instance of a {@link ScanTask}.
+         * @param fromWord index of the first scanned word, inclusive
+         * @param toWord index of the last scanned word, exclusive
+         */
+        private ScanTask(int fromWord, int toWord) {
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            Deque<ForkJoinTask<Void>> forkedTasks = new ArrayDeque<>();
+            int splitToWord = toWord;
+            while (splitToWord - fromWord > WORDS_PER_TASK) {
+                int middleWord = (fromWord + splitToWord) >>> 1;
+                forkedTasks.push(new ScanTask(middleWord, splitToWord).fork());
+                splitToWord = middleWord;
+            }
+            scan(fromWord, splitToWord);
+            forkedTasks.forEach(ForkJoinTask::join);
+        }
+    }
+}
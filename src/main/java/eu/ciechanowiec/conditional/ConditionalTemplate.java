@@ -0,0 +1,276 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Immutable and reusable counterpart of a {@link Conditional}, that isn't bound to any
+ * described value. Instead, the value is passed every time the template is executed.
+ * <p>
+ * A template is built once, in the same fluent manner as a {@link Conditional}, and then can be
+ * evaluated against many boolean values via {@link ConditionalTemplate#execute(boolean)} and
+ * {@link ConditionalTemplate#get(boolean, Class)}. Evaluation doesn't allocate any memory.
+ * <p>
+ * Every submission method returns a new template and leaves the original one untouched.
+ * Therefore, a template is thread-safe and can be shared between threads,
+ * e.g. as a {@code static final} field, provided that submitted actions are thread-safe as well.
+ * <p>
+ * Example:<pre>{@code
+ * import static eu.ciechanowiec.conditional.ConditionalTemplate.template;
+ *
+ * private static final ConditionalTemplate GREETING = template()
+ *         .onTrue(() -> System.out.println("Hello, Universe!"))
+ *         .onFalse(() -> System.out.println("Bye, Universe!"));
+ *
+ * public void greet(boolean isArriving) {
+ *     GREETING.execute(isArriving);
+ * }}</pre>
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ConditionalTemplate {
+
+    /**
+     * Template without any submitted actions.
+     */
+    private static final ConditionalTemplate EMPTY_TEMPLATE = new ConditionalTemplate(
+            new Action<?>[][]{new Action<?>[0], new Action<?>[0]}
+    );
+
+    /**
+     * Message of an {@link UndeterminedReturnValueException} thrown by {@code get(...)} methods.
+     */
+    private static final String UNDETERMINED_RETURN_VALUE_MESSAGE =
+            "To use a get(...) method for a given ConditionalTemplate and value, exactly one " +
+            "action must be bound to that value. This condition hasn't been met";
+
+    /**
+     * Actions of this template, indexed with {@link BooleanIndex#of(boolean)}
+     * by the value to which actions stored in a given array are bound.
+     * Neither the outer nor the inner arrays are ever modified.
+     */
+    private final Action<?>[][] actionsByValue;
+
+    /**
+     * Constructs an instance of a {@link ConditionalTemplate} with the passed actions.
+     * @param actionsByValue actions of the created template, indexed with {@link BooleanIndex#of(boolean)}
+     *                       by the value to which actions stored in a given array are bound
+     */
+    private ConditionalTemplate(Action<?>[][] actionsByValue) {
+        this.actionsByValue = actionsByValue;
+    }
+
+    /**
+     * Returns a template without any submitted actions.
+     * @return template without any submitted actions
+     */
+    @Nonnull
+    public static ConditionalTemplate template() {
+        return EMPTY_TEMPLATE;
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        RETRIEVING DATA                                                 -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Retrieves by reference all actions submitted to this template and bound to a {@code true} value.
+     * @return unmodifiable {@link List} of all actions submitted to this template
+     *         and bound to a {@code true} value
+     */
+    @Nonnull
+    @SuppressWarnings("squid:S1452")
+    public List<Action<?>> actionsOnTrue() {
+        return Collections.unmodifiableList(Arrays.asList(actionsFor(TRUE)));
+    }
+
+    /**
+     * Retrieves by reference all actions submitted to this template and bound to a {@code false} value.
+     * @return unmodifiable {@link List} of all actions submitted to this template
+     *         and bound to a {@code false} value
+     */
+    @Nonnull
+    @SuppressWarnings("squid:S1452")
+    public List<Action<?>> actionsOnFalse() {
+        return Collections.unmodifiableList(Arrays.asList(actionsFor(FALSE)));
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        ACTIONS SUBMISSION                                              -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a {@code true} value. This template remains unchanged.
+     * <p>
+     * The submitted {@link Callable} is wrapped into an instance of an {@link Action}
+     * via an {@link Action#Action(Callable)} constructor.
+     * @param actionOnTrue action that should be bound to a {@code true} value
+     * @param <T> type of value returned in the result of submitted action execution
+     * @return new template with the submitted action
+     */
+    @Nonnull
+    public <T> ConditionalTemplate onTrue(@Nonnull Callable<T> actionOnTrue) {
+        return with(new Action<>(actionOnTrue), TRUE);
+    }
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a {@code true} value. This template remains unchanged.
+     * <p>
+     * The submitted {@link Runnable} is wrapped into an instance of an {@link Action}
+     * via an {@link Action#Action(Runnable)} constructor.
+     * @param actionOnTrue action that should be bound to a {@code true} value
+     * @return new template with the submitted action
+     */
+    @Nonnull
+    public ConditionalTemplate onTrue(@Nonnull Runnable actionOnTrue) {
+        return with(new Action<>(actionOnTrue), TRUE);
+    }
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a {@code true} value. This template remains unchanged.
+     * @param actionOnTrue action that should be bound to a {@code true} value
+     * @param <T> type of value returned in the result of submitted action execution
+     * @return new template with the submitted action
+     */
+    @Nonnull
+    public <T> ConditionalTemplate onTrue(@Nonnull Action<T> actionOnTrue) {
+        return with(actionOnTrue, TRUE);
+    }
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a {@code false} value. This template remains unchanged.
+     * <p>
+     * The submitted {@link Callable} is wrapped into an instance of an {@link Action}
+     * via an {@link Action#Action(Callable)} constructor.
+     * @param actionOnFalse action that should be bound to a {@code false} value
+     * @param <T> type of value returned in the result of submitted action execution
+     * @return new template with the submitted action
+     */
+    @Nonnull
+    public <T> ConditionalTemplate onFalse(@Nonnull Callable<T> actionOnFalse) {
+        return with(new Action<>(actionOnFalse), FALSE);
+    }
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a {@code false} value. This template remains unchanged.
+     * <p>
+     * The submitted {@link Runnable} is wrapped into an instance of an {@link Action}
+     * via an {@link Action#Action(Runnable)} constructor.
+     * @param actionOnFalse action that should be bound to a {@code false} value
+     * @return new template with the submitted action
+     */
+    @Nonnull
+    public ConditionalTemplate onFalse(@Nonnull Runnable actionOnFalse) {
+        return with(new Action<>(actionOnFalse), FALSE);
+    }
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a {@code false} value. This template remains unchanged.
+     * @param actionOnFalse action that should be bound to a {@code false} value
+     * @param <T> type of value returned in the result of submitted action execution
+     * @return new template with the submitted action
+     */
+    @Nonnull
+    public <T> ConditionalTemplate onFalse(@Nonnull Action<T> actionOnFalse) {
+        return with(actionOnFalse, FALSE);
+    }
+
+    /**
+     * Returns a new template with all actions of this template and the passed action,
+     * bound to a specified value. This template remains unchanged.
+     * @param actionToAdd action that should be bound to a specified value
+     * @param valueToWhichActionMustBeBoundTo value to which the passed action should be bound to
+     * @return new template with the passed action
+     */
+    private ConditionalTemplate with(Action<?> actionToAdd, boolean valueToWhichActionMustBeBoundTo) {
+        int boundIndex = BooleanIndex.of(valueToWhichActionMustBeBoundTo);
+        Action<?>[] actionsForValue = actionsByValue[boundIndex];
+        Action<?>[] extendedActionsForValue = Arrays.copyOf(actionsForValue, actionsForValue.length + 1);
+        extendedActionsForValue[actionsForValue.length] = actionToAdd;
+        Action<?>[][] extendedActionsByValue = actionsByValue.clone();
+        extendedActionsByValue[boundIndex] = extendedActionsForValue;
+        return new ConditionalTemplate(extendedActionsByValue);
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        EXECUTION OPERATIONS                                            -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Executes all actions submitted to this template and bound to the passed value.
+     * <p>
+     * Execution is performed subsequently, starting from the first submitted action,
+     * the same way as described in documentation for {@link Conditional#execute()}.
+     * If there are no actions bound to the passed value, then nothing happens.
+     * @param value value for which bound actions should be executed
+     * @return this template after this method call
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public ConditionalTemplate execute(boolean value) {
+        Action<?>[] actionsForValue = actionsFor(value);
+        for (Action<?> action : actionsForValue) {
+            action.execute();
+        }
+        return this;
+    }
+
+    /**
+     * Executes a unary action submitted to this template and bound to the passed value and
+     * returns a return value that is produced in the result of that execution, cast into a specified type.
+     * <p>
+     * Execution is performed the same way as described in documentation for
+     * {@link Conditional#get(Class)}.
+     * @param value value for which a bound action should be executed
+     * @param typeToGet {@link Class} representing a type ({@code <T>}) to which the return value will be cast into
+     * @param <T> type to which the return value will be cast into
+     * @return return value that is produced in the result of execution of a unary action bound to the passed
+     *         value and cast into a specified type ({@code typeToGet}); if {@code null} is produced, then
+     *         {@code null} is returned regardless of the passed {@code typeToGet}
+     * @throws UndeterminedReturnValueException if not exactly one action is bound to the passed value
+     * @throws MismatchedReturnTypeException if a return value cannot be cast into a specified type
+     *                                       ({@code typeToGet}) due to {@link ClassCastException}
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nullable
+    @SuppressWarnings("JavadocDeclaration")
+    public <T> T get(boolean value, @Nonnull Class<T> typeToGet) {
+        Action<?>[] actionsForValue = actionsFor(value);
+        Conditional.isTrueOrThrowLazily(actionsForValue.length == 1,
+                () -> new UndeterminedReturnValueException(UNDETERMINED_RETURN_VALUE_MESSAGE));
+        Action<?> unaryAction = actionsForValue[0];
+        return unaryAction.get(typeToGet);
+    }
+
+    /**
+     * Retrieves actions submitted to this template and bound to the passed value.
+     * @param boundValue value to which retrieved actions are bound
+     * @return array (by reference) with actions submitted to this template and bound to the passed value
+     */
+    private Action<?>[] actionsFor(boolean boundValue) {
+        return actionsByValue[BooleanIndex.of(boundValue)];
+    }
+}
@@ -0,0 +1,281 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.experimental.UtilityClass;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Combinators of lazily evaluated conditions, represented by {@link BooleanCallable}s. Combined
+ * conditions are {@link BooleanCallable}s as well, so they can be passed to
+ * {@link Conditional#conditional(BooleanCallable)} or combined further.
+ * <p>
+ * Conditions combined via {@link Conditions#allOf(BooleanCallable...)} and
+ * {@link Conditions#anyOf(BooleanCallable...)} are evaluated with short-circuit semantics, but not
+ * necessarily in the passed order: the order is adapted at runtime to the observed cost and selectivity
+ * of combined conditions, so that cheap conditions that are likely to decide the result are evaluated
+ * first. Therefore, combined conditions should be free of side effects and shouldn't depend on each other,
+ * e.g. a null check shouldn't be combined with a condition that dereferences the checked value.
+ * <p>
+ * Conditions combined via {@link Conditions#allOfParallel(Executor, BooleanCallable...)} and
+ * {@link Conditions#anyOfParallel(Executor, BooleanCallable...)} are evaluated concurrently, which suits
+ * independent and slow conditions, e.g. remote lookups. Evaluation short-circuits as soon as
+ * the result is decided, and cancels conditions that are still being evaluated.
+ * <p>
+ * Conditions bounded via {@link Conditions#withTimeout(BooleanCallable, Duration, boolean)} are evaluated
+ * within a time budget and fall back to a default value if they are too slow.
+ * <p>
+ * Conditions cached via {@link Conditions#cached(BooleanCallable, Duration)} are evaluated once per time
+ * to live and refreshed ahead of expiry, which suits expensive conditions that change rarely,
+ * e.g. feature flags.
+ * <p>
+ * Example:<pre>{@code
+ * import static eu.ciechanowiec.conditional.Conditions.*;
+ *
+ * conditional(allOf(() -> isFraudSuspected(payment), () -> payment.amount() > LIMIT))
+ *         .onTrue(() -> block(payment))
+ *         .execute();
+ * }</pre>
+ */
+@UtilityClass
+@SuppressWarnings("WeakerAccess")
+public class Conditions {
+
+    /**
+     * One in how many evaluations of a combined condition is profiled.
+     */
+    private static final int SAMPLING_PERIOD = 32;
+
+    /**
+     * Part of the time to live of a cached condition in which the condition is refreshed ahead of expiry
+     * by default: the value of {@code 4} means that it is refreshed in the last quarter of the time to live.
+     */
+    private static final int REFRESH_AHEAD_DIVISOR = 4;
+
+    /**
+     * Returns a condition that is {@code true} if all the passed conditions are {@code true}.
+     * <p>
+     * Conditions are evaluated until one of them is {@code false}, in the order adapted
+     * at runtime to their observed cost and probability of being {@code false}.
+     * @param conditions conditions to combine
+     * @return condition that is {@code true} if all the passed conditions are {@code true};
+     *         if no conditions are passed, the returned condition is always {@code true}
+     */
+    @Nonnull
+    public BooleanCallable allOf(@Nonnull BooleanCallable... conditions) {
+        return new AdaptiveCondition(false, SAMPLING_PERIOD, conditions);
+    }
+
+    /**
+     * Returns a condition that is {@code true} if any of the passed conditions is {@code true}.
+     * <p>
+     * Conditions are evaluated until one of them is {@code true}, in the order adapted
+     * at runtime to their observed cost and probability of being {@code true}.
+     * @param conditions conditions to combine
+     * @return condition that is {@code true} if any of the passed conditions is {@code true};
+     *         if no conditions are passed, the returned condition is always {@code false}
+     */
+    @Nonnull
+    public BooleanCallable anyOf(@Nonnull BooleanCallable... conditions) {
+        return new AdaptiveCondition(true, SAMPLING_PERIOD, conditions);
+    }
+
+    /**
+     * Returns a condition that is {@code true} if all the passed conditions are {@code true}, and evaluates
+     * the passed conditions concurrently on the passed {@link Executor}.
+     * <p>
+     * As soon as one of the conditions is {@code false}, the returned condition is {@code false} and
+     * the conditions that are still being evaluated are cancelled: the running ones are interrupted,
+     * the pending ones are never started, and the ones not submitted yet are never submitted.
+     * Evaluation returns only after the result is decided. If a condition
+     * throws an {@link Exception} before any condition is {@code false}, that {@link Exception} is rethrown
+     * and all other conditions are cancelled as well.
+     * @param executor {@link Executor} used to evaluate the passed conditions
+     * @param conditions independent conditions to combine
+     * @return condition that is {@code true} if all the passed conditions are {@code true};
+     *         if no conditions are passed, the returned condition is always {@code true}
+     */
+    @Nonnull
+    public BooleanCallable allOfParallel(@Nonnull Executor executor, @Nonnull BooleanCallable... conditions) {
+        return new ParallelCondition(false, List.of(conditions), executor);
+    }
+
+    /**
+     * Returns a condition that is {@code true} if any of the passed conditions is {@code true}, and evaluates
+     * the passed conditions concurrently on the passed {@link Executor}.
+     * <p>
+     * As soon as one of the conditions is {@code true}, the returned condition is {@code true} and
+     * the conditions that are still being evaluated are cancelled: the running ones are interrupted,
+     * the pending ones are never started, and the ones not submitted yet are never submitted.
+     * Evaluation returns only after the result is decided. If a condition
+     * throws an {@link Exception} before any condition is {@code true}, that {@link Exception} is rethrown
+     * and all other conditions are cancelled as well.
+     * @param executor {@link Executor} used to evaluate the passed conditions
+     * @param conditions independent conditions to combine
+     * @return condition that is {@code true} if any of the passed conditions is {@code true};
+     *         if no conditions are passed, the returned condition is always {@code false}
+     */
+    @Nonnull
+    public BooleanCallable anyOfParallel(@Nonnull Executor executor, @Nonnull BooleanCallable... conditions) {
+        return new ParallelCondition(true, List.of(conditions), executor);
+    }
+
+    /**
+     * Returns a condition that evaluates the passed condition within the passed time budget ({@link Duration})
+     * and falls back to the passed default value if the budget is spent before the evaluation finishes.
+     * <p>
+     * This method behaves the same way as {@link Conditions#withTimeout(BooleanCallable, Duration, boolean,
+     * OverrunPolicy)} called with {@link OverrunPolicy#INTERRUPT}.
+     * @param condition condition to evaluate
+     * @param timeout time budget for a single evaluation of the passed condition
+     * @param fallbackValue value of the returned condition if the time budget is spent
+     *                      before an evaluation finishes
+     * @return condition that evaluates the passed condition within the passed time budget
+     */
+    @Nonnull
+    public TimedCondition withTimeout(@Nonnull BooleanCallable condition, @Nonnull Duration timeout,
+                                      boolean fallbackValue) {
+        return withTimeout(condition, timeout, fallbackValue, OverrunPolicy.INTERRUPT);
+    }
+
+    /**
+     * Returns a condition that evaluates the passed condition within the passed time budget ({@link Duration})
+     * and falls back to the passed default value if the budget is spent before the evaluation finishes.
+     * <p>
+     * This method behaves the same way as {@link Conditions#withTimeout(BooleanCallable, Duration, boolean,
+     * OverrunPolicy, Executor)} called with the same dedicated {@link ForkJoinPool} as in case of
+     * {@link Conditional#executeParallel()}. Since the pool is shared by all conditionals, evaluations that
+     * keep running after the budget is spent occupy threads of the pool that other executions need;
+     * in order to isolate such evaluations, use a dedicated {@link Executor}.
+     * @param condition condition to evaluate
+     * @param timeout time budget for a single evaluation of the passed condition
+     * @param fallbackValue value of the returned condition if the time budget is spent
+     *                      before an evaluation finishes
+     * @param overrunPolicy policy applied to an evaluation that is still running when the budget is spent
+     * @return condition that evaluates the passed condition within the passed time budget
+     */
+    @Nonnull
+    public TimedCondition withTimeout(@Nonnull BooleanCallable condition, @Nonnull Duration timeout,
+                                      boolean fallbackValue, @Nonnull OverrunPolicy overrunPolicy) {
+        return withTimeout(condition, timeout, fallbackValue, overrunPolicy, ParallelExecution.DEFAULT_POOL);
+    }
+
+    /**
+     * Returns a condition that evaluates the passed condition within the passed time budget ({@link Duration})
+     * and falls back to the passed default value if the budget is spent before the evaluation finishes.
+     * <p>
+     * Every evaluation is performed as a separate task of the passed {@link Executor}. An evaluation that
+     * is still running when the budget is spent is handled according to the passed {@link OverrunPolicy}
+     * and keeps occupying a thread of the passed {@link Executor} until it finishes, if it is abandoned
+     * or doesn't respond to interruption. The returned condition
+     * counts its evaluations and fallbacks, and can be evaluated both in the blocking style,
+     * e.g. via {@link Conditional#conditional(BooleanCallable)}, and in the non-blocking style,
+     * via {@link TimedCondition#callAsync()}.
+     * <p>
+     * Example:<pre>{@code
+     * TimedCondition isPremium = withTimeout(() -> accounts.isPremium(user), Duration.ofMillis(50), false);
+     * conditional(isPremium)
+     *         .onTrue(() -> showPremiumOffer(user))
+     *         .execute();
+     * }</pre>
+     * @param condition condition to evaluate
+     * @param timeout time budget for a single evaluation of the passed condition
+     * @param fallbackValue value of the returned condition if the time budget is spent
+     *                      before an evaluation finishes
+     * @param overrunPolicy policy applied to an evaluation that is still running when the budget is spent
+     * @param executor {@link Executor} used to evaluate the passed condition
+     * @return condition that evaluates the passed condition within the passed time budget
+     */
+    @Nonnull
+    public TimedCondition withTimeout(@Nonnull BooleanCallable condition, @Nonnull Duration timeout,
+                                      boolean fallbackValue, @Nonnull OverrunPolicy overrunPolicy,
+                                      @Nonnull Executor executor) {
+        return new TimedCondition(condition, timeout, fallbackValue, overrunPolicy, executor);
+    }
+
+    /**
+     * Returns a condition that caches the value of the passed condition for the passed time to live
+     * and refreshes it asynchronously in the last quarter of the time to live.
+     * <p>
+     * This method behaves the same way as {@link Conditions#cached(BooleanCallable, Duration, Duration)}
+     * called with a quarter of the passed time to live as the refresh-ahead period.
+     * @param condition condition whose value should be cached
+     * @param timeToLive time after which the cached value expires
+     * @return condition that caches the value of the passed condition
+     * @throws IllegalArgumentException if the passed time to live is negative
+     */
+    @Nonnull
+    public CachedCondition cached(@Nonnull BooleanCallable condition, @Nonnull Duration timeToLive) {
+        return cached(condition, timeToLive, timeToLive.dividedBy(REFRESH_AHEAD_DIVISOR));
+    }
+
+    /**
+     * Returns a condition that caches the value of the passed condition for the passed time to live
+     * and refreshes it asynchronously ahead of its expiry.
+     * <p>
+     * This method behaves the same way as {@link Conditions#cached(BooleanCallable, Duration, Duration,
+     * Executor)} called with the same dedicated {@link ForkJoinPool} as in case of
+     * {@link Conditional#executeParallel()}. Since the pool is shared by all conditionals, a refresh
+     * that hangs occupies a thread of the pool that other executions need, while other executions that
+     * occupy the pool delay refreshes; in order to isolate refreshes, use a dedicated {@link Executor}.
+     * @param condition condition whose value should be cached
+     * @param timeToLive time after which the cached value expires
+     * @param refreshAhead period before the expiry of the cached value in which reads refresh
+     *                     that value asynchronously
+     * @return condition that caches the value of the passed condition
+     * @throws IllegalArgumentException if the passed time to live is negative or if the passed refresh-ahead
+     *         period is negative or longer than the passed time to live
+     */
+    @Nonnull
+    public CachedCondition cached(@Nonnull BooleanCallable condition, @Nonnull Duration timeToLive,
+                                  @Nonnull Duration refreshAhead) {
+        return cached(condition, timeToLive, refreshAhead, ParallelExecution.DEFAULT_POOL);
+    }
+
+    /**
+     * Returns a condition that caches the value of the passed condition for the passed time to live
+     * and refreshes it asynchronously ahead of its expiry.
+     * <p>
+     * Reads of the returned condition that happen within the passed refresh-ahead period before
+     * the expiry of the cached value, or after that expiry, return that value without waiting, and start
+     * its refresh as a separate task of the passed {@link Executor}. Only reads of a value that hasn't been loaded yet wait for
+     * the condition. If a refresh fails, the stale value is returned and the next refresh is attempted
+     * no sooner than after the refresh-ahead period. The returned condition counts cache hits, stale hits,
+     * misses, refreshes and failed refreshes.
+     * <p>
+     * Example:<pre>{@code
+     * CachedCondition isNewCheckoutEnabled = cached(() -> flags.isEnabled("new-checkout"),
+     *                                              Duration.ofSeconds(30));
+     * conditional(isNewCheckoutEnabled)
+     *         .onTrue(() -> newCheckout(cart))
+     *         .onFalse(() -> oldCheckout(cart))
+     *         .execute();
+     * }</pre>
+     * @param condition condition whose value should be cached
+     * @param timeToLive time after which the cached value expires
+     * @param refreshAhead period before the expiry of the cached value in which reads refresh
+     *                     that value asynchronously
+     * @param executor {@link Executor} used to refresh the cached value
+     * @return condition that caches the value of the passed condition
+     * @throws IllegalArgumentException if the passed time to live is negative or if the passed refresh-ahead
+     *         period is negative or longer than the passed time to live
+     */
+    @Nonnull
+    public CachedCondition cached(@Nonnull BooleanCallable condition, @Nonnull Duration timeToLive,
+                                  @Nonnull Duration refreshAhead, @Nonnull Executor executor) {
+        return new CachedCondition(condition, timeToLive, refreshAhead, executor, System::nanoTime);
+    }
+
+    /**
+     * Returns a condition that is {@code true} if the passed condition is {@code false}, and vice versa.
+     * @param condition condition to negate
+     * @return negation of the passed condition
+     */
+    @Nonnull
+    public BooleanCallable not(@Nonnull BooleanCallable condition) {
+        return () -> !condition.call();
+    }
+}
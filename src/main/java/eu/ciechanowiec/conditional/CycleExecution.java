@@ -0,0 +1,168 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Executes many cycles of {@link Action}s stored in an {@link ActionsList}, split into batches
+ * that are executed concurrently on a {@link ForkJoinPool}.
+ * <p>
+ * One worker per level of parallelism of the pool is started. Every worker repeatedly claims
+ * the next batch of cycles and executes it, until all batches are claimed. Since batches are claimed
+ * dynamically, workers that happen to be faster execute more batches. As soon as an {@link Action}
+ * fails, all workers stop claiming new batches.
+ */
+final class CycleExecution {
+
+    /**
+     * {@link ActionsList} whose {@link Action}s are executed in every cycle.
+     */
+    private final ActionsList actionsToExecute;
+
+    /**
+     * Amount of cycles to execute.
+     */
+    private final long cyclesToExecute;
+
+    /**
+     * Amount of cycles in a single batch.
+     */
+    private final int cyclesPerBatch;
+
+    /**
+     * Index of the first cycle of the batch that will be claimed next. It never exceeds the amount
+     * of cycles to execute, so it can't overflow.
+     */
+    private final AtomicLong nextBatchStart;
+
+    /**
+     * Amount of cycles executed so far by all workers.
+     */
+    private final LongAdder cyclesExecuted;
+
+    /**
+     * {@link Throwable}s thrown by executed {@link Action}s, in the order in which they were thrown.
+     */
+    private final Queue<Throwable> failures;
+
+    /**
+     * Informs whether workers should stop claiming new batches due to a failure.
+     */
+    private volatile boolean isStopped;
+
+    /**
+     * Constructs an instance of a {@link CycleExecution}.
+     * @param actionsToExecute {@link ActionsList} whose {@link Action}s should be executed in every cycle
+     * @param cyclesToExecute amount of cycles to execute
+     * @param cyclesPerBatch amount of cycles in a single batch
+     */
+    private CycleExecution(ActionsList actionsToExecute, long cyclesToExecute, int cyclesPerBatch) {
+        this.actionsToExecute = actionsToExecute;
+        this.cyclesToExecute = cyclesToExecute;
+        this.cyclesPerBatch = cyclesPerBatch;
+        nextBatchStart = new AtomicLong();
+        cyclesExecuted = new LongAdder();
+        failures = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Executes the specified amount of cycles of all {@link Action}s stored in the passed
+     * {@link ActionsList}, split into batches that are executed concurrently on the passed pool.
+     * @param actionsToExecute {@link ActionsList} whose {@link Action}s should be executed in every cycle
+     * @param cyclesToExecute amount of cycles to execute
+     * @param cyclesPerBatch amount of cycles in a single batch; must be positive
+     * @param pool {@link ForkJoinPool} where batches should be executed
+     * @return report on the performed execution
+     * @throws IllegalArgumentException if the passed amount of cycles in a single batch isn't positive
+     * @throws Throwable the first {@link Throwable} thrown by an {@link Action}; all {@link Throwable}s
+     *         thrown afterwards are attached to it as suppressed exceptions
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    static CycleReport execute(ActionsList actionsToExecute, long cyclesToExecute,
+                               int cyclesPerBatch, ForkJoinPool pool) {
+        Conditional.isTrueOrThrowLazily(cyclesPerBatch > 0, () -> new IllegalArgumentException(
+                String.format("Amount of cycles in a batch must be positive, but was %d", cyclesPerBatch)
+        ));
+        CycleExecution execution = new CycleExecution(actionsToExecute, cyclesToExecute, cyclesPerBatch);
+        long start = System.nanoTime();
+        List<ForkJoinTask<?>> workers = Stream.generate(() -> ForkJoinTask.adapt(execution::work))
+                                              .limit(pool.getParallelism())
+                                              .collect(Collectors.toList());
+        workers.forEach(pool::execute);
+        workers.forEach(ForkJoinTask::join);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Conditional.onFalseExecute(execution.failures.isEmpty(), execution::throwFirstFailure);
+        return new CycleReport(execution.cyclesExecuted.sum(), elapsed);
+    }
+
+    /**
+     * Claims and executes batches of cycles until all batches are claimed or execution is stopped.
+     * If an {@link Action} fails, execution is stopped and the failure is recorded.
+     */
+    @SuppressWarnings({"squid:S1181", "OverlyBroadCatchBlock"})
+    private void work() {
+        long cyclesExecutedByWorker = 0;
+        try {
+            long batchStart = nextBatchStart.getAndUpdate(this::batchEnd);
+            while (!isStopped && batchStart < cyclesToExecute) {
+                long batchEnd = batchEnd(batchStart);
+                for (long cycle = batchStart; cycle < batchEnd; cycle++) {
+                    actionsToExecute.executeAll();
+                    cyclesExecutedByWorker++;
+                }
+                batchStart = nextBatchStart.getAndUpdate(this::batchEnd);
+            }
+        } catch (Throwable failure) {
+            isStopped = true;
+            failures.add(failure);
+        } finally {
+            cyclesExecuted.add(cyclesExecutedByWorker);
+        }
+    }
+
+    /**
+     * Returns the index following the last cycle of the batch that starts at the passed index.
+     * @param batchStart index of the first cycle of the batch
+     * @return index following the last cycle of the batch that starts at the passed index
+     */
+    private long batchEnd(long batchStart) {
+        return batchEnd(batchStart, cyclesPerBatch, cyclesToExecute);
+    }
+
+    /**
+     * Returns the index following the last cycle of the batch that starts at the passed index.
+     * The returned index never exceeds the amount of cycles to execute, unless that amount is negative,
+     * in which case the passed index is returned, so it can't overflow even if the amount of cycles
+     * to execute is close to {@link Long#MAX_VALUE}.
+     * @param batchStart index of the first cycle of the batch; must not exceed the amount of cycles
+     *                   to execute, unless that amount is negative, in which case it must be zero
+     * @param cyclesPerBatch amount of cycles in a single batch
+     * @param cyclesToExecute amount of cycles to execute
+     * @return index following the last cycle of the batch that starts at the passed index
+     */
+    static long batchEnd(long batchStart, int cyclesPerBatch, long cyclesToExecute) {
+        long cyclesLeft = Math.max(cyclesToExecute - batchStart, 0);
+        return batchStart + Math.min(cyclesPerBatch, cyclesLeft);
+    }
+
+    /**
+     * Throws the first {@link Throwable} thrown by an {@link Action},
+     * with all subsequent ones attached to it as suppressed exceptions.
+     */
+    @SneakyThrows
+    private void throwFirstFailure() {
+        Throwable firstFailure = failures.remove();
+        failures.forEach(firstFailure::addSuppressed);
+        throw firstFailure;
+    }
+}
@@ -0,0 +1,64 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable report on execution of cycles of actions via {@link Conditional#executeCycles(long, int)}.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CycleReport {
+
+    /**
+     * Amount of cycles that were executed.
+     */
+    private final long cyclesExecuted;
+
+    /**
+     * Time it took to execute all cycles, measured by the thread that requested execution.
+     */
+    private final Duration elapsed;
+
+    /**
+     * Constructs an instance of a {@link CycleReport}.
+     * @param cyclesExecuted amount of cycles that were executed
+     * @param elapsed time it took to execute all cycles
+     */
+    CycleReport(long cyclesExecuted, Duration elapsed) {
+        this.cyclesExecuted = cyclesExecuted;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the amount of cycles that were executed.
+     * @return amount of cycles that were executed
+     */
+    public long cyclesExecuted() {
+        return cyclesExecuted;
+    }
+
+    /**
+     * Returns the time it took to execute all cycles, measured by the thread that requested execution.
+     * @return time it took to execute all cycles
+     */
+    @Nonnull
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the throughput of execution, i.e. the amount of cycles executed per second.
+     * @return amount of cycles executed per second; if no time elapsed, then the elapsed
+     *         time is assumed to be one nanosecond
+     */
+    public double cyclesPerSecond() {
+        long elapsedNanos = Math.max(elapsed.toNanos(), 1);
+        return (double) cyclesExecuted * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d cycles in %s (%.0f cycles/s)", cyclesExecuted, elapsed, cyclesPerSecond());
+    }
+}
@@ -0,0 +1,107 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Boolean value described by a {@link Conditional}, which is either known upfront or evaluated lazily
+ * from a {@link BooleanCallable} at most once, when it is needed for the first time.
+ * <p>
+ * A value known upfront is a plain {@code boolean}, so retrieving it costs a single field read.
+ * A lazy value is evaluated by a {@link FutureTask}: if many threads need the value at once, only one
+ * of them evaluates it, while the others wait until the evaluation finishes. The result of the evaluation,
+ * including an {@link Exception} thrown by it, is published safely to all threads and is reused afterwards.
+ */
+abstract class DescribedValue {
+
+    /**
+     * Values known upfront, indexed with {@link BooleanIndex#of(boolean)}. They are shared between
+     * all {@link Conditional}s describing a given value.
+     */
+    private static final DescribedValue[] KNOWN_VALUES = {new KnownValue(false), new KnownValue(true)};
+
+    /**
+     * Returns a value known upfront.
+     * @param value value known upfront
+     * @return value known upfront, shared between all {@link Conditional}s describing that value
+     */
+    static DescribedValue known(boolean value) {
+        return KNOWN_VALUES[BooleanIndex.of(value)];
+    }
+
+    /**
+     * Returns a value evaluated lazily from the passed {@link BooleanCallable}.
+     * @param condition entity that evaluates the returned value
+     * @return value evaluated lazily from the passed {@link BooleanCallable}
+     */
+    static DescribedValue lazy(BooleanCallable condition) {
+        return new LazyValue(condition);
+    }
+
+    /**
+     * Returns this value. If this value hasn't been evaluated yet, it is evaluated by the current thread,
+     * or, if another thread is evaluating it at the moment, the current thread waits for that evaluation.
+     * @return this value
+     * @throws Exception if an {@link Exception} during evaluation of this value was thrown;
+     *         the same {@link Exception} is thrown by all subsequent calls of this method
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    abstract boolean get();
+
+    /**
+     * Value known upfront.
+     */
+    private static final class KnownValue extends DescribedValue {
+
+        /**
+         * This value.
+         */
+        private final boolean value;
+
+        /**
+         * Constructs an instance of a {@link KnownValue}.
+         * @param value value known upfront
+         */
+        private KnownValue(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean get() {
+            return value;
+        }
+    }
+
+    /**
+     * Value evaluated lazily from a {@link BooleanCallable}.
+     */
+    private static final class LazyValue extends DescribedValue {
+
+        /**
+         * Evaluation of this value.
+         */
+        private final FutureTask<Boolean> evaluation;
+
+        /**
+         * Constructs an instance of a {@link LazyValue} that is evaluated from the passed {@link BooleanCallable}.
+         * @param condition entity that evaluates the constructed value
+         */
+        private LazyValue(BooleanCallable condition) {
+            evaluation = new FutureTask<>(condition::call);
+        }
+
+        @Override
+        @SneakyThrows
+        @SuppressWarnings("JavadocDeclaration")
+        boolean get() {
+            evaluation.run();
+            try {
+                return evaluation.get();
+            } catch (ExecutionException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link ActionsList} that discards all submitted {@link Action}s, hence is always empty.
+ * <p>
+ * It is used by a pruned {@link Conditional} for the value that isn't described by that
+ * {@link Conditional}: actions bound to that value can never be executed, so they are
+ * dropped right away. Submitted {@link Callable}s, {@link Runnable}s and their primitive
+ * specializations are dropped without being wrapped into an {@link Action}.
+ * <p>
+ * Since it never stores anything, it is stateless and a single instance can be shared
+ * between all pruned {@link Conditional}s.
+ */
+class DiscardingActionsList extends ActionsList {
+
+    /**
+     * Constructs an instance of a {@link DiscardingActionsList}.
+     */
+    @SuppressWarnings("RedundantNoArgConstructor")
+    DiscardingActionsList() {
+        // Constructor to keep javadoc
+    }
+
+    /**
+     * Discards the passed {@link Action}.
+     * @param actionToAdd {@link Action} to discard
+     * @param <T> type of value returned in the result of submitted action execution
+     */
+    @Override
+    <T> void add(Action<T> actionToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Discards the passed {@link Callable} without wrapping it into an {@link Action}.
+     * @param callableToAdd {@link Callable} to discard
+     * @param <T> type of value returned in the result of submitted action execution
+     */
+    @Override
+    <T> void add(Callable<T> callableToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Discards the passed {@link Runnable} without wrapping it into an {@link Action}.
+     * @param runnableToAdd {@link Runnable} to discard
+     */
+    @Override
+    void add(Runnable runnableToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Discards the passed {@link IntCallable} without wrapping it into an {@link Action}.
+     * @param callableToAdd {@link IntCallable} to discard
+     */
+    @Override
+    void add(IntCallable callableToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Discards the passed {@link LongCallable} without wrapping it into an {@link Action}.
+     * @param callableToAdd {@link LongCallable} to discard
+     */
+    @Override
+    void add(LongCallable callableToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Discards the passed {@link DoubleCallable} without wrapping it into an {@link Action}.
+     * @param callableToAdd {@link DoubleCallable} to discard
+     */
+    @Override
+    void add(DoubleCallable callableToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Discards the passed {@link BooleanCallable} without wrapping it into an {@link Action}.
+     * @param callableToAdd {@link BooleanCallable} to discard
+     */
+    @Override
+    void add(BooleanCallable callableToAdd) {
+        // Discarded by design
+    }
+
+    /**
+     * Always throws, since this actions list is always empty.
+     * @return never returns normally
+     * @throws NoSuchElementException always
+     */
+    @Override
+    Action<?> getFirst() {
+        throw new NoSuchElementException("Actions list is empty. Nothing to return");
+    }
+
+    /**
+     * Informs that this actions list doesn't store exactly one action, since it is always empty.
+     * @return always {@code false}
+     */
+    @Override
+    boolean isExactlyOneActionInList() {
+        return false;
+    }
+
+    /**
+     * Informs that this actions list doesn't store any action, since it is always empty.
+     * @return always {@code true}
+     */
+    @Override
+    boolean isEmpty() {
+        return true;
+    }
+
+    /**
+     * Does nothing, since this actions list is always empty.
+     */
+    @Override
+    void clear() {
+        // Nothing to clear
+    }
+
+    /**
+     * Retrieves an empty {@link List}, since this actions list is always empty.
+     * @return empty unmodifiable {@link List}
+     */
+    @Nonnull
+    @Override
+    public List<Action<?>> getAll() {
+        return List.of();
+    }
+
+    /**
+     * Does nothing, since this actions list is always empty.
+     */
+    @Override
+    void executeAll() {
+        // Nothing to execute
+    }
+}
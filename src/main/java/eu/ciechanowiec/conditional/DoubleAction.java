@@ -0,0 +1,55 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link Action} based on a {@link DoubleCallable}, that returns its result
+ * via {@link DoubleAction#getAsDouble()} without boxing it into {@link Double}.
+ * <p>
+ * The result is boxed only if it is retrieved via generic {@code get(...)} methods.
+ */
+class DoubleAction extends Action<Double> {
+
+    /**
+     * An underlying {@link DoubleCallable} instance used as an engine of this action.
+     */
+    @Nonnull
+    private final DoubleCallable primitiveEngine;
+
+    /**
+     * Constructs an action based on the passed {@link DoubleCallable}.
+     * @param primitiveEngine entity used for method calls of a constructed action
+     */
+    DoubleAction(@Nonnull DoubleCallable primitiveEngine) {
+        super(primitiveEngine::call);
+        this.primitiveEngine = primitiveEngine;
+    }
+
+    /**
+     * Executes this action without boxing its result.
+     * <p>
+     * For details on the execution see documentation for {@link Action#execute()}.
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public void execute() {
+        primitiveEngine.call();
+    }
+
+    /**
+     * Executes this action and returns a {@code double} value produced in the result
+     * of that execution, without boxing it into {@link Double}.
+     * @return {@code double} value produced in the result of execution of this action
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public double getAsDouble() {
+        return primitiveEngine.call();
+    }
+}
@@ -0,0 +1,23 @@
+package eu.ciechanowiec.conditional;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Functional interface that takes any command, runs it and returns a {@code double} result.
+ * <p>
+ * It is a primitive specialization of a {@link Callable}: the result is returned as a primitive
+ * {@code double}, so it is never boxed into {@link Double}. Like a {@link Callable}, its unary
+ * {@link DoubleCallable#call()} method has an {@link Exception} specified in the method declaration
+ * within a {@code throws...} clause.
+ */
+@FunctionalInterface
+public interface DoubleCallable {
+
+    /**
+     * Takes any command, runs it and returns a {@code double} result.
+     * @return {@code double} result produced by the run command(s)
+     * @throws Exception if during the run of the passed command(s) an {@link Exception} occurred
+     */
+    @SuppressWarnings("squid:S112")
+    double call() throws Exception;
+}
@@ -1,5 +1,7 @@
 package eu.ciechanowiec.conditional;
 
+import java.util.function.Supplier;
+
 /**
  * Entity that throws or swallows passed
  * {@link Exception}s, depending on the implementation.
@@ -19,4 +21,20 @@ interface ExceptionThrower {
     default <T extends Exception> void throwIfActive(T exceptionToThrowOrSwallow) throws T {
         throw new UnsupportedOperationException("The method hasn't been implemented");
     }
+
+    /**
+     * Throws an {@link Exception} produced by the passed {@link Supplier}
+     * if this exception thrower is of active type.
+     * <p>
+     * Otherwise, the passed {@link Supplier} isn't called at all, so no {@link Exception}
+     * is constructed, i.e. the call of this method has no effects.
+     * @param exceptionSupplier supplier of an exception to be thrown
+     * @param <T> type of the supplied exception
+     * @throws T if this exception thrower is of active type
+     * @throws UnsupportedOperationException if this method hasn't been implemented
+     *                                       by this exception thrower
+     */
+    default <T extends Exception> void throwSuppliedIfActive(Supplier<? extends T> exceptionSupplier) throws T {
+        throw new UnsupportedOperationException("The method hasn't been implemented");
+    }
 }
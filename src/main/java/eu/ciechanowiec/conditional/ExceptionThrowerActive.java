@@ -1,6 +1,7 @@
 package eu.ciechanowiec.conditional;
 
 import javax.annotation.Nonnull;
+import java.util.function.Supplier;
 
 /**
  * Entity that throws an {@link Exception} when
@@ -23,4 +24,12 @@ class ExceptionThrowerActive implements ExceptionThrower {
     public <T extends Exception> void throwIfActive(@Nonnull T exceptionToThrowOrSwallow) throws T {
         throw exceptionToThrowOrSwallow;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Exception> void throwSuppliedIfActive(@Nonnull Supplier<? extends T> exceptionSupplier) throws T {
+        throw exceptionSupplier.get();
+    }
 }
@@ -1,6 +1,7 @@
 package eu.ciechanowiec.conditional;
 
 import javax.annotation.Nullable;
+import java.util.function.Supplier;
 
 /**
  * Entity that does nothing when an implemented method is called.
@@ -22,4 +23,12 @@ class ExceptionThrowerVoid implements ExceptionThrower {
     public <T extends Exception> void throwIfActive(@Nullable T exceptionToThrowOrSwallow) throws T {
         // Do nothing
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Exception> void throwSuppliedIfActive(@Nullable Supplier<? extends T> exceptionSupplier) throws T {
+        // Do nothing
+    }
 }
@@ -0,0 +1,222 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Executes {@link Action}s concurrently within a scope that fails fast: as soon as one
+ * of executed {@link Action}s fails, all other {@link Action}s of that scope are cancelled.
+ * <p>
+ * The scope is structured: execution returns only after all {@link Action}s of the scope
+ * finished, either normally, exceptionally or due to cancellation. Hence, no {@link Action}
+ * of the scope keeps running after execution returned.
+ */
+final class FailFastExecution {
+
+    /**
+     * Tasks executing {@link Action}s of this scope, one task per {@link Action}.
+     */
+    private final List<Task> tasks;
+
+    /**
+     * {@link Throwable}s thrown by {@link Action}s of this scope, in the order in which they were thrown.
+     */
+    private final Queue<Throwable> failures;
+
+    /**
+     * Latch released when all tasks of this scope finished: the started ones after their {@link Action}s
+     * returned, the ones that were never started after they had been cancelled.
+     */
+    private final CountDownLatch finished;
+
+    /**
+     * Constructs a scope for execution of the passed {@link Action}s.
+     * @param actionsToExecute {@link Action}s to execute within the created scope
+     */
+    private FailFastExecution(List<Action<?>> actionsToExecute) {
+        tasks = actionsToExecute.stream()
+                                .map(Task::new)
+                                .collect(Collectors.toList());
+        failures = new ConcurrentLinkedQueue<>();
+        finished = new CountDownLatch(tasks.size());
+    }
+
+    /**
+     * Executes all passed {@link Action}s concurrently via the passed {@link Executor} and waits
+     * until all of them finish. As soon as one of the passed {@link Action}s fails, all other
+     * {@link Action}s are cancelled: the running ones are interrupted, the pending ones are never started,
+     * and the ones not submitted yet are never submitted. Cancelled pending {@link Action}s aren't waited for,
+     * so this method returns even if the passed {@link Executor} drops them without running.
+     * @param actionsToExecute {@link Action}s to execute
+     * @param executor {@link Executor} used to execute the passed {@link Action}s
+     * @throws Throwable the first {@link Throwable} thrown by one of the passed {@link Action}s (also
+     *         a {@link RejectedExecutionException} thrown by the passed {@link Executor}); all
+     *         {@link Throwable}s thrown afterwards, including the ones caused by cancellation, are
+     *         attached to it as suppressed exceptions
+     * @throws InterruptedException if the current thread was interrupted while waiting; in that case,
+     *         all passed {@link Action}s are cancelled as well and this method returns only after
+     *         the running ones finished, with the interrupt status of the current thread restored
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    @SneakyThrows(InterruptedException.class)
+    static void executeAll(List<Action<?>> actionsToExecute, Executor executor) {
+        FailFastExecution execution = new FailFastExecution(actionsToExecute);
+        execution.tasks.stream()
+                       .takeWhile(task -> execution.failures.isEmpty())
+                       .forEach(task -> task.submitTo(executor));
+        execution.awaitAll();
+        Conditional.onFalseExecute(execution.failures.isEmpty(), execution::throwFirstFailure);
+    }
+
+    /**
+     * Waits until all tasks of this scope finish. If the current thread is interrupted
+     * while waiting, all tasks of this scope are cancelled and the running ones are still
+     * waited for, uninterruptibly, so that none of them keeps running after this method returned.
+     * @throws InterruptedException if the current thread was interrupted while waiting;
+     *         the interrupt status of the current thread is restored before it is thrown
+     */
+    private void awaitAll() throws InterruptedException {
+        try {
+            finished.await();
+        } catch (InterruptedException exception) {
+            cancelAll();
+            awaitAllUninterruptibly();
+            Thread.currentThread().interrupt();
+            throw exception;
+        }
+    }
+
+    /**
+     * Waits until all tasks of this scope finish, ignoring interruptions of the current thread.
+     */
+    @SuppressWarnings("squid:S1166")
+    private void awaitAllUninterruptibly() {
+        boolean isFinished = false;
+        while (!isFinished) {
+            try {
+                finished.await();
+                isFinished = true;
+            } catch (InterruptedException exception) {
+                // Interruption is reported by the caller once all tasks finished
+            }
+        }
+    }
+
+    /**
+     * Records the passed {@link Throwable} and cancels all tasks of this scope.
+     * @param failure {@link Throwable} thrown by an {@link Action} of this scope
+     */
+    private void fail(Throwable failure) {
+        failures.add(failure);
+        cancelAll();
+    }
+
+    /**
+     * Cancels all tasks of this scope, interrupting the running ones.
+     * Tasks that have already finished aren't affected.
+     */
+    private void cancelAll() {
+        tasks.forEach(task -> task.cancel(true));
+    }
+
+    /**
+     * Throws the first {@link Throwable} thrown by an {@link Action} of this scope,
+     * with all subsequent ones attached to it as suppressed exceptions.
+     */
+    @SneakyThrows
+    private void throwFirstFailure() {
+        Throwable firstFailure = failures.remove();
+        failures.forEach(firstFailure::addSuppressed);
+        throw firstFailure;
+    }
+
+    /**
+     * Cancellable task that executes a single {@link Action} of the enclosing scope.
+     * <p>
+     * Interruption on cancellation is delegated to {@link FutureTask}, which guarantees that a thread
+     * is interrupted only while it executes the cancelled task, but not after it moved on to another one.
+     */
+    private final class Task extends FutureTask<Void> {
+
+        /**
+         * Informs whether the finish of this task has already been claimed, either by a thread that
+         * started to run this task or by cancellation of this task before it was started. The one
+         * that claims the finish marks this task as finished, so that it is done exactly once.
+         */
+        private final AtomicBoolean isFinishClaimed;
+
+        /**
+         * Constructs a task that executes the passed {@link Action}.
+         * @param action {@link Action} to execute
+         */
+        private Task(Action<?> action) {
+            super(action::execute, null);
+            isFinishClaimed = new AtomicBoolean();
+        }
+
+        /**
+         * Submits this task to the passed {@link Executor}. If the {@link Executor} rejects
+         * this task, the rejection is handled as a failure of the {@link Action} of this task,
+         * unless this task has already been cancelled, in which case the rejection is ignored.
+         * @param executor {@link Executor} to which this task should be submitted
+         */
+        private void submitTo(Executor executor) {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException exception) {
+                super.setException(exception);
+                Conditional.onFalseExecute(isCancelled(), () -> fail(exception));
+            }
+        }
+
+        /**
+         * Executes the {@link Action} of this task, unless this task has been cancelled,
+         * and marks this task as finished afterwards.
+         */
+        @Override
+        public void run() {
+            Conditional.onTrueExecute(isFinishClaimed.compareAndSet(false, true), this::runAndFinish);
+        }
+
+        /**
+         * Executes the {@link Action} of this task, unless this task has been cancelled,
+         * and marks this task as finished once the {@link Action} returned.
+         */
+        private void runAndFinish() {
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        /**
+         * Marks this task as finished if it is done without having been started, i.e. if it was
+         * cancelled or its submission was rejected. A started task is marked as finished only
+         * once its {@link Action} returned, so that no {@link Action} keeps running after the scope returned.
+         */
+        @Override
+        protected void done() {
+            Conditional.onTrueExecute(isFinishClaimed.compareAndSet(false, true), finished::countDown);
+        }
+
+        /**
+         * Completes this task exceptionally and fails the enclosing scope.
+         * @param failure {@link Throwable} thrown by the {@link Action} of this task
+         */
+        @Override
+        protected void setException(Throwable failure) {
+            super.setException(failure);
+            fail(failure);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package eu.ciechanowiec.conditional;
+
+/**
+ * Policy that determines whether a failure of a computation performed by a {@link MemoizedAction}
+ * is memoized in the same way as a successfully computed value.
+ */
+public enum FailurePolicy {
+
+    /**
+     * A failure is memoized: the {@link Throwable} thrown by the computation is rethrown by all
+     * subsequent executions of a {@link MemoizedAction}, until it is invalidated via
+     * {@link MemoizedAction#invalidate()}. Suitable for computations that fail deterministically,
+     * e.g. parsing of invalid configuration.
+     */
+    CACHE {
+        @Override
+        boolean isFailureMemoized() {
+            return true;
+        }
+    },
+
+    /**
+     * A failure isn't memoized: the {@link Throwable} thrown by the computation is rethrown only to
+     * the executions that were waiting for that computation, while the next execution of a
+     * {@link MemoizedAction} performs the computation once again. Suitable for computations
+     * that fail transiently, e.g. loading of data over the network.
+     */
+    RETRY {
+        @Override
+        boolean isFailureMemoized() {
+            return false;
+        }
+    };
+
+    /**
+     * Informs whether a failure of a computation performed by a {@link MemoizedAction} is memoized.
+     * @return {@code true} if a failure of a computation is memoized; {@code false} otherwise
+     */
+    abstract boolean isFailureMemoized();
+}
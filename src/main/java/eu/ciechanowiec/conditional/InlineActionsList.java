@@ -0,0 +1,289 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link ActionsList} used by default, that stores {@link Action}s in a non-thread-safe way.
+ * <p>
+ * The first two {@link Action}s are stored inline, in dedicated fields of this actions list. Only when
+ * more {@link Action}s are added, the subsequent ones are spilled to an internal array. Since almost
+ * all actions lists store zero, one or two {@link Action}s, in most cases no array is allocated at all.
+ */
+class InlineActionsList extends ActionsList {
+
+    /**
+     * Initial capacity of an internal array where {@link Action}s are spilled
+     * when more than two {@link Action}s are stored in this actions list.
+     */
+    private static final int INITIAL_SPILLED_CAPACITY = 4;
+
+    /**
+     * The first {@link Action} stored in this actions list.
+     */
+    private Action<?> firstAction;
+
+    /**
+     * The second {@link Action} stored in this actions list.
+     */
+    private Action<?> secondAction;
+
+    /**
+     * Internal array where all {@link Action}s, starting from the third one, are stored.
+     * It is allocated only when the third {@link Action} is added to this actions list.
+     */
+    private Action<?>[] spilledActions;
+
+    /**
+     * Amount of {@link Action}s stored in this actions list.
+     */
+    private int size;
+
+    /**
+     * Layout of this actions list, i.e. the way in which {@link Action}s
+     * are stored, depending on the amount of stored {@link Action}s.
+     */
+    private Layout layout;
+
+    /**
+     * Constructs an instance of an {@link InlineActionsList}.
+     */
+    InlineActionsList() {
+        layout = Layout.EMPTY;
+    }
+
+    /**
+     * Adds the passed {@link Action} to this actions list.
+     * <p>
+     * The {@link Action} is added at the end of this actions list.
+     * @param actionToAdd {@link Action} to add to this actions list
+     * @param <T> type of value returned in the result of submitted action execution
+     */
+    @Override
+    <T> void add(Action<T> actionToAdd) {
+        layout = layout.add(this, actionToAdd);
+        size++;
+    }
+
+    /**
+     * Retrieves, but does not remove, the first {@link Action} from this actions list.
+     * @return the first element of this actions list
+     * @throws NoSuchElementException if this actions list is empty
+     */
+    @Override
+    @SuppressWarnings("squid:S1452")
+    Action<?> getFirst() {
+        return layout.getFirst(this);
+    }
+
+    /**
+     * Informs, whether this actions list stores exactly one action.
+     * @return {@code true} if this actions list stores exactly one action; {@code false} otherwise
+     */
+    @Override
+    boolean isExactlyOneActionInList() {
+        return size == 1;
+    }
+
+    /**
+     * Informs, whether this actions list doesn't store any action.
+     * @return {@code true} if this actions list doesn't store any action; {@code false} otherwise
+     */
+    @Override
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all {@link Action}s from this actions list.
+     * <p>
+     * The list will be empty after this call returns.
+     */
+    @Override
+    void clear() {
+        firstAction = null;
+        secondAction = null;
+        spilledActions = null;
+        size = 0;
+        layout = Layout.EMPTY;
+    }
+
+    /**
+     * Retrieves by reference all instances of {@link Action}s stored in this actions list.
+     * @return unmodifiable {@link List} of all instances of {@link Action}s stored in this actions list;
+     *         the returned list is a snapshot, i.e. it doesn't reflect changes made to this actions
+     *         list after the call of this method
+     */
+    @Nonnull
+    @Override
+    @SuppressWarnings("squid:S1452")
+    public List<Action<?>> getAll() {
+        Action<?>[] allActions = layout.toArray(this);
+        return Collections.unmodifiableList(Arrays.asList(allActions));
+    }
+
+    /**
+     * Executes, subsequently and starting from the first one, all {@link Action}s stored in this actions list.
+     * <p>
+     * Execution is performed by calling an {@link Action#execute()} method of an executed {@link Action}.
+     */
+    @Override
+    void executeAll() {
+        layout.executeAll(this);
+    }
+
+    /**
+     * Way in which {@link Action}s are stored in an {@link InlineActionsList}. Every layout is stateless:
+     * it operates on the fields of a passed {@link InlineActionsList}, so that switching between layouts
+     * doesn't allocate and operations on an {@link InlineActionsList} don't branch on its size.
+     */
+    private enum Layout {
+
+        /**
+         * No {@link Action}s are stored.
+         */
+        EMPTY {
+            @Override
+            Layout add(InlineActionsList actionsList, Action<?> actionToAdd) {
+                actionsList.firstAction = actionToAdd;
+                return SINGLE;
+            }
+
+            @Override
+            Action<?> getFirst(InlineActionsList actionsList) {
+                throw new NoSuchElementException("Actions list is empty. Nothing to return");
+            }
+
+            @Override
+            Action<?>[] toArray(InlineActionsList actionsList) {
+                return new Action<?>[0];
+            }
+
+            @Override
+            void executeAll(InlineActionsList actionsList) {
+                // Nothing to execute
+            }
+        },
+
+        /**
+         * One {@link Action} is stored, in the first inline slot.
+         */
+        SINGLE {
+            @Override
+            Layout add(InlineActionsList actionsList, Action<?> actionToAdd) {
+                actionsList.secondAction = actionToAdd;
+                return PAIR;
+            }
+
+            @Override
+            Action<?>[] toArray(InlineActionsList actionsList) {
+                return new Action<?>[]{actionsList.firstAction};
+            }
+
+            @Override
+            void executeAll(InlineActionsList actionsList) {
+                actionsList.firstAction.execute();
+            }
+        },
+
+        /**
+         * Two {@link Action}s are stored, in both inline slots.
+         */
+        PAIR {
+            @Override
+            Layout add(InlineActionsList actionsList, Action<?> actionToAdd) {
+                actionsList.spilledActions = new Action<?>[INITIAL_SPILLED_CAPACITY];
+                actionsList.spilledActions[0] = actionToAdd;
+                return SPILLED;
+            }
+
+            @Override
+            Action<?>[] toArray(InlineActionsList actionsList) {
+                return new Action<?>[]{actionsList.firstAction, actionsList.secondAction};
+            }
+
+            @Override
+            void executeAll(InlineActionsList actionsList) {
+                actionsList.firstAction.execute();
+                actionsList.secondAction.execute();
+            }
+        },
+
+        /**
+         * More than two {@link Action}s are stored: the first two in the inline slots,
+         * all subsequent ones in the internal array.
+         */
+        SPILLED {
+            @Override
+            Layout add(InlineActionsList actionsList, Action<?> actionToAdd) {
+                int spilledIndex = actionsList.size - INLINE_SLOTS;
+                while (spilledIndex == actionsList.spilledActions.length) {
+                    actionsList.spilledActions = Arrays.copyOf(actionsList.spilledActions, spilledIndex * 2);
+                }
+                actionsList.spilledActions[spilledIndex] = actionToAdd;
+                return SPILLED;
+            }
+
+            @Override
+            Action<?>[] toArray(InlineActionsList actionsList) {
+                Action<?>[] allActions = new Action<?>[actionsList.size];
+                allActions[0] = actionsList.firstAction;
+                allActions[1] = actionsList.secondAction;
+                System.arraycopy(actionsList.spilledActions, 0, allActions, INLINE_SLOTS,
+                                 actionsList.size - INLINE_SLOTS);
+                return allActions;
+            }
+
+            @Override
+            void executeAll(InlineActionsList actionsList) {
+                actionsList.firstAction.execute();
+                actionsList.secondAction.execute();
+                Action<?>[] spilledActions = actionsList.spilledActions;
+                int spilledSize = actionsList.size - INLINE_SLOTS;
+                for (int spilledIndex = 0; spilledIndex < spilledSize; spilledIndex++) {
+                    spilledActions[spilledIndex].execute();
+                }
+            }
+        };
+
+        /**
+         * Amount of {@link Action}s that can be stored inline, without an internal array.
+         */
+        private static final int INLINE_SLOTS = 2;
+
+        /**
+         * Stores the passed {@link Action} in the passed {@link InlineActionsList}.
+         * @param actionsList {@link InlineActionsList} where the passed {@link Action} should be stored
+         * @param actionToAdd {@link Action} to store
+         * @return layout of the passed {@link InlineActionsList} after storing the passed {@link Action}
+         */
+        abstract Layout add(InlineActionsList actionsList, Action<?> actionToAdd);
+
+        /**
+         * Retrieves the first {@link Action} stored in the passed {@link InlineActionsList}.
+         * @param actionsList {@link InlineActionsList} from which the first {@link Action} should be retrieved
+         * @return the first {@link Action} stored in the passed {@link InlineActionsList}
+         * @throws NoSuchElementException if the passed {@link InlineActionsList} is empty
+         */
+        Action<?> getFirst(InlineActionsList actionsList) {
+            return actionsList.firstAction;
+        }
+
+        /**
+         * Copies all {@link Action}s stored in the passed {@link InlineActionsList} into a new array.
+         * @param actionsList {@link InlineActionsList} whose {@link Action}s should be copied
+         * @return new array with all {@link Action}s stored in the passed {@link InlineActionsList}
+         */
+        abstract Action<?>[] toArray(InlineActionsList actionsList);
+
+        /**
+         * Executes, subsequently and starting from the first one,
+         * all {@link Action}s stored in the passed {@link InlineActionsList}.
+         * @param actionsList {@link InlineActionsList} whose {@link Action}s should be executed
+         */
+        abstract void executeAll(InlineActionsList actionsList);
+    }
+}
@@ -0,0 +1,55 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link Action} based on an {@link IntCallable}, that returns its result
+ * via {@link IntAction#getAsInt()} without boxing it into {@link Integer}.
+ * <p>
+ * The result is boxed only if it is retrieved via generic {@code get(...)} methods.
+ */
+class IntAction extends Action<Integer> {
+
+    /**
+     * An underlying {@link IntCallable} instance used as an engine of this action.
+     */
+    @Nonnull
+    private final IntCallable primitiveEngine;
+
+    /**
+     * Constructs an action based on the passed {@link IntCallable}.
+     * @param primitiveEngine entity used for method calls of a constructed action
+     */
+    IntAction(@Nonnull IntCallable primitiveEngine) {
+        super(primitiveEngine::call);
+        this.primitiveEngine = primitiveEngine;
+    }
+
+    /**
+     * Executes this action without boxing its result.
+     * <p>
+     * For details on the execution see documentation for {@link Action#execute()}.
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public void execute() {
+        primitiveEngine.call();
+    }
+
+    /**
+     * Executes this action and returns an {@code int} value produced in the result
+     * of that execution, without boxing it into {@link Integer}.
+     * @return {@code int} value produced in the result of execution of this action
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public int getAsInt() {
+        return primitiveEngine.call();
+    }
+}
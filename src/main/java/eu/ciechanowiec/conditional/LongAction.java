@@ -0,0 +1,55 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link Action} based on a {@link LongCallable}, that returns its result
+ * via {@link LongAction#getAsLong()} without boxing it into {@link Long}.
+ * <p>
+ * The result is boxed only if it is retrieved via generic {@code get(...)} methods.
+ */
+class LongAction extends Action<Long> {
+
+    /**
+     * An underlying {@link LongCallable} instance used as an engine of this action.
+     */
+    @Nonnull
+    private final LongCallable primitiveEngine;
+
+    /**
+     * Constructs an action based on the passed {@link LongCallable}.
+     * @param primitiveEngine entity used for method calls of a constructed action
+     */
+    LongAction(@Nonnull LongCallable primitiveEngine) {
+        super(primitiveEngine::call);
+        this.primitiveEngine = primitiveEngine;
+    }
+
+    /**
+     * Executes this action without boxing its result.
+     * <p>
+     * For details on the execution see documentation for {@link Action#execute()}.
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public void execute() {
+        primitiveEngine.call();
+    }
+
+    /**
+     * Executes this action and returns a {@code long} value produced in the result
+     * of that execution, without boxing it into {@link Long}.
+     * @return {@code long} value produced in the result of execution of this action
+     * @throws Exception if an {@link Exception} during execution of this action was thrown
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    @SuppressWarnings("JavadocDeclaration")
+    public long getAsLong() {
+        return primitiveEngine.call();
+    }
+}
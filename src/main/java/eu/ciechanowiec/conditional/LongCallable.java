@@ -0,0 +1,23 @@
+package eu.ciechanowiec.conditional;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Functional interface that takes any command, runs it and returns a {@code long} result.
+ * <p>
+ * It is a primitive specialization of a {@link Callable}: the result is returned as a primitive
+ * {@code long}, so it is never boxed into {@link Long}. Like a {@link Callable}, its unary
+ * {@link LongCallable#call()} method has an {@link Exception} specified in the method declaration
+ * within a {@code throws...} clause.
+ */
+@FunctionalInterface
+public interface LongCallable {
+
+    /**
+     * Takes any command, runs it and returns a {@code long} result.
+     * @return {@code long} result produced by the run command(s)
+     * @throws Exception if during the run of the passed command(s) an {@link Exception} occurred
+     */
+    @SuppressWarnings("squid:S112")
+    long call() throws Exception;
+}
@@ -0,0 +1,160 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Action} that performs its computation at most once and memoizes its result, so that all
+ * subsequent executions of this action, e.g. by many {@link Conditional}s, return the memoized result.
+ * <ol>
+ *     <li>The computation is thread-safe: if many threads execute this action at once, only one of them
+ *     performs the computation, while the others wait until it finishes. The waiting threads are
+ *     parked, so they don't spin.</li>
+ *     <li>Whether a failure of the computation is memoized is determined by a {@link FailurePolicy}.</li>
+ *     <li>The memoized result can be discarded via {@link MemoizedAction#invalidate()}, so that
+ *     the next execution of this action performs the computation once again.</li>
+ *     <li>The computation must not execute this very action: such a reentrant execution would wait for
+ *     the computation it is part of, so it fails with an {@link IllegalStateException} instead.</li>
+ * </ol>
+ * An instance of a {@link MemoizedAction} can be created via {@link Action#memoized(Callable)}
+ * or {@link Action#memoize()}.
+ * @param <T> type of value returned in the result of action execution
+ */
+@SuppressWarnings("WeakerAccess")
+public final class MemoizedAction<T> extends Action<T> {
+
+    /**
+     * Memoizing engine of this action.
+     */
+    private final Memo<T> memo;
+
+    /**
+     * Constructs a memoizing action based on the passed {@link Callable}.
+     * @param engine entity that performs the computation of a constructed action
+     * @param failurePolicy policy that determines whether a failure of the computation is memoized
+     */
+    MemoizedAction(@Nonnull Callable<T> engine, @Nonnull FailurePolicy failurePolicy) {
+        this(new Memo<>(engine, failurePolicy));
+    }
+
+    /**
+     * Constructs a memoizing action based on the passed memoizing engine.
+     * @param memo memoizing engine of a constructed action
+     */
+    private MemoizedAction(Memo<T> memo) {
+        super(memo);
+        this.memo = memo;
+    }
+
+    /**
+     * Discards the memoized result of this action, so that the next execution of this action
+     * performs the computation once again.
+     * <p>
+     * Executions that are waiting for the computation at the moment of invalidation
+     * aren't affected and receive the result of that computation.
+     */
+    public void invalidate() {
+        memo.invalidate();
+    }
+
+    /**
+     * {@link Callable} that performs the computation of the wrapped {@link Callable}
+     * at most once and returns the memoized result afterwards.
+     * @param <T> type of value returned in the result of the computation
+     */
+    private static final class Memo<T> implements Callable<T> {
+
+        /**
+         * Entity that performs the computation.
+         */
+        private final Callable<T> engine;
+
+        /**
+         * Policy that determines whether a failure of the computation is memoized.
+         */
+        private final FailurePolicy failurePolicy;
+
+        /**
+         * Current computation. A {@link FutureTask} is run at most once, and only by a single thread
+         * at a time, while other threads are parked until it finishes.
+         */
+        private final AtomicReference<FutureTask<T>> computation;
+
+        /**
+         * Thread that is performing the computation at the moment, or {@code null} if no thread is.
+         * This field is used only to detect a reentrant execution by the computing thread, which always
+         * sees its own writes, so it doesn't need to be {@code volatile}: a stale value seen by any
+         * other thread is never that other thread itself.
+         */
+        private Thread computingThread;
+
+        /**
+         * Constructs a memoizing engine that wraps the passed {@link Callable}.
+         * @param engine entity that performs the computation
+         * @param failurePolicy policy that determines whether a failure of the computation is memoized
+         */
+        private Memo(Callable<T> engine, FailurePolicy failurePolicy) {
+            this.engine = engine;
+            this.failurePolicy = failurePolicy;
+            computation = new AtomicReference<>(newComputation());
+        }
+
+        /**
+         * Creates a new computation, which records the thread that performs it while it is performed.
+         * @return new computation
+         */
+        private FutureTask<T> newComputation() {
+            return new FutureTask<>(this::compute);
+        }
+
+        /**
+         * Performs the computation by the current thread.
+         * @return result of the computation
+         * @throws Exception if an {@link Exception} during the computation was thrown
+         */
+        private T compute() throws Exception {
+            computingThread = Thread.currentThread();
+            try {
+                return engine.call();
+            } finally {
+                computingThread = null;
+            }
+        }
+
+        /**
+         * Performs the computation if it hasn't been performed yet, otherwise waits until
+         * it finishes, and returns its result.
+         * @return result of the computation
+         * @throws Exception if an {@link Exception} during the computation was thrown
+         * @throws IllegalStateException if the current thread is performing the computation at the moment,
+         *         i.e. if the computation executed this action reentrantly
+         */
+        @Override
+        @SneakyThrows
+        public T call() {
+            Conditional.isFalseOrThrowLazily(computingThread == Thread.currentThread(),
+                    () -> new IllegalStateException("Memoized action was executed by its own computation"));
+            FutureTask<T> currentComputation = computation.get();
+            currentComputation.run();
+            try {
+                return currentComputation.get();
+            } catch (ExecutionException exception) {
+                Conditional.onFalseExecute(failurePolicy.isFailureMemoized(),
+                        () -> computation.compareAndSet(currentComputation, newComputation()));
+                throw exception.getCause();
+            }
+        }
+
+        /**
+         * Discards the current computation.
+         */
+        private void invalidate() {
+            computation.set(newComputation());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package eu.ciechanowiec.conditional;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+
+/**
+ * Policy that determines what happens with an action that is still running when
+ * the time budget of time-budgeted execution (e.g. {@link Conditional#executeWithin(Duration, OverrunPolicy)})
+ * is spent. Regardless of the policy, the caller stops waiting for such action once the budget is spent.
+ */
+public enum OverrunPolicy {
+
+    /**
+     * The overrunning action is interrupted. It stops only if it responds to interruption
+     * (e.g. performs interruptible blocking operations); otherwise it runs until it finishes.
+     */
+    INTERRUPT {
+        @Override
+        boolean handleOverrun(Future<?> overrunningAction) {
+            return overrunningAction.cancel(true);
+        }
+    },
+
+    /**
+     * The overrunning action is abandoned: it keeps running in the background until it finishes,
+     * or, if it hasn't been started yet, it is started and run when the executor gets to it.
+     * Its result, including a possible failure, is ignored.
+     */
+    ABANDON {
+        @Override
+        boolean handleOverrun(Future<?> overrunningAction) {
+            return !overrunningAction.isDone();
+        }
+    };
+
+    /**
+     * Handles an action that is still running when the time budget ({@link Duration}) is spent.
+     * @param overrunningAction {@link Future} representing the overrunning action
+     * @return {@code true} if the action hadn't completed yet and has been handled as overrunning;
+     *         {@code false} if the action had already completed
+     */
+    abstract boolean handleOverrun(Future<?> overrunningAction);
+}
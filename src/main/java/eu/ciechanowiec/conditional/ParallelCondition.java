@@ -0,0 +1,221 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Combination of independent {@link BooleanCallable}s (operands), that evaluates all operands
+ * concurrently and short-circuits as soon as the result of the combination is decided.
+ * <p>
+ * The result is decided when any operand returns a decisive result ({@code false} for a conjunction and
+ * {@code true} for a disjunction), or when all operands returned the opposite one. Operands that are
+ * still running at that moment (stragglers) are cancelled: the running ones are interrupted,
+ * the pending ones are never started, and the ones not submitted yet are never submitted.
+ */
+final class ParallelCondition implements BooleanCallable {
+
+    /**
+     * Result of an operand that determines the result of this condition.
+     */
+    private final boolean decisiveResult;
+
+    /**
+     * Operands of this condition, evaluated concurrently.
+     */
+    private final List<BooleanCallable> operands;
+
+    /**
+     * {@link Executor} used to evaluate operands.
+     */
+    private final Executor executor;
+
+    /**
+     * Constructs an instance of a {@link ParallelCondition}.
+     * @param decisiveResult result of an operand that determines the result of the constructed condition:
+     *                       {@code false} for a conjunction and {@code true} for a disjunction
+     * @param operands operands of the constructed condition
+     * @param executor {@link Executor} used to evaluate operands
+     */
+    ParallelCondition(boolean decisiveResult, List<BooleanCallable> operands, Executor executor) {
+        this.decisiveResult = decisiveResult;
+        this.operands = operands;
+        this.executor = executor;
+    }
+
+    /**
+     * Evaluates all operands of this condition concurrently and waits until the result is decided.
+     * @return the decisive result if any operand returned it; the opposite one otherwise,
+     *         including the case when there are no operands
+     * @throws Exception the first {@link Exception} thrown by an operand (also a {@link RejectedExecutionException}
+     *         thrown by the {@link Executor}), unless an operand has already returned a decisive result;
+     *         all {@link Exception}s thrown afterwards are attached to it as suppressed exceptions
+     * @throws InterruptedException if the current thread was interrupted while waiting; in that case,
+     *         all operands are cancelled
+     */
+    @Override
+    public boolean call() throws Exception {
+        return new Evaluation().evaluate();
+    }
+
+    /**
+     * Single evaluation of operands of the enclosing {@link ParallelCondition}.
+     */
+    private final class Evaluation {
+
+        /**
+         * Tasks evaluating operands, one task per operand.
+         */
+        private final List<Task> tasks;
+
+        /**
+         * {@link Throwable}s thrown by operands, in the order in which they were thrown.
+         */
+        private final Queue<Throwable> failures;
+
+        /**
+         * Amount of operands that haven't returned a result yet.
+         */
+        private final AtomicInteger pendingOperands;
+
+        /**
+         * Latch released when the result is decided, either by a result or by a failure of an operand.
+         */
+        private final CountDownLatch decided;
+
+        /**
+         * Informs whether any operand returned a decisive result.
+         */
+        private volatile boolean isDecisiveResultFound;
+
+        /**
+         * Constructs an evaluation of operands of the enclosing {@link ParallelCondition}.
+         */
+        private Evaluation() {
+            tasks = operands.stream()
+                            .map(Task::new)
+                            .collect(Collectors.toList());
+            failures = new ConcurrentLinkedQueue<>();
+            pendingOperands = new AtomicInteger(tasks.size());
+            decided = new CountDownLatch(BooleanIndex.of(!tasks.isEmpty()));
+        }
+
+        /**
+         * Submits tasks until the result is decided, waits until the result is decided and cancels stragglers.
+         * @return result of the enclosing {@link ParallelCondition}
+         * @throws InterruptedException if the current thread was interrupted while waiting
+         */
+        private boolean evaluate() throws InterruptedException {
+            tasks.stream()
+                 .takeWhile(task -> decided.getCount() > 0)
+                 .forEach(task -> task.submitTo(executor));
+            try {
+                decided.await();
+            } finally {
+                cancelAll();
+            }
+            Conditional.onTrueExecute(!isDecisiveResultFound && !failures.isEmpty(), this::throwFirstFailure);
+            return isDecisiveResultFound == decisiveResult;
+        }
+
+        /**
+         * Records the passed result of an operand and decides the result of the enclosing
+         * {@link ParallelCondition} if possible.
+         * @param result result of an operand
+         */
+        private void complete(boolean result) {
+            Conditional.onTrueExecute(result == decisiveResult, this::decideByDecisiveResult);
+            Conditional.onTrueExecute(pendingOperands.decrementAndGet() == 0, decided::countDown);
+        }
+
+        /**
+         * Decides the result of the enclosing {@link ParallelCondition} as the decisive one.
+         */
+        private void decideByDecisiveResult() {
+            isDecisiveResultFound = true;
+            decided.countDown();
+        }
+
+        /**
+         * Records the passed {@link Throwable} and decides the result of the enclosing {@link ParallelCondition}.
+         * @param failure {@link Throwable} thrown by an operand
+         */
+        private void fail(Throwable failure) {
+            failures.add(failure);
+            decided.countDown();
+        }
+
+        /**
+         * Cancels all tasks, interrupting the running ones. Tasks that have already finished aren't affected.
+         */
+        private void cancelAll() {
+            tasks.forEach(task -> task.cancel(true));
+        }
+
+        /**
+         * Throws the first {@link Throwable} thrown by an operand,
+         * with all subsequent ones attached to it as suppressed exceptions.
+         */
+        @SneakyThrows
+        private void throwFirstFailure() {
+            Throwable firstFailure = failures.remove();
+            failures.forEach(firstFailure::addSuppressed);
+            throw firstFailure;
+        }
+
+        /**
+         * Cancellable task that evaluates a single operand.
+         */
+        private final class Task extends FutureTask<Boolean> {
+
+            /**
+             * Constructs a task that evaluates the passed operand.
+             * @param operand operand to evaluate
+             */
+            private Task(BooleanCallable operand) {
+                super(operand::call);
+            }
+
+            /**
+             * Submits this task to the passed {@link Executor}. If the {@link Executor} rejects
+             * this task, the rejection is handled as a failure of the operand of this task.
+             * @param executor {@link Executor} to which this task should be submitted
+             */
+            private void submitTo(Executor executor) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException exception) {
+                    setException(exception);
+                }
+            }
+
+            /**
+             * Completes this task with the passed result of its operand and records that result.
+             * @param result result of the operand of this task
+             */
+            @Override
+            protected void set(Boolean result) {
+                super.set(result);
+                complete(result);
+            }
+
+            /**
+             * Completes this task exceptionally and records the failure.
+             * @param failure {@link Throwable} thrown by the operand of this task
+             */
+            @Override
+            protected void setException(Throwable failure) {
+                super.setException(failure);
+                fail(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Executes {@link Action}s in parallel and aggregates failures of executed {@link Action}s.
+ */
+@UtilityClass
+class ParallelExecution {
+
+    /**
+     * Minimal parallelism of the {@link ParallelExecution#DEFAULT_POOL}. Actions executed in parallel
+     * are often blocking (e.g. perform I/O), so the pool isn't limited to the amount of processors.
+     */
+    private static final int MIN_DEFAULT_PARALLELISM = 16;
+
+    /**
+     * Dedicated pool used for parallel execution if no {@link Executor} is specified.
+     * Its threads are created on demand and are daemon threads.
+     */
+    static final ForkJoinPool DEFAULT_POOL = new ForkJoinPool(
+            Math.max(Runtime.getRuntime().availableProcessors(), MIN_DEFAULT_PARALLELISM)
+    );
+
+    /**
+     * Executes all passed {@link Action}s in parallel via the passed {@link Executor}
+     * and waits until all of them finish, regardless of whether some of them fail.
+     * @param actionsToExecute {@link Action}s to execute
+     * @param executor {@link Executor} used to execute the passed {@link Action}s
+     * If the passed {@link Executor} rejects an {@link Action}, the rejection is handled
+     * as a failure of that {@link Action}, while the other {@link Action}s are still executed.
+     * @throws ParallelExecutionException if at least one of the passed {@link Action}s failed;
+     *         all {@link Throwable}s thrown by failed {@link Action}s are attached to it as suppressed
+     */
+    void executeAll(List<Action<?>> actionsToExecute, Executor executor) {
+        List<CompletableFuture<Throwable>> executions = actionsToExecute.stream()
+                .map(action -> submit(action, executor).handle((result, failure) -> failure))
+                .collect(Collectors.toList());
+        List<Throwable> failures = executions.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .map(ParallelExecution::unwrap)
+                .collect(Collectors.toList());
+        Conditional.isTrueOrThrowLazily(failures.isEmpty(),
+                () -> new ParallelExecutionException(failures, actionsToExecute.size()));
+    }
+
+    /**
+     * Submits the passed {@link Action} for execution to the passed {@link Executor}.
+     * @param action {@link Action} to execute
+     * @param executor {@link Executor} used to execute the passed {@link Action}
+     * @return execution of the passed {@link Action}; if the passed {@link Executor} rejected
+     *         the passed {@link Action}, the execution is completed with that rejection
+     */
+    private static CompletableFuture<Void> submit(Action<?> action, Executor executor) {
+        try {
+            return CompletableFuture.runAsync(action::execute, executor);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.failedFuture(new CompletionException(exception));
+        }
+    }
+
+    /**
+     * Unwraps a {@link Throwable} thrown by an {@link Action} from a {@link CompletionException}.
+     * @param failure {@link Throwable} reported by a {@link CompletableFuture}
+     * @return {@link Throwable} thrown by an {@link Action}
+     */
+    private static Throwable unwrap(Throwable failure) {
+        return Objects.requireNonNullElse(failure.getCause(), failure);
+    }
+}
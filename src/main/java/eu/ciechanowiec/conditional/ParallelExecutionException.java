@@ -0,0 +1,25 @@
+package eu.ciechanowiec.conditional;
+
+import java.util.List;
+
+/**
+ * Unchecked exception that indicates that at least one action failed during
+ * parallel execution of actions submitted to a given {@link Conditional}.
+ * <p>
+ * All {@link Throwable}s thrown by failed actions are attached to this
+ * exception as suppressed exceptions (see {@link Throwable#getSuppressed()}),
+ * in the order in which the failed actions were submitted.
+ */
+public class ParallelExecutionException extends RuntimeException {
+
+    /**
+     * Constructs an instance of a {@link ParallelExecutionException}.
+     * @param failures {@link Throwable}s thrown by failed actions
+     * @param executedActions amount of actions that were executed in parallel
+     */
+    ParallelExecutionException(List<Throwable> failures, int executedActions) {
+        super(String.format("%d of %d actions failed during parallel execution",
+                            failures.size(), executedActions));
+        failures.forEach(this::addSuppressed);
+    }
+}
@@ -0,0 +1,62 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result of splitting elements via {@link Router#partition(java.util.Collection)}
+ * or {@link Router#toPartition()} into those that satisfy a predicate and those that don't.
+ * @param <T> type of split elements
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Partition<T> {
+
+    /**
+     * Elements that satisfy a predicate, in the encounter order.
+     */
+    private final List<T> trueElements;
+
+    /**
+     * Elements that don't satisfy a predicate, in the encounter order.
+     */
+    private final List<T> falseElements;
+
+    /**
+     * Constructs an instance of a {@link Partition}.
+     * @param trueElements elements that satisfy a predicate, in the encounter order
+     * @param falseElements elements that don't satisfy a predicate, in the encounter order
+     */
+    Partition(List<T> trueElements, List<T> falseElements) {
+        this.trueElements = Collections.unmodifiableList(trueElements);
+        this.falseElements = Collections.unmodifiableList(falseElements);
+    }
+
+    /**
+     * Returns elements that satisfy a predicate.
+     * @return unmodifiable {@link List} of elements that satisfy a predicate, in the encounter order
+     */
+    @Nonnull
+    public List<T> trueElements() {
+        return trueElements;
+    }
+
+    /**
+     * Returns elements that don't satisfy a predicate.
+     * @return unmodifiable {@link List} of elements that don't satisfy a predicate, in the encounter order
+     */
+    @Nonnull
+    public List<T> falseElements() {
+        return falseElements;
+    }
+
+    /**
+     * Returns a description of this {@link Partition} with the amount of elements in both of its parts,
+     * e.g. {@code 3 true, 4 false}. The elements themselves aren't described.
+     * @return description of this {@link Partition}
+     */
+    @Override
+    public String toString() {
+        return String.format("%d true, %d false", trueElements.size(), falseElements.size());
+    }
+}
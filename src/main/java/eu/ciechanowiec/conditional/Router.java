@@ -0,0 +1,187 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * Immutable and reusable operator that routes elements, e.g. of a {@link java.util.stream.Stream},
+ * to sinks bound to a {@code true} or {@code false} value of a {@link Predicate} tested against
+ * every element.
+ * <p>
+ * Contrary to creating a {@link Conditional} for every element, routing doesn't allocate any memory:
+ * the predicate is tested and the element is passed to the sink bound to the result of that test.
+ * Since a router is a {@link Consumer}, it can be passed directly to {@code forEach(...)} methods.
+ * <p>
+ * Every submission method returns a new router and leaves the original one untouched.
+ * Therefore, a router is thread-safe and can route elements of a parallel stream,
+ * provided that the predicate and submitted sinks are thread-safe as well.
+ * <p>
+ * Example:<pre>{@code
+ * Router<Order> router = Conditional.<Order>router(Order::isPaid)
+ *         .onTrue(order -> ship(order))
+ *         .onFalse(order -> remind(order));
+ * orders.parallelStream().forEach(router);
+ * }</pre>
+ * @param <T> type of routed elements
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Router<T> implements Consumer<T> {
+
+    /**
+     * Predicate tested against every routed element.
+     */
+    private final Predicate<? super T> predicate;
+
+    /**
+     * Sinks of this router, indexed with {@link BooleanIndex#of(boolean)} by the value to which
+     * a given sink is bound. Every sink is a composition of all sinks submitted for a given value.
+     * The array is never modified.
+     */
+    private final Consumer<T>[] sinksByValue;
+
+    /**
+     * Constructs an instance of a {@link Router} with the passed predicate and sinks.
+     * @param predicate predicate tested against every routed element
+     * @param sinksByValue sinks of the created router, indexed with {@link BooleanIndex#of(boolean)}
+     *                     by the value to which a given sink is bound
+     */
+    private Router(Predicate<? super T> predicate, Consumer<T>[] sinksByValue) {
+        this.predicate = predicate;
+        this.sinksByValue = sinksByValue;
+    }
+
+    /**
+     * Returns a router without any submitted sinks, that tests the passed predicate against routed elements.
+     * @param predicate predicate tested against every routed element
+     * @param <T> type of routed elements
+     * @return router without any submitted sinks
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Router<T> of(Predicate<? super T> predicate) {
+        Consumer<T> noSink = element -> {
+            // Do nothing
+        };
+        Consumer<T>[] sinksByValue = new Consumer[BooleanIndex.LENGTH];
+        Arrays.fill(sinksByValue, noSink);
+        return new Router<>(predicate, sinksByValue);
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        SINKS SUBMISSION                                                -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Returns a new router with all sinks of this router and the passed sink,
+     * bound to a {@code true} value. This router remains unchanged.
+     * @param sinkOnTrue sink that should receive elements that satisfy the predicate
+     * @return new router with the submitted sink
+     */
+    @Nonnull
+    public Router<T> onTrue(@Nonnull Consumer<? super T> sinkOnTrue) {
+        return with(sinkOnTrue, true);
+    }
+
+    /**
+     * Returns a new router with all sinks of this router and the passed sink,
+     * bound to a {@code false} value. This router remains unchanged.
+     * @param sinkOnFalse sink that should receive elements that don't satisfy the predicate
+     * @return new router with the submitted sink
+     */
+    @Nonnull
+    public Router<T> onFalse(@Nonnull Consumer<? super T> sinkOnFalse) {
+        return with(sinkOnFalse, false);
+    }
+
+    /**
+     * Returns a new router with all sinks of this router and the passed sink,
+     * bound to a specified value. This router remains unchanged.
+     * @param sinkToAdd sink that should be bound to a specified value
+     * @param valueToWhichSinkMustBeBoundTo value to which the passed sink should be bound to
+     * @return new router with the passed sink
+     */
+    private Router<T> with(Consumer<? super T> sinkToAdd, boolean valueToWhichSinkMustBeBoundTo) {
+        int boundIndex = BooleanIndex.of(valueToWhichSinkMustBeBoundTo);
+        Consumer<T>[] extendedSinksByValue = sinksByValue.clone();
+        extendedSinksByValue[boundIndex] = sinksByValue[boundIndex].andThen(sinkToAdd);
+        return new Router<>(predicate, extendedSinksByValue);
+    }
+
+//  <!-- ====================================================================== -->
+//  <!--        ROUTING OPERATIONS                                              -->
+//  <!-- ====================================================================== -->
+
+    /**
+     * Routes the passed element: tests the predicate against it and passes it to all sinks bound
+     * to the result of that test, subsequently, starting from the first submitted sink.
+     * If there are no sinks bound to that result, then nothing happens.
+     * @param element element to route
+     */
+    @Override
+    public void accept(T element) {
+        sinksByValue[BooleanIndex.of(predicate.test(element))].accept(element);
+    }
+
+    /**
+     * Splits the passed elements into those that satisfy the predicate and those that don't.
+     * Submitted sinks aren't involved.
+     * <p>
+     * The passed elements are copied via {@link Collection#toArray()} first, so that a concurrently modified
+     * {@link Collection} or any other {@link Collection} whose {@link Collection#size()} doesn't match its iteration
+     * is split consistently. Afterwards, the copied elements are written into a single buffer of the same length:
+     * elements that satisfy the predicate are written from the start of the buffer, while the other ones
+     * are written from its end. Therefore, no buffer is ever resized.
+     * @param elements elements to split
+     * @return {@link Partition} of the passed elements; the encounter order of elements is preserved
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Partition<T> partition(@Nonnull Collection<? extends T> elements) {
+        Object[] snapshot = elements.toArray();
+        int size = snapshot.length;
+        T[] buffer = (T[]) new Object[size];
+        int[] cursorsByValue = {size - 1, 0};
+        int[] stepsByValue = {-1, 1};
+        for (Object element : snapshot) {
+            int index = BooleanIndex.of(predicate.test((T) element));
+            buffer[cursorsByValue[index]] = (T) element;
+            cursorsByValue[index] += stepsByValue[index];
+        }
+        int trueElements = cursorsByValue[BooleanIndex.TRUE_INDEX];
+        List<T> bufferView = Arrays.asList(buffer);
+        List<T> falseElements = bufferView.subList(trueElements, size);
+        Collections.reverse(falseElements);
+        return new Partition<>(bufferView.subList(0, trueElements), falseElements);
+    }
+
+    /**
+     * Returns a {@link Collector} that splits elements of a stream into those that satisfy the predicate
+     * and those that don't. Submitted sinks aren't involved.
+     * <p>
+     * The returned {@link Collector} can be used with parallel streams: every part of a stream is split
+     * into separate buffers, which are concatenated afterwards, so the encounter order of elements is preserved.
+     * @return {@link Collector} that splits elements of a stream into a {@link Partition}
+     */
+    @Nonnull
+    public Collector<T, ?, Partition<T>> toPartition() {
+        return Collector.of(
+                () -> List.<List<T>>of(new ArrayList<>(), new ArrayList<>()),
+                (buffersByValue, element) -> buffersByValue.get(BooleanIndex.of(predicate.test(element)))
+                                                           .add(element),
+                (leftBuffers, rightBuffers) -> {
+                    leftBuffers.get(BooleanIndex.FALSE_INDEX).addAll(rightBuffers.get(BooleanIndex.FALSE_INDEX));
+                    leftBuffers.get(BooleanIndex.TRUE_INDEX).addAll(rightBuffers.get(BooleanIndex.TRUE_INDEX));
+                    return leftBuffers;
+                },
+                buffersByValue -> new Partition<>(
+                        buffersByValue.get(BooleanIndex.TRUE_INDEX), buffersByValue.get(BooleanIndex.FALSE_INDEX)
+                )
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package eu.ciechanowiec.conditional;
+
+/**
+ * Entity that executes or ignores passed
+ * {@link Runnable}s, depending on the implementation.
+ */
+interface RunnableExecutor {
+
+    /**
+     * Executes the passed {@link Runnable} if this runnable executor is of active type.
+     * <p>
+     * Otherwise, the passed {@link Runnable} is ignored, i.e. the call of this method has no effects.
+     * @param runnableToExecuteOrIgnore runnable to be executed or ignored
+     * @throws Exception if this runnable executor is of active type and an {@link Exception}
+     *         during execution of the passed {@link Runnable} was thrown
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    void executeIfActive(Runnable runnableToExecuteOrIgnore);
+}
@@ -0,0 +1,29 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Entity that executes a {@link Runnable} when
+ * an implemented method is called.
+ */
+class RunnableExecutorActive implements RunnableExecutor {
+
+    /**
+     * Constructs an instance of a {@link RunnableExecutorActive}.
+     */
+    @SuppressWarnings("RedundantNoArgConstructor")
+    RunnableExecutorActive() {
+        // Constructor to keep javadoc
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SneakyThrows(Exception.class)
+    public void executeIfActive(@Nonnull Runnable runnableToExecuteOrIgnore) {
+        runnableToExecuteOrIgnore.run();
+    }
+}
@@ -0,0 +1,25 @@
+package eu.ciechanowiec.conditional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Entity that does nothing when an implemented method is called.
+ */
+class RunnableExecutorVoid implements RunnableExecutor {
+
+    /**
+     * Constructs an instance of a {@link RunnableExecutorVoid}.
+     */
+    @SuppressWarnings("RedundantNoArgConstructor")
+    RunnableExecutorVoid() {
+        // Constructor to keep javadoc
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executeIfActive(@Nullable Runnable runnableToExecuteOrIgnore) {
+        // Do nothing
+    }
+}
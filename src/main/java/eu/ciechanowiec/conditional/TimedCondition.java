@@ -0,0 +1,253 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Condition, represented by a {@link BooleanCallable}, that is evaluated within a time budget ({@link Duration})
+ * and falls back to a default value if the budget is spent before the evaluation finishes.
+ * <p>
+ * Every evaluation is performed as a separate task of an {@link Executor}, while the caller waits for it
+ * at most until the budget is spent. An evaluation that is still running at that moment is handled according
+ * to the specified {@link OverrunPolicy}, and its result, including a possible failure, is ignored.
+ * The amount of evaluations and the amount of evaluations that fell back to the default value are counted,
+ * so that fallbacks can be observed.
+ * <p>
+ * A {@link TimedCondition} is a {@link BooleanCallable} itself, so it can be passed to
+ * {@link Conditional#conditional(BooleanCallable)}, which evaluates it in the blocking style.
+ * The non-blocking style is provided via {@link TimedCondition#callAsync()}.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TimedCondition implements BooleanCallable {
+
+    /**
+     * Condition evaluated within the time budget.
+     */
+    private final BooleanCallable condition;
+
+    /**
+     * Time budget for a single evaluation.
+     */
+    private final Duration timeout;
+
+    /**
+     * Value returned if the time budget is spent before an evaluation finishes.
+     */
+    private final boolean fallbackValue;
+
+    /**
+     * Policy applied to an evaluation that is still running when the time budget is spent.
+     */
+    private final OverrunPolicy overrunPolicy;
+
+    /**
+     * {@link Executor} used to evaluate the condition.
+     */
+    private final Executor executor;
+
+    /**
+     * Amount of evaluations started so far.
+     */
+    private final LongAdder evaluations;
+
+    /**
+     * Amount of evaluations that resulted in the fallback value.
+     */
+    private final LongAdder fallbacks;
+
+    /**
+     * Constructs an instance of a {@link TimedCondition}.
+     * @param condition condition to evaluate
+     * @param timeout time budget for a single evaluation of the passed condition
+     * @param fallbackValue value returned if the time budget is spent before an evaluation finishes
+     * @param overrunPolicy policy applied to an evaluation that is still running when the budget is spent
+     * @param executor {@link Executor} used to evaluate the passed condition
+     */
+    TimedCondition(BooleanCallable condition, Duration timeout, boolean fallbackValue,
+                   OverrunPolicy overrunPolicy, Executor executor) {
+        this.condition = condition;
+        this.timeout = timeout;
+        this.fallbackValue = fallbackValue;
+        this.overrunPolicy = overrunPolicy;
+        this.executor = executor;
+        evaluations = new LongAdder();
+        fallbacks = new LongAdder();
+    }
+
+    /**
+     * Evaluates the condition and waits for the result at most until the time budget is spent.
+     * @return value returned by the condition if the evaluation finished within the time budget;
+     *         the fallback value otherwise
+     * @throws Exception if an {@link Exception} during evaluation of the condition was thrown
+     *         within the time budget
+     * @throws InterruptedException if the current thread was interrupted while waiting;
+     *         in that case, the evaluation is interrupted as well
+     */
+    @Override
+    public boolean call() throws Exception {
+        Evaluation evaluation = new Evaluation();
+        evaluation.submit();
+        evaluation.awaitWithin(timeout);
+        return evaluation.outcome();
+    }
+
+    /**
+     * Evaluates the condition asynchronously and returns a {@link CompletableFuture} that is completed with
+     * the result of the evaluation, or with the fallback value once the time budget is spent, whichever
+     * comes first. This method doesn't block: the time budget is tracked via
+     * {@link CompletableFuture#delayedExecutor(long, TimeUnit)}.
+     * @return {@link CompletableFuture} completed with the value returned by the condition if the evaluation
+     *         finished within the time budget and with the fallback value otherwise; if an {@link Exception}
+     *         during evaluation of the condition was thrown within the time budget, the returned
+     *         {@link CompletableFuture} is completed exceptionally with that very {@link Exception}
+     */
+    @Nonnull
+    public CompletableFuture<Boolean> callAsync() {
+        Evaluation evaluation = new Evaluation();
+        evaluation.submit();
+        CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS).execute(evaluation::fallBack);
+        return evaluation.result;
+    }
+
+    /**
+     * Returns the amount of evaluations of this condition started so far.
+     * @return amount of evaluations of this condition started so far
+     */
+    public long evaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Returns the amount of evaluations of this condition that resulted in the fallback value,
+     * since the time budget had been spent before they finished.
+     * @return amount of evaluations of this condition that resulted in the fallback value
+     */
+    public long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d evaluations, %d fallbacks", evaluations(), fallbacks());
+    }
+
+    /**
+     * Single evaluation of the condition of the enclosing {@link TimedCondition}.
+     */
+    private final class Evaluation extends FutureTask<Boolean> {
+
+        /**
+         * Outcome of this evaluation, completed either by the condition or by the fallback,
+         * whichever comes first.
+         */
+        private final CompletableFuture<Boolean> result;
+
+        /**
+         * Informs whether it has already been decided whether the outcome of this evaluation is produced
+         * by the condition or by the fallback. Exactly one of them sets this flag, and only that one
+         * completes the outcome.
+         */
+        private final AtomicBoolean isDecided;
+
+        /**
+         * Constructs an evaluation of the condition of the enclosing {@link TimedCondition}.
+         */
+        private Evaluation() {
+            super(condition::call);
+            result = new CompletableFuture<>();
+            isDecided = new AtomicBoolean();
+        }
+
+        /**
+         * Submits this evaluation to the {@link Executor} of the enclosing {@link TimedCondition}.
+         */
+        private void submit() {
+            evaluations.increment();
+            executor.execute(this);
+        }
+
+        /**
+         * Waits for the outcome of this evaluation at most for the passed time budget.
+         * If the budget is spent before the outcome is known, this evaluation falls back.
+         * @param budget time budget for this evaluation
+         * @throws InterruptedException if the current thread was interrupted while waiting;
+         *         in that case, this evaluation is interrupted as well
+         */
+        @SuppressWarnings("squid:S1166")
+        private void awaitWithin(Duration budget) throws InterruptedException {
+            try {
+                result.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException exception) {
+                fallBack();
+            } catch (ExecutionException exception) {
+                // The failure is rethrown upon retrieval of the outcome
+            } catch (InterruptedException exception) {
+                cancel(true);
+                throw exception;
+            }
+        }
+
+        /**
+         * Completes the outcome of this evaluation with the fallback value, unless the condition has
+         * already returned a result or thrown an {@link Exception}. If the fallback value is used,
+         * this evaluation is handled according to the {@link OverrunPolicy} of the enclosing
+         * {@link TimedCondition}, and its result is ignored.
+         */
+        private void fallBack() {
+            Conditional.onTrueExecute(isDecided.compareAndSet(false, true), () -> {
+                fallbacks.increment();
+                overrunPolicy.handleOverrun(this);
+                result.complete(fallbackValue);
+            });
+        }
+
+        /**
+         * Returns the outcome of this evaluation, which must be already known.
+         * @return outcome of this evaluation
+         * @throws Exception if an {@link Exception} during this evaluation was thrown before it fell back
+         */
+        @SneakyThrows
+        @SuppressWarnings("JavadocDeclaration")
+        private boolean outcome() {
+            try {
+                return result.get();
+            } catch (ExecutionException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        /**
+         * Completes this evaluation with the passed result of the condition and completes
+         * the outcome with that result, unless this evaluation has already fallen back.
+         * @param conditionResult result of the condition
+         */
+        @Override
+        protected void set(Boolean conditionResult) {
+            super.set(conditionResult);
+            Conditional.onTrueExecute(isDecided.compareAndSet(false, true),
+                                      () -> result.complete(conditionResult));
+        }
+
+        /**
+         * Completes this evaluation exceptionally and completes the outcome exceptionally with
+         * the passed {@link Throwable}, unless this evaluation has already fallen back.
+         * @param failure {@link Throwable} thrown by the condition
+         */
+        @Override
+        protected void setException(Throwable failure) {
+            super.setException(failure);
+            Conditional.onTrueExecute(isDecided.compareAndSet(false, true),
+                                      () -> result.completeExceptionally(failure));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Callable;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Generically typed counterpart of a {@link Conditional}, that accepts only actions
+ * returning values of a statically known type ({@code <T>}).
+ * <p>
+ * Since the type of a return value is known at compile time, {@link TypedConditional#get()}
+ * requires neither a {@link Class} token nor a runtime cast of the return value.
+ * <p>
+ * A typed conditional supports only a subset of the API of a {@link Conditional}:
+ * <ol>
+ *     <li>{@link TypedConditional#describedValue()}, that returns the value described by
+ *     this typed conditional, which is always known upfront;</li>
+ *     <li>{@link TypedConditional#onTrue(Callable)} and {@link TypedConditional#onFalse(Callable)},
+ *     that submit {@link Callable}s;</li>
+ *     <li>{@link TypedConditional#execute()}, that executes all submitted actions bound
+ *     to the described value subsequently, in the calling thread;</li>
+ *     <li>{@link TypedConditional#get()}, that returns the value of a unary action.</li>
+ * </ol>
+ * Other operations of a {@link Conditional}, e.g. submission of {@link Runnable}s, discarding
+ * of actions, {@code isTrue}/{@code isFalse} checks, as well as parallel, asynchronous and
+ * time-budgeted execution, aren't supported.
+ * <p>
+ * An instance of a {@link TypedConditional} can be created via {@link Conditional#returning(boolean)}.
+ * The type of a return value can be specified via a type witness:
+ * <pre>{@code
+ * String evenOrOdd = Conditional.<String>returning(10 % 2 == 0)
+ *                               .onTrue(() -> "Even!")
+ *                               .onFalse(() -> "Odd!")
+ *                               .get();
+ * }</pre>
+ * @param <T> type of values returned in the result of execution of submitted actions
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TypedConditional<T> {
+
+    /**
+     * Message of an {@link UndeterminedReturnValueException} thrown by a {@code get()} method.
+     */
+    private static final String UNDETERMINED_RETURN_VALUE_MESSAGE =
+            "To use a get() method for a given TypedConditional, exactly one " +
+            "action must be submitted. This condition hasn't been met";
+
+    /**
+     * Value described by this typed conditional, always known upfront.
+     */
+    private final boolean describedValue;
+
+    /**
+     * {@link ActionsList}s of this typed conditional, indexed with {@link BooleanIndex#of(boolean)}
+     * by the value to which {@link Action}s stored in a given {@link ActionsList} are bound.
+     * All stored {@link Action}s return values of type {@code <T>}.
+     */
+    private final ActionsList[] actionsByValue;
+
+    /**
+     * Constructs an instance of a {@link TypedConditional} that describes the passed
+     * boolean value ({@code true} or {@code false}). That value is final
+     * and cannot be changed in conventional way.
+     * @param describedValue value described by the created typed conditional
+     */
+    TypedConditional(boolean describedValue) {
+        this.describedValue = describedValue;
+        actionsByValue = new ActionsList[]{new InlineActionsList(), new InlineActionsList()};
+    }
+
+    /**
+     * Returns the value described by this typed conditional ({@code true} or {@code false}).
+     * @return value described by this typed conditional ({@code true} or {@code false})
+     */
+    @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
+    public boolean describedValue() {
+        return describedValue;
+    }
+
+    /**
+     * Submits an action to this typed conditional and bounds it to a {@code true} value.
+     * <p>
+     * The submitted {@link Callable} is wrapped into an instance of an {@link Action}
+     * via an {@link Action#Action(Callable)} constructor.
+     * @param actionOnTrue action that should be submitted to this typed conditional
+     *                     and bound to a {@code true} value
+     * @return this typed conditional after submitting an action
+     */
+    @Nonnull
+    public TypedConditional<T> onTrue(@Nonnull Callable<? extends T> actionOnTrue) {
+        ActionsList actionsOnTrue = actionsFor(TRUE);
+        actionsOnTrue.add(actionOnTrue);
+        return this;
+    }
+
+    /**
+     * Submits an action to this typed conditional and bounds it to a {@code false} value.
+     * <p>
+     * The submitted {@link Callable} is wrapped into an instance of an {@link Action}
+     * via an {@link Action#Action(Callable)} constructor.
+     * @param actionOnFalse action that should be submitted to this typed conditional
+     *                      and bound to a {@code false} value
+     * @return this typed conditional after submitting an action
+     */
+    @Nonnull
+    public TypedConditional<T> onFalse(@Nonnull Callable<? extends T> actionOnFalse) {
+        ActionsList actionsOnFalse = actionsFor(FALSE);
+        actionsOnFalse.add(actionOnFalse);
+        return this;
+    }
+
+    /**
+     * Executes all submitted actions, bound to the value described by this typed conditional.
+     * <p>
+     * Execution is performed the same way as described in documentation for {@link Conditional#execute()}.
+     * @return this typed conditional after this method call
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nonnull
+    @SuppressWarnings("JavadocDeclaration")
+    public TypedConditional<T> execute() {
+        ActionsList actionsForDescribedValue = actionsFor(describedValue);
+        actionsForDescribedValue.executeAll();
+        return this;
+    }
+
+    /**
+     * Executes a unary action submitted to this typed conditional and bound to the value described
+     * by this typed conditional and returns a return value that is produced in the result of that
+     * execution. The return value isn't cast at runtime, since its type is known at compile time.
+     * <p>
+     * Execution is performed the same way as described in documentation for {@link Conditional#get(Class)}.
+     * @return return value that is produced in the result of execution of a unary action bound to
+     *         the value described by this typed conditional; if {@code null} is produced,
+     *         then {@code null} is returned
+     * @throws UndeterminedReturnValueException if not exactly one action was submitted to this
+     *                                          typed conditional and was bound to the value
+     *                                          described by this typed conditional
+     * @throws Exception if an {@link Exception} during execution of an action was thrown;
+     *         note that the {@link Exception} isn't specified in a method declaration in
+     *         a {@code throws...} clause in order to avoid enforcing that {@link Exception}
+     *         handling (omitting of specifying the {@link Exception} in the method
+     *         declaration is achieved via {@link SneakyThrows} on the underlying action)
+     */
+    @Nullable
+    @SuppressWarnings({"JavadocDeclaration", "unchecked"})
+    public T get() {
+        ActionsList actionsForDescribedValue = actionsFor(describedValue);
+        Conditional.isTrueOrThrowLazily(actionsForDescribedValue.isExactlyOneActionInList(),
+                () -> new UndeterminedReturnValueException(UNDETERMINED_RETURN_VALUE_MESSAGE));
+        // Only actions returning values of type <T> can be submitted, so the cast is safe
+        Action<? extends T> unaryAction = (Action<? extends T>) actionsForDescribedValue.getFirst();
+        return unaryAction.get();
+    }
+
+    /**
+     * Retrieves by reference an {@link ActionsList} that stores all actions
+     * submitted to this typed conditional and bound to the passed value.
+     * @param boundValue value to which actions stored in the retrieved {@link ActionsList} are bound
+     * @return {@link ActionsList} (by reference) that stores all actions
+     *         submitted to this typed conditional and bound to the passed value
+     */
+    private ActionsList actionsFor(boolean boundValue) {
+        return actionsByValue[BooleanIndex.of(boundValue)];
+    }
+}
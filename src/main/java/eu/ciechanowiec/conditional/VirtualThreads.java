@@ -0,0 +1,23 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Provides an {@link Executor} for many concurrent blocking tasks.
+ * <p>
+ * Virtual threads are available since Java 21, so this base implementation, used on older
+ * JVMs, executes tasks on the bounded {@link ParallelExecution#DEFAULT_POOL}, rather than starting
+ * an unbounded number of platform threads. On Java 21 and newer, this class is replaced with
+ * its counterpart from a multi-release JAR layer ({@code META-INF/versions/21}),
+ * that starts a new virtual thread for every task.
+ */
+@UtilityClass
+class VirtualThreads {
+
+    /**
+     * {@link Executor} for many concurrent blocking tasks.
+     */
+    static final Executor EXECUTOR = ParallelExecution.DEFAULT_POOL;
+}
@@ -0,0 +1,22 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Provides an {@link Executor} for many concurrent blocking tasks, that executes every task
+ * in its own new virtual thread.
+ * <p>
+ * This is a Java 21 counterpart of a base implementation of this class, used from
+ * a multi-release JAR layer ({@code META-INF/versions/21}) on Java 21 and newer.
+ */
+@UtilityClass
+class VirtualThreads {
+
+    /**
+     * {@link Executor} for many concurrent blocking tasks, that executes every task
+     * in its own new virtual thread.
+     */
+    static final Executor EXECUTOR = task -> Thread.ofVirtual().start(task);
+}
@@ -275,6 +275,25 @@ class ActionTest {
         assertThrows(MismatchedReturnTypeException.class, () -> action.get(Integer.class));
     }
 
+    @Test
+    void mustGetUnboxedPrimitives() {
+        Action<Integer> intAction = new Action<>(() -> 1000);
+        Action<Long> longAction = new Action<>(() -> 1000L);
+        Action<Double> doubleAction = new Action<>(() -> 0.5);
+        Action<Boolean> booleanAction = new Action<>(() -> true);
+        Action<?> nullAction = new Action<>(() -> null);
+        Action<String> stringAction = new Action<>(() -> HELLO);
+        assertAll(
+                () -> assertEquals(1000, intAction.getAsInt()),
+                () -> assertEquals(1000L, longAction.getAsLong()),
+                () -> assertEquals(0.5, doubleAction.getAsDouble()),
+                () -> assertTrue(booleanAction.getAsBoolean()),
+                () -> assertThrows(NullPointerException.class, nullAction::getAsInt),
+                () -> assertThrows(MismatchedReturnTypeException.class, stringAction::getAsLong),
+                () -> assertThrows(MismatchedReturnTypeException.class, intAction::getAsDouble)
+        );
+    }
+
     @Test
     void mustThrowExceptionFromPassedRunnableAndCallableWhenGet() {
         Runnable runnableOne = () -> {
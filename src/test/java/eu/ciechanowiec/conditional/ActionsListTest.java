@@ -1,7 +1,5 @@
 package eu.ciechanowiec.conditional;
 
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,51 +9,66 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjdk.jol.info.GraphLayout;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static java.lang.Boolean.TRUE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-@Slf4j
 class ActionsListTest {
 
     @Spy
-    private ActionsList actionsList;
+    private InlineActionsList actionsList;
 
     private Action<String> testAction;
-    private List<Action<?>> internalList;
 
     @BeforeEach
     void setup() {
         testAction = new Action<>(() -> "Hello, Universe!");
-        internalList = extractUnaryInternalList(actionsList);
     }
 
     @SuppressWarnings("unchecked")
     @Test
     void mustAdd() {
-        assertTrue(internalList.isEmpty());
+        assertTrue(actionsList.getAll().isEmpty());
         actionsList.add(testAction);
-        Action<String> actualAction = (Action<String>) internalList.get(0);
+        List<Action<?>> actualActions = actionsList.getAll();
+        Action<String> actualAction = (Action<String>) actualActions.get(0);
         assertAll(
                 () -> assertEquals(testAction, actualAction),
-                () -> assertEquals(NumberUtils.INTEGER_ONE, internalList.size())
+                () -> assertEquals(NumberUtils.INTEGER_ONE, actualActions.size())
+        );
+    }
+
+    @Test
+    void mustWrapAndAddCallableAndRunnable() throws Exception {
+        List<String> executionLog = new ArrayList<>();
+        actionsList.add(() -> Variables.HELLO);
+        actionsList.add(() -> {
+            executionLog.add(Variables.HELLO);
+        });
+        List<Action<?>> actualActions = actionsList.getAll();
+        assertAll(
+                () -> assertEquals(NumberUtils.INTEGER_TWO, actualActions.size()),
+                () -> assertEquals(Variables.HELLO, actualActions.get(0).get()),
+                () -> assertNull(actualActions.get(1).get()),
+                () -> assertEquals(List.of(Variables.HELLO), executionLog)
         );
     }
 
     @SuppressWarnings("unchecked")
     @Test
     void mustGetFirst() {
-        assertTrue(internalList.isEmpty());
+        assertTrue(actionsList.getAll().isEmpty());
         actionsList.add(testAction);
         Action<String> actualAction = (Action<String>) actionsList.getFirst();
         assertEquals(testAction, actualAction);
@@ -64,48 +77,95 @@ class ActionsListTest {
     @Test
     void mustThrowWhenGetFirst() {
         assertAll(
-                () -> assertTrue(internalList.isEmpty()),
+                () -> assertTrue(actionsList.getAll().isEmpty()),
                 () -> assertThrows(NoSuchElementException.class, () -> actionsList.getFirst())
         );
     }
 
     @Test
     void testIsExactlyOneActionInCollection() {
-        assertTrue(internalList.isEmpty());
+        assertTrue(actionsList.getAll().isEmpty());
         actionsList.add(testAction);
         assertTrue(actionsList.isExactlyOneActionInList());
         actionsList.add(testAction);
         assertFalse(actionsList.isExactlyOneActionInList());
     }
 
+    @Test
+    void testIsEmpty() {
+        assertTrue(actionsList.isEmpty());
+        actionsList.add(testAction);
+        assertFalse(actionsList.isEmpty());
+        actionsList.clear();
+        assertTrue(actionsList.isEmpty());
+    }
+
     @Test
     void mustClear() {
-        assertTrue(internalList.isEmpty());
+        assertTrue(actionsList.getAll().isEmpty());
         actionsList.add(testAction);
         assertTrue(actionsList.isExactlyOneActionInList());
         actionsList.clear();
-        assertTrue(internalList.isEmpty());
+        assertTrue(actionsList.getAll().isEmpty());
     }
 
     @ParameterizedTest
     @MethodSource("generateActionsSpies")
-    void mustGetAll(Iterable<Action<?>> actionSpiesToAdd) {
-        assertTrue(internalList.isEmpty());
+    void mustGetAll(List<Action<?>> actionSpiesToAdd) {
+        assertTrue(actionsList.getAll().isEmpty());
         actionSpiesToAdd.forEach(actionsList::add);
         List<Action<?>> actualActions = actionsList.getAll();
-        boolean allActionsAreInBothLists = internalList.size() == actualActions.size()
-                && internalList.containsAll(actualActions)
-                && actualActions.containsAll(internalList);
-        boolean differentInstancesOfLists = internalList != actualActions;
         assertAll(
-                () -> assertTrue(allActionsAreInBothLists),
-                () -> assertTrue(differentInstancesOfLists)
+                () -> assertEquals(actionSpiesToAdd, actualActions),
+                () -> assertNotSame(actionSpiesToAdd, actualActions),
+                () -> assertThrows(UnsupportedOperationException.class, () -> actualActions.add(testAction))
+        );
+    }
+
+    @Test
+    void mustReturnSnapshotWhenGetAll() {
+        actionsList.add(testAction);
+        List<Action<?>> snapshot = actionsList.getAll();
+        actionsList.add(testAction);
+        actionsList.clear();
+        assertEquals(List.of(testAction), snapshot);
+    }
+
+    @Test
+    void mustClearSpilledActions() {
+        List<Action<?>> actionsToAdd = generateActions(7);
+        actionsToAdd.forEach(actionsList::add);
+        actionsList.clear();
+        assertAll(
+                () -> assertTrue(actionsList.getAll().isEmpty()),
+                () -> assertThrows(NoSuchElementException.class, () -> actionsList.getFirst())
+        );
+        actionsList.add(testAction);
+        assertAll(
+                () -> assertEquals(List.of(testAction), actionsList.getAll()),
+                () -> assertTrue(actionsList.isExactlyOneActionInList())
+        );
+    }
+
+    @Test
+    void mustStoreUpToTwoActionsInline() {
+        InlineActionsList inlineActionsList = new InlineActionsList();
+        Set<Class<?>> classesWhenEmpty = GraphLayout.parseInstance(inlineActionsList).getClasses();
+        inlineActionsList.add(testAction);
+        inlineActionsList.add(testAction);
+        Set<Class<?>> classesWhenInline = GraphLayout.parseInstance(inlineActionsList).getClasses();
+        inlineActionsList.add(testAction);
+        Set<Class<?>> classesWhenSpilled = GraphLayout.parseInstance(inlineActionsList).getClasses();
+        assertAll(
+                () -> assertFalse(classesWhenEmpty.contains(Action[].class)),
+                () -> assertFalse(classesWhenInline.contains(Action[].class)),
+                () -> assertTrue(classesWhenSpilled.contains(Action[].class))
         );
     }
 
     @ParameterizedTest
     @MethodSource("generateActionsSpies")
-    void mustExecuteAll(Iterable<Action<?>> actionSpiesToExecute) {
+    void mustExecuteAll(List<Action<?>> actionSpiesToExecute) {
         actionSpiesToExecute.forEach(actionsList::add);
         actionsList.executeAll();
         actionSpiesToExecute.forEach(action -> {
@@ -123,39 +183,17 @@ class ActionsListTest {
         Action<?> actionTwo = new Action<>(() -> Variables.HELLO);
         Action<?> actionTwoSpy = spy(actionTwo);
         return Stream.of(
-                arguments(List.of(actionOneSpy, actionTwoSpy))
+                arguments(generateActions(1)),
+                arguments(List.of(actionOneSpy, actionTwoSpy)),
+                arguments(generateActions(3)),
+                arguments(generateActions(6)),
+                arguments(generateActions(13))
         );
     }
 
-    List<Action<?>> extractUnaryInternalList(ActionsList actionsList) {
-        List<List<Action<?>>> allInternalActionsLists = extractAllInternalLists(actionsList);
-        Validate.isTrue(allInternalActionsLists.size() == NumberUtils.INTEGER_ONE);
-        return allInternalActionsLists.get(NumberUtils.INTEGER_ZERO);
-    }
-
-    List<List<Action<?>>> extractAllInternalLists(ActionsList actionsList) {
-        Class<? extends ActionsList> conditionalClass = actionsList.getClass();
-        Field[] actionsListFields = conditionalClass.getDeclaredFields();
-        Stream.of(actionsListFields).forEach(field -> field.setAccessible(TRUE));
-        //noinspection unchecked
-        return Stream.of(actionsListFields)
-                .map(field -> {
-                    try {
-                        return field.get(actionsList);
-                    } catch (IllegalAccessException exception) {
-                        log.error("Illegal access", exception);
-                    }
-                    throw new IllegalStateException("Unforeseen application flow");
-                })
-                .filter(fieldObj -> {
-                    Class<?> fieldObjAsClass = fieldObj.getClass();
-                    String fieldObjClassName = fieldObjAsClass.getName();
-                    //noinspection rawtypes
-                    Class<ArrayList> arrayListClass = ArrayList.class;
-                    String arrayListClassName = arrayListClass.getName();
-                    return fieldObjClassName.equals(arrayListClassName);
-                })
-                .map(fieldObj -> (List<Action<?>>) fieldObj)
-                .collect(Collectors.toCollection(ArrayList::new));
+    static List<Action<?>> generateActions(int amount) {
+        return IntStream.range(NumberUtils.INTEGER_ZERO, amount)
+                .<Action<?>>mapToObj(index -> spy(new Action<>(() -> index)))
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,92 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConditionTest {
+
+    private static final int ALWAYS_PROFILED = 1;
+    private static final int EVALUATIONS = 200;
+
+    @Test
+    void mustMoveCheapDecisiveConditionFirstInConjunction() throws Exception {
+        BooleanCallable expensiveAndPassing = () -> {
+            Thread.sleep(1);
+            return true;
+        };
+        BooleanCallable cheapAndFailing = () -> false;
+        AdaptiveCondition condition = new AdaptiveCondition(false, ALWAYS_PROFILED,
+                                                             expensiveAndPassing, cheapAndFailing);
+        boolean result = evaluateRepeatedly(condition);
+        assertAll(
+                () -> assertFalse(result),
+                () -> assertArrayEquals(new BooleanCallable[]{cheapAndFailing, expensiveAndPassing}, condition.order())
+        );
+    }
+
+    @Test
+    void mustMoveSelectiveConditionFirstInDisjunction() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        BooleanCallable rarelyPassing = () -> counter.incrementAndGet() % 10 == 0;
+        BooleanCallable oftenPassing = () -> counter.incrementAndGet() % 10 != 0;
+        AdaptiveCondition condition = new AdaptiveCondition(true, ALWAYS_PROFILED, rarelyPassing, oftenPassing);
+        evaluateRepeatedly(condition);
+        assertArrayEquals(new BooleanCallable[]{oftenPassing, rarelyPassing}, condition.order());
+    }
+
+    @Test
+    void mustMoveNeverProfiledConditionsFirstKeepingTheirOrder() throws Exception {
+        BooleanCallable profiledAndFailing = () -> {
+            Thread.sleep(1);
+            return false;
+        };
+        BooleanCallable firstNeverProfiled = () -> true;
+        BooleanCallable secondNeverProfiled = () -> true;
+        AdaptiveCondition condition = new AdaptiveCondition(false, ALWAYS_PROFILED, profiledAndFailing,
+                                                             firstNeverProfiled, secondNeverProfiled);
+        boolean result = condition.call();
+        assertAll(
+                () -> assertFalse(result),
+                () -> assertArrayEquals(
+                        new BooleanCallable[]{firstNeverProfiled, secondNeverProfiled, profiledAndFailing},
+                        condition.order()
+                )
+        );
+    }
+
+    @Test
+    void mustKeepOrderWithoutProfiling() throws Exception {
+        BooleanCallable expensiveAndPassing = () -> {
+            Thread.sleep(1);
+            return true;
+        };
+        BooleanCallable cheapAndFailing = () -> false;
+        AdaptiveCondition condition = new AdaptiveCondition(false, Integer.MAX_VALUE,
+                                                             expensiveAndPassing, cheapAndFailing);
+        condition.call();
+        assertArrayEquals(new BooleanCallable[]{expensiveAndPassing, cheapAndFailing}, condition.order());
+    }
+
+    @Test
+    void mustRethrowExceptionFromProfiledCondition() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        AdaptiveCondition condition = new AdaptiveCondition(true, ALWAYS_PROFILED, () -> {
+            throw failure;
+        });
+        IOException thrown = assertThrows(IOException.class, condition::call);
+        assertSame(failure, thrown);
+    }
+
+    private static boolean evaluateRepeatedly(AdaptiveCondition condition) throws Exception {
+        boolean result = condition.call();
+        for (int evaluation = 1; evaluation < EVALUATIONS; evaluation++) {
+            result = condition.call();
+        }
+        return result;
+    }
+}
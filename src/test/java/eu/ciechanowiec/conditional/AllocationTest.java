@@ -0,0 +1,178 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static eu.ciechanowiec.conditional.Conditional.*;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assures that hot paths of the library don't allocate. Measurement is based
+ * on the amount of bytes allocated by the current thread, so a tested path
+ * is considered allocation-free if it allocates less than one byte per call.
+ */
+class AllocationTest {
+
+    private static final int WARM_UP_CALLS = 10_000;
+    private static final int MEASURED_CALLS = 100_000;
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnStaticExecution() throws Exception {
+        Runnable action = () -> {
+            // Do nothing
+        };
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            onTrueExecute(TRUE, action);
+            onTrueExecute(FALSE, action);
+            onFalseExecute(TRUE, action, RuntimeException.class);
+            onFalseExecute(FALSE, action, RuntimeException.class);
+        });
+        assertTrue(allocatedBytes < MEASURED_CALLS);
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnPassedAssertions() throws Exception {
+        IOException preconstructedException = new IOException(Variables.EXCEPTION_TEST_MESSAGE);
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            isTrueOrThrow(TRUE, preconstructedException);
+            isFalseOrThrow(FALSE, preconstructedException);
+            isTrueOrThrowLazily(TRUE, () -> new IOException(Variables.EXCEPTION_TEST_MESSAGE));
+            isFalseOrThrowLazily(FALSE, () -> new IOException(Variables.EXCEPTION_TEST_MESSAGE));
+        });
+        assertTrue(allocatedBytes < MEASURED_CALLS);
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnSuccessfulGet() throws Exception {
+        Conditional conditionalTrue = conditional(TRUE)
+                .onTrue(() -> Variables.HELLO)
+                .onFalse(() -> Variables.EXCEPTION_TEST_MESSAGE);
+        Conditional conditionalFalse = conditional(FALSE)
+                .onTrue(() -> Variables.HELLO)
+                .onFalse(() -> Variables.EXCEPTION_TEST_MESSAGE);
+        TypedConditional<String> typedConditional = Conditional.<String>returning(TRUE)
+                .onTrue(() -> Variables.HELLO)
+                .onFalse(() -> Variables.EXCEPTION_TEST_MESSAGE);
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            conditionalTrue.get(String.class);
+            conditionalFalse.get(String.class);
+            typedConditional.get();
+        });
+        assertTrue(allocatedBytes < MEASURED_CALLS);
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnPrunedSubmission() throws Exception {
+        Conditional prunedTrue = pruned(TRUE);
+        Conditional prunedFalse = pruned(FALSE);
+        Runnable runnable = () -> {
+            // Do nothing
+        };
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            prunedTrue.onFalse(runnable).onFalse(() -> Variables.HELLO);
+            prunedFalse.onTrue(runnable).onTrue(() -> Variables.HELLO);
+        });
+        assertTrue(allocatedBytes < MEASURED_CALLS);
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnTemplateEvaluation() throws Exception {
+        Runnable runnable = () -> {
+            // Do nothing
+        };
+        ConditionalTemplate executedTemplate = ConditionalTemplate.template()
+                .onTrue(runnable)
+                .onTrue(runnable)
+                .onFalse(runnable);
+        ConditionalTemplate gotTemplate = ConditionalTemplate.template()
+                .onTrue(() -> Variables.HELLO)
+                .onFalse(() -> Variables.EXCEPTION_TEST_MESSAGE);
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            executedTemplate.execute(TRUE).execute(FALSE);
+            gotTemplate.get(TRUE, String.class);
+            gotTemplate.get(FALSE, String.class);
+        });
+        assertTrue(allocatedBytes < MEASURED_CALLS);
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotBoxOnPrimitiveGet() throws Exception {
+        Conditional conditionalInt = conditional(TRUE).onTrueInt(() -> 1_000_000).onFalseInt(() -> -1);
+        Conditional conditionalLong = conditional(FALSE).onTrueLong(() -> 1).onFalseLong(() -> Long.MAX_VALUE);
+        Conditional conditionalDouble = conditional(TRUE).onTrueDouble(() -> 0.25).onFalseDouble(() -> 1);
+        Conditional conditionalBoolean = conditional(FALSE).onTrueBoolean(() -> true).onFalseBoolean(() -> false);
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            conditionalInt.getAsInt();
+            conditionalLong.getAsLong();
+            conditionalDouble.getAsDouble();
+            conditionalBoolean.getAsBoolean();
+            conditionalDouble.execute();
+        });
+        assertTrue(allocatedBytes < MEASURED_CALLS);
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnRouting() throws Exception {
+        AtomicLong routedOnTrue = new AtomicLong();
+        AtomicLong routedOnFalse = new AtomicLong();
+        Router<Integer> router = Conditional.<Integer>router(value -> value > 0)
+                .onTrue(value -> routedOnTrue.incrementAndGet())
+                .onTrue(value -> routedOnTrue.incrementAndGet())
+                .onFalse(value -> routedOnFalse.incrementAndGet());
+        Integer positive = 1;
+        Integer negative = -1;
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            router.accept(positive);
+            router.accept(negative);
+        });
+        assertAll(
+                () -> assertTrue(allocatedBytes < MEASURED_CALLS),
+                () -> assertEquals(2L * (WARM_UP_CALLS + MEASURED_CALLS), routedOnTrue.get()),
+                () -> assertEquals(WARM_UP_CALLS + MEASURED_CALLS, routedOnFalse.get())
+        );
+    }
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustNotAllocateOnCachedConditionHit() throws Exception {
+        CachedCondition cachedCondition = Conditions.cached(() -> true, Duration.ofHours(1));
+        cachedCondition.call();
+        long allocatedBytes = measureAllocatedBytes(cachedCondition::call);
+        assertAll(
+                () -> assertTrue(allocatedBytes < MEASURED_CALLS),
+                () -> assertEquals(WARM_UP_CALLS + MEASURED_CALLS, cachedCondition.hits())
+        );
+    }
+
+    @SuppressWarnings("squid:S112")
+    private static long measureAllocatedBytes(Runnable measuredCall) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long currentThreadId = Thread.currentThread().getId();
+        repeat(measuredCall, WARM_UP_CALLS);
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(currentThreadId);
+        repeat(measuredCall, MEASURED_CALLS);
+        long allocatedBytesAfter = threadMXBean.getThreadAllocatedBytes(currentThreadId);
+        return allocatedBytesAfter - allocatedBytesBefore;
+    }
+
+    @SuppressWarnings("squid:S112")
+    private static void repeat(Runnable measuredCall, int calls) throws Exception {
+        for (int callIndex = 0; callIndex < calls; callIndex++) {
+            measuredCall.run();
+        }
+    }
+}
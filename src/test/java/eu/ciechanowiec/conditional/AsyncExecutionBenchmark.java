@@ -0,0 +1,67 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the calling thread is blocked when actions that imitate I/O by sleeping are
+ * executed: synchronously via {@link Conditional#execute()} and asynchronously via
+ * {@link Conditional#executeAsync(java.util.concurrent.Executor)}. The {@code asyncRoundTrip}
+ * benchmark additionally waits for the completion, so it shows the end-to-end latency.
+ * <p>
+ * Every invocation is measured separately, so that an asynchronous execution started by
+ * the previous invocation can be awaited outside the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 500)
+@Measurement(iterations = 2000)
+@Fork(1)
+public class AsyncExecutionBenchmark {
+
+    private static final long ACTION_LATENCY_MILLIS = 1;
+
+    private ExecutorService executorService;
+    private Conditional conditional;
+    private CompletableFuture<Void> previousExecution;
+
+    @Setup
+    public void setup() {
+        executorService = Executors.newSingleThreadExecutor();
+        conditional = Conditional.conditional(true)
+                                 .onTrue(() -> Thread.sleep(ACTION_LATENCY_MILLIS));
+        previousExecution = CompletableFuture.completedFuture(null);
+    }
+
+    @Setup(Level.Iteration)
+    public void awaitPreviousExecution() {
+        previousExecution.join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public Conditional blocking() {
+        return conditional.execute();
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> asyncSubmission() {
+        CompletableFuture<Void> execution = conditional.executeAsync(executorService);
+        previousExecution = execution;
+        return execution;
+    }
+
+    @Benchmark
+    public Void asyncRoundTrip() {
+        return conditional.executeAsync(executorService).join();
+    }
+}
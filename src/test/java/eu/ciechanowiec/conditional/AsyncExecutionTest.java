@@ -0,0 +1,41 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncExecutionTest {
+
+    @Test
+    void mustCompleteWithResult() {
+        CompletableFuture<String> result = AsyncExecution.supply(() -> HELLO, task -> task.run());
+        assertEquals(HELLO, result.join());
+    }
+
+    @Test
+    void mustCompleteExceptionallyWithThrownCheckedException() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        CompletableFuture<String> result = AsyncExecution.supply(() -> {
+            throw failure;
+        }, task -> task.run());
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertAll(
+                () -> assertTrue(result.isCompletedExceptionally()),
+                () -> assertSame(failure, exception.getCause())
+        );
+    }
+
+    @Test
+    void mustNotCompleteBeforeExecution() {
+        CompletableFuture<String> result = AsyncExecution.supply(() -> HELLO, task -> {
+            // Never executed
+        });
+        assertFalse(result.isDone());
+    }
+}
@@ -0,0 +1,58 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares usual and time-budgeted execution of actions bound to the same value of a {@link Conditional}.
+ * The {@code ...Cheap} benchmarks execute actions that do nothing, so they measure the overhead of handing
+ * every action over to another thread. The {@code ...Slow} benchmarks execute an action that imitates slow
+ * I/O by sleeping longer than the budget, so they show that time-budgeted execution caps the latency.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BudgetedExecutionBenchmark {
+
+    private static final long SLOW_ACTION_LATENCY_MILLIS = 20;
+    private static final Duration BUDGET = Duration.ofMillis(5);
+
+    private Conditional cheapConditional;
+    private Conditional slowConditional;
+
+    @Setup
+    public void setup() {
+        cheapConditional = Conditional.conditional(true)
+                                      .onTrue(() -> { })
+                                      .onTrue(() -> { });
+        slowConditional = Conditional.conditional(true)
+                                     .onTrue(() -> { })
+                                     .onTrue(() -> Thread.sleep(SLOW_ACTION_LATENCY_MILLIS))
+                                     .onTrue(() -> { });
+    }
+
+    @Benchmark
+    public Conditional usualCheap() {
+        return cheapConditional.execute();
+    }
+
+    @Benchmark
+    public BudgetReport budgetedCheap() {
+        return cheapConditional.executeWithin(BUDGET);
+    }
+
+    @Benchmark
+    public Conditional usualSlow() {
+        return slowConditional.execute();
+    }
+
+    @Benchmark
+    public BudgetReport budgetedSlow() {
+        return slowConditional.executeWithin(BUDGET);
+    }
+}
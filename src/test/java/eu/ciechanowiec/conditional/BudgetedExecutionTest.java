@@ -0,0 +1,248 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BudgetedExecutionTest {
+
+    private static final Duration SHORT_BUDGET = Duration.ofMillis(200);
+    private static final Duration LONG_BUDGET = Duration.ofMinutes(1);
+    private static final Duration WAITING_BOUND = Duration.ofSeconds(5);
+
+    private ExecutorService executorService;
+    private AtomicInteger executions;
+    private Action<?> countingAction;
+
+    @BeforeEach
+    void setup() {
+        executorService = Executors.newCachedThreadPool();
+        executions = new AtomicInteger();
+        countingAction = new Action<>(executions::incrementAndGet);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void mustCompleteAllActionsWithinBudget() {
+        List<Action<?>> actions = List.of(countingAction, countingAction, countingAction);
+        BudgetReport report = BudgetedExecution.execute(actions, LONG_BUDGET,
+                                                        OverrunPolicy.INTERRUPT, executorService);
+        assertAll(
+                () -> assertEquals(3, executions.get()),
+                () -> assertEquals(actions, report.completedActions()),
+                () -> assertTrue(report.isWithinBudget()),
+                () -> assertEquals("3 completed, 0 overrun, 0 skipped", report.toString())
+        );
+    }
+
+    @Test
+    void mustInterruptOverrunningActionAndSkipRest() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Action<?> overrunningAction = new Action<>(() -> {
+            try {
+                Thread.sleep(LONG_BUDGET.toMillis());
+            } catch (InterruptedException exception) {
+                interrupted.countDown();
+                throw exception;
+            }
+        });
+        List<Action<?>> actions = List.of(countingAction, overrunningAction, countingAction, countingAction);
+        long start = System.nanoTime();
+        BudgetReport report = BudgetedExecution.execute(actions, SHORT_BUDGET,
+                                                        OverrunPolicy.INTERRUPT, executorService);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertTrue(interrupted.await(1, TimeUnit.MINUTES));
+        assertAll(
+                () -> assertEquals(1, executions.get()),
+                () -> assertEquals(List.of(countingAction), report.completedActions()),
+                () -> assertEquals(List.of(overrunningAction), report.overrunActions()),
+                () -> assertEquals(List.of(countingAction, countingAction), report.skippedActions()),
+                () -> assertFalse(report.isWithinBudget()),
+                () -> assertTrue(elapsed.compareTo(WAITING_BOUND) < 0, elapsed.toString())
+        );
+    }
+
+    @Test
+    void mustAbandonOverrunningAction() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        Action<?> overrunningAction = new Action<>(() -> {
+            released.await();
+            finished.countDown();
+        });
+        List<Action<?>> actions = List.of(overrunningAction, countingAction);
+        BudgetReport report = BudgetedExecution.execute(actions, SHORT_BUDGET,
+                                                        OverrunPolicy.ABANDON, executorService);
+        long finishedOnReturn = finished.getCount();
+        released.countDown();
+        assertAll(
+                () -> assertEquals(1, finishedOnReturn),
+                () -> assertTrue(finished.await(1, TimeUnit.MINUTES)),
+                () -> assertEquals(List.of(overrunningAction), report.overrunActions()),
+                () -> assertEquals(List.of(countingAction), report.skippedActions()),
+                () -> assertEquals("0 completed, 1 overrun, 1 skipped", report.toString())
+        );
+    }
+
+    @Test
+    void mustSkipAllActionsWithSpentBudget() {
+        List<Action<?>> actions = List.of(countingAction, countingAction);
+        BudgetReport report = BudgetedExecution.execute(actions, Duration.ZERO,
+                                                        OverrunPolicy.INTERRUPT, executorService);
+        assertAll(
+                () -> assertEquals(0, executions.get()),
+                () -> assertEquals(List.of(), report.completedActions()),
+                () -> assertEquals(List.of(), report.overrunActions()),
+                () -> assertEquals(actions, report.skippedActions()),
+                () -> assertFalse(report.isWithinBudget())
+        );
+    }
+
+    @Test
+    void mustRethrowFailureAndStopExecution() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Action<?> failingAction = new Action<>(() -> {
+            throw failure;
+        });
+        List<Action<?>> actions = List.of(failingAction, countingAction);
+        IOException thrown = assertThrows(IOException.class, () -> BudgetedExecution.execute(
+                actions, LONG_BUDGET, OverrunPolicy.INTERRUPT, executorService
+        ));
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertEquals(0, executions.get())
+        );
+    }
+
+    @Test
+    void mustGetValueWithinBudget() {
+        Action<?> action = new Action<>(() -> HELLO);
+        String value = BudgetedExecution.get(action, String.class, LONG_BUDGET,
+                                             OverrunPolicy.INTERRUPT, executorService);
+        assertEquals(HELLO, value);
+    }
+
+    @Test
+    void mustThrowIfValueNotProducedWithinBudget() {
+        Action<?> action = new Action<>(() -> {
+            Thread.sleep(LONG_BUDGET.toMillis());
+            return HELLO;
+        });
+        long start = System.nanoTime();
+        BudgetExceededException exception = assertThrows(BudgetExceededException.class, () -> BudgetedExecution.get(
+                action, String.class, SHORT_BUDGET, OverrunPolicy.INTERRUPT, executorService
+        ));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertAll(
+                () -> assertEquals("Action didn't produce a return value within PT0.2S", exception.getMessage()),
+                () -> assertTrue(elapsed.compareTo(WAITING_BOUND) < 0, elapsed.toString())
+        );
+    }
+
+    @Test
+    void mustNotStartActionForGetWithSpentBudget() {
+        assertThrows(BudgetExceededException.class, () -> BudgetedExecution.get(
+                countingAction, Integer.class, Duration.ZERO, OverrunPolicy.INTERRUPT, executorService
+        ));
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void mustRethrowFailureFromGet() {
+        Action<?> action = new Action<>(() -> HELLO);
+        assertThrows(MismatchedReturnTypeException.class, () -> BudgetedExecution.get(
+                action, Integer.class, LONG_BUDGET, OverrunPolicy.INTERRUPT, executorService
+        ));
+    }
+
+    @Test
+    void mustInterruptActionWhenWaitingThreadIsInterrupted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Action<?> blockingAction = new Action<>(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(LONG_BUDGET.toMillis());
+            } catch (InterruptedException exception) {
+                interrupted.countDown();
+                throw exception;
+            }
+        });
+        AtomicReference<Throwable> thrownInCaller = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                BudgetedExecution.execute(List.of(blockingAction), LONG_BUDGET,
+                                          OverrunPolicy.ABANDON, executorService);
+            } catch (Throwable throwable) {
+                thrownInCaller.set(throwable);
+            }
+        });
+        caller.start();
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        caller.interrupt();
+        caller.join(TimeUnit.MINUTES.toMillis(1));
+        assertAll(
+                () -> assertInstanceOf(InterruptedException.class, thrownInCaller.get()),
+                () -> assertTrue(interrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustHonourCompletionRacingWithOverrun() {
+        FutureTask<String> completedTask = new FutureTask<>(() -> HELLO);
+        completedTask.run();
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        FutureTask<String> failedTask = new FutureTask<>(() -> {
+            throw failure;
+        });
+        failedTask.run();
+        FutureTask<String> pendingTask = new FutureTask<>(() -> HELLO);
+        assertAll(
+                () -> assertTrue(BudgetedExecution.isCompletedDespiteOverrun(completedTask, OverrunPolicy.INTERRUPT)),
+                () -> assertTrue(BudgetedExecution.isCompletedDespiteOverrun(completedTask, OverrunPolicy.ABANDON)),
+                () -> assertSame(failure, assertThrows(IOException.class, () -> BudgetedExecution
+                        .isCompletedDespiteOverrun(failedTask, OverrunPolicy.INTERRUPT))),
+                () -> assertFalse(BudgetedExecution.isCompletedDespiteOverrun(pendingTask, OverrunPolicy.INTERRUPT)),
+                () -> assertTrue(pendingTask.isCancelled())
+        );
+    }
+
+    @Test
+    void mustRunAbandonedActionThatWasQueued() throws InterruptedException {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        CountDownLatch blockerReleased = new CountDownLatch(1);
+        CountDownLatch abandonedActionExecuted = new CountDownLatch(1);
+        singleThreadExecutor.execute(() -> {
+            try {
+                blockerReleased.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Action<?> queuedAction = new Action<>(abandonedActionExecuted::countDown);
+        BudgetReport report = BudgetedExecution.execute(List.of(queuedAction), SHORT_BUDGET,
+                                                        OverrunPolicy.ABANDON, singleThreadExecutor);
+        blockerReleased.countDown();
+        boolean isExecuted = abandonedActionExecuted.await(1, TimeUnit.MINUTES);
+        singleThreadExecutor.shutdownNow();
+        assertAll(
+                () -> assertEquals(List.of(queuedAction), report.overrunActions()),
+                () -> assertTrue(isExecuted)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static eu.ciechanowiec.conditional.Conditional.conditional;
+
+/**
+ * Compares a direct lookup of a feature flag, imitated by an expensive computation, with a lookup
+ * cached via {@link Conditions#cached(BooleanCallable, Duration)}. The {@code ...Conditional} benchmarks
+ * execute an action bound to a {@link Conditional} that describes the flag, imitating the usage per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedConditionBenchmark {
+
+    private static final int LOOKUP_TOKENS = 1_000;
+
+    private BooleanCallable lookup;
+    private CachedCondition cachedLookup;
+    private Runnable action;
+
+    @Setup
+    public void setup() {
+        lookup = CachedConditionBenchmark::isEnabled;
+        cachedLookup = Conditions.cached(lookup, Duration.ofMinutes(1));
+        action = () -> Blackhole.consumeCPU(1);
+    }
+
+    private static boolean isEnabled() {
+        Blackhole.consumeCPU(LOOKUP_TOKENS);
+        return System.identityHashCode(CachedConditionBenchmark.class) != 0;
+    }
+
+    @Benchmark
+    public boolean direct() throws Exception {
+        return lookup.call();
+    }
+
+    @Benchmark
+    public boolean cached() throws Exception {
+        return cachedLookup.call();
+    }
+
+    @Benchmark
+    public Conditional directConditional() throws Exception {
+        return conditional(lookup.call()).onTrue(action).execute();
+    }
+
+    @Benchmark
+    public Conditional cachedConditional() throws Exception {
+        return conditional(cachedLookup.call()).onTrue(action).execute();
+    }
+}
@@ -0,0 +1,190 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedConditionTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
+    private static final Duration REFRESH_AHEAD = Duration.ofSeconds(2);
+    private static final long FRESH_AGE = Duration.ofSeconds(5).toNanos();
+    private static final long DUE_AGE = Duration.ofSeconds(9).toNanos();
+    private static final long EXPIRED_AGE = Duration.ofSeconds(11).toNanos();
+
+    private AtomicLong clock;
+    private Queue<java.lang.Runnable> pendingRefreshes;
+    private AtomicBoolean sourceValue;
+    private AtomicBoolean isSourceFailing;
+    private AtomicInteger sourceCalls;
+    private IOException failure;
+    private CachedCondition cachedCondition;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong();
+        pendingRefreshes = new ArrayDeque<>();
+        sourceValue = new AtomicBoolean(true);
+        isSourceFailing = new AtomicBoolean();
+        sourceCalls = new AtomicInteger();
+        failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        BooleanCallable source = () -> {
+            sourceCalls.incrementAndGet();
+            Conditional.isFalseOrThrow(isSourceFailing.get(), failure);
+            return sourceValue.get();
+        };
+        cachedCondition = new CachedCondition(source, TIME_TO_LIVE, REFRESH_AHEAD, pendingRefreshes::add, clock::get);
+    }
+
+    @Test
+    void mustLoadOnFirstReadAndServeHits() throws Exception {
+        boolean firstRead = cachedCondition.call();
+        sourceValue.set(false);
+        clock.addAndGet(FRESH_AGE);
+        boolean secondRead = cachedCondition.call();
+        boolean thirdRead = cachedCondition.call();
+        assertAll(
+                () -> assertTrue(firstRead),
+                () -> assertTrue(secondRead),
+                () -> assertTrue(thirdRead),
+                () -> assertEquals(1, sourceCalls.get()),
+                () -> assertTrue(pendingRefreshes.isEmpty()),
+                () -> assertEquals("2 hits, 0 stale hits, 1 misses, 1 refreshes, 0 failed refreshes",
+                                   cachedCondition.toString())
+        );
+    }
+
+    @Test
+    void mustRefreshAheadOfExpiryWithoutWaiting() throws Exception {
+        cachedCondition.call();
+        sourceValue.set(false);
+        clock.addAndGet(DUE_AGE);
+        boolean firstDueRead = cachedCondition.call();
+        boolean secondDueRead = cachedCondition.call();
+        int refreshesPendingAfterDueReads = pendingRefreshes.size();
+        pendingRefreshes.remove().run();
+        clock.addAndGet(FRESH_AGE);
+        boolean readAfterRefresh = cachedCondition.call();
+        assertAll(
+                () -> assertTrue(firstDueRead),
+                () -> assertTrue(secondDueRead),
+                () -> assertEquals(1, refreshesPendingAfterDueReads),
+                () -> assertFalse(readAfterRefresh),
+                () -> assertEquals(2, sourceCalls.get()),
+                () -> assertEquals(3, cachedCondition.hits()),
+                () -> assertEquals(1, cachedCondition.misses()),
+                () -> assertEquals(2, cachedCondition.refreshes())
+        );
+    }
+
+    @Test
+    void mustServeExpiredValueWithoutWaiting() throws Exception {
+        cachedCondition.call();
+        sourceValue.set(false);
+        clock.addAndGet(EXPIRED_AGE);
+        boolean expiredRead = cachedCondition.call();
+        int refreshesPendingAfterExpiredRead = pendingRefreshes.size();
+        pendingRefreshes.remove().run();
+        boolean readAfterRefresh = cachedCondition.call();
+        assertAll(
+                () -> assertTrue(expiredRead),
+                () -> assertEquals(1, refreshesPendingAfterExpiredRead),
+                () -> assertFalse(readAfterRefresh),
+                () -> assertEquals(1, cachedCondition.staleHits()),
+                () -> assertEquals(1, cachedCondition.misses()),
+                () -> assertEquals(2, cachedCondition.refreshes())
+        );
+    }
+
+    @Test
+    void mustServeStaleValueWithoutWaitingWhenRefreshFails() throws Exception {
+        cachedCondition.call();
+        isSourceFailing.set(true);
+        clock.addAndGet(DUE_AGE);
+        boolean dueRead = cachedCondition.call();
+        pendingRefreshes.remove().run();
+        boolean readWithinRetryDelay = cachedCondition.call();
+        int refreshesPendingWithinRetryDelay = pendingRefreshes.size();
+        clock.addAndGet(EXPIRED_AGE);
+        boolean expiredRead = cachedCondition.call();
+        isSourceFailing.set(false);
+        sourceValue.set(false);
+        pendingRefreshes.remove().run();
+        boolean readAfterRecovery = cachedCondition.call();
+        assertAll(
+                () -> assertTrue(dueRead),
+                () -> assertTrue(readWithinRetryDelay),
+                () -> assertEquals(0, refreshesPendingWithinRetryDelay),
+                () -> assertTrue(expiredRead),
+                () -> assertFalse(readAfterRecovery),
+                () -> assertEquals(1, cachedCondition.failedRefreshes()),
+                () -> assertEquals(2, cachedCondition.refreshes()),
+                () -> assertEquals(1, cachedCondition.misses()),
+                () -> assertEquals(3, sourceCalls.get())
+        );
+    }
+
+    @Test
+    void mustRethrowFailureWithoutCachedValue() throws Exception {
+        isSourceFailing.set(true);
+        IOException thrown = assertThrows(IOException.class, cachedCondition::call);
+        isSourceFailing.set(false);
+        boolean readAfterRecovery = cachedCondition.call();
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertTrue(readAfterRecovery),
+                () -> assertEquals(1, cachedCondition.failedRefreshes()),
+                () -> assertEquals(2, cachedCondition.misses())
+        );
+    }
+
+    @Test
+    void mustHandleRejectedRefreshAsFailure() throws Exception {
+        Executor rejectingExecutor = task -> {
+            throw new RejectedExecutionException(EXCEPTION_TEST_MESSAGE);
+        };
+        CachedCondition rejectingCondition = new CachedCondition(
+                () -> true, TIME_TO_LIVE, REFRESH_AHEAD, rejectingExecutor, clock::get
+        );
+        rejectingCondition.call();
+        clock.addAndGet(DUE_AGE);
+        boolean dueRead = rejectingCondition.call();
+        clock.addAndGet(EXPIRED_AGE);
+        boolean expiredRead = rejectingCondition.call();
+        assertAll(
+                () -> assertTrue(dueRead),
+                () -> assertTrue(expiredRead),
+                () -> assertEquals(2, rejectingCondition.failedRefreshes()),
+                () -> assertEquals(1, rejectingCondition.refreshes()),
+                () -> assertEquals(1, rejectingCondition.staleHits())
+        );
+    }
+
+    @Test
+    void mustRejectInvalidDurations() {
+        BooleanCallable source = () -> true;
+        Duration negative = Duration.ofSeconds(-1);
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new CachedCondition(
+                        source, negative, Duration.ZERO, pendingRefreshes::add, clock::get)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new CachedCondition(
+                        source, TIME_TO_LIVE, negative, pendingRefreshes::add, clock::get)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new CachedCondition(
+                        source, REFRESH_AHEAD, TIME_TO_LIVE, pendingRefreshes::add, clock::get)),
+                () -> assertDoesNotThrow(() -> new CachedCondition(
+                        source, Duration.ZERO, Duration.ZERO, pendingRefreshes::add, clock::get))
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentActionsListTest {
+
+    private static final int THREADS = 8;
+    private static final int ACTIONS_PER_THREAD = 500;
+
+    @Test
+    void mustAddGetAndClear() {
+        ConcurrentActionsList actionsList = new ConcurrentActionsList();
+        Action<String> firstAction = new Action<>(() -> Variables.HELLO);
+        Action<String> secondAction = new Action<>(() -> Variables.EXCEPTION_TEST_MESSAGE);
+        assertAll(
+                () -> assertTrue(actionsList.getAll().isEmpty()),
+                () -> assertTrue(actionsList.isEmpty()),
+                () -> assertFalse(actionsList.isExactlyOneActionInList()),
+                () -> assertThrows(NoSuchElementException.class, actionsList::getFirst)
+        );
+        actionsList.add(firstAction);
+        assertAll(
+                () -> assertFalse(actionsList.isEmpty()),
+                () -> assertTrue(actionsList.isExactlyOneActionInList()),
+                () -> assertSame(firstAction, actionsList.getFirst())
+        );
+        actionsList.add(secondAction);
+        List<Action<?>> snapshot = actionsList.getAll();
+        actionsList.clear();
+        assertAll(
+                () -> assertEquals(List.of(firstAction, secondAction), snapshot),
+                () -> assertThrows(UnsupportedOperationException.class, () -> snapshot.add(firstAction)),
+                () -> assertTrue(actionsList.getAll().isEmpty()),
+                () -> assertFalse(actionsList.isExactlyOneActionInList())
+        );
+    }
+
+    @Test
+    void mustExecuteSnapshotTakenAtStartOfExecution() {
+        ConcurrentActionsList actionsList = new ConcurrentActionsList();
+        List<String> executionLog = new ArrayList<>();
+        actionsList.add(() -> {
+            executionLog.add("first");
+            actionsList.add(() -> {
+                executionLog.add("added during execution");
+            });
+        });
+        actionsList.add(() -> {
+            executionLog.add("second");
+            actionsList.clear();
+        });
+        actionsList.executeAll();
+        assertAll(
+                () -> assertEquals(List.of("first", "second"), executionLog),
+                () -> assertTrue(actionsList.getAll().isEmpty())
+        );
+    }
+
+    @Test
+    void mustNotLoseConcurrentSubmissions() throws InterruptedException {
+        ConcurrentActionsList actionsList = new ConcurrentActionsList();
+        AtomicInteger executionsCounter = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            for (int threadIndex = 0; threadIndex < THREADS; threadIndex++) {
+                executorService.execute(() -> {
+                    awaitQuietly(startLatch);
+                    for (int actionIndex = 0; actionIndex < ACTIONS_PER_THREAD; actionIndex++) {
+                        actionsList.add(executionsCounter::incrementAndGet);
+                        actionsList.executeAll();
+                    }
+                });
+            }
+            startLatch.countDown();
+        } finally {
+            executorService.shutdown();
+        }
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+        executionsCounter.set(0);
+        actionsList.executeAll();
+        assertAll(
+                () -> assertEquals(THREADS * ACTIONS_PER_THREAD, actionsList.getAll().size()),
+                () -> assertEquals(THREADS * ACTIONS_PER_THREAD, executionsCounter.get())
+        );
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
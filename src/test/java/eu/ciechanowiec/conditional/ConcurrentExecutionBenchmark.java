@@ -0,0 +1,52 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures throughput of a {@link Conditional} shared between threads, with hooks registered
+ * once and executed by every thread. A concurrent {@link Conditional} (lock-free, snapshot-based)
+ * is compared with a usual {@link Conditional} guarded by an external lock. Both variants can be compared
+ * under contention by running the benchmark with different amounts of threads, e.g. {@code -t 1},
+ * {@code -t 8}, {@code -t 64}. Differences in throughput between those runs show up only on a host
+ * with at least as many cores as threads, so results from a single-core host don't measure scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentExecutionBenchmark {
+
+    private static final int HOOKS = 8;
+
+    private LongAdder executionsCounter;
+    private Conditional concurrentConditional;
+    private Conditional lockedConditional;
+
+    @Setup
+    public void setup() {
+        executionsCounter = new LongAdder();
+        concurrentConditional = Conditional.concurrent(true);
+        lockedConditional = Conditional.conditional(true);
+        for (int hookIndex = 0; hookIndex < HOOKS; hookIndex++) {
+            concurrentConditional.onTrue(executionsCounter::increment);
+            lockedConditional.onTrue(executionsCounter::increment);
+        }
+    }
+
+    @Benchmark
+    public Conditional concurrentExecute() {
+        return concurrentConditional.execute();
+    }
+
+    @Benchmark
+    public Conditional lockedExecute() {
+        synchronized (lockedConditional) {
+            return lockedConditional.execute();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares execution of actions over a mask of precomputed boolean values via a {@link Conditional}
+ * created for every position and via a {@link ConditionalBatch}. The {@code ...Sparse} benchmarks
+ * bind actions only to a {@code true} value, which is held by a small fraction of positions.
+ * On a single-core host, {@code batchParallel} measures only the overhead of splitting the mask into tasks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionalBatchBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final double SPARSE_TRUE_RATIO = 0.01;
+
+    private boolean[] mask;
+    private LongAdder executionsOnTrue;
+    private LongAdder executionsOnFalse;
+    private ConditionalBatch batch;
+    private ConditionalBatch sparseBatch;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(SIZE);
+        mask = new boolean[SIZE];
+        for (int position = 0; position < SIZE; position++) {
+            mask[position] = random.nextDouble() < SPARSE_TRUE_RATIO;
+        }
+        executionsOnTrue = new LongAdder();
+        executionsOnFalse = new LongAdder();
+        batch = ConditionalBatch.over(mask)
+                                .onTrue(position -> executionsOnTrue.increment())
+                                .onFalse(position -> executionsOnFalse.increment());
+        sparseBatch = ConditionalBatch.over(mask).onTrue(position -> executionsOnTrue.increment());
+    }
+
+    @Benchmark
+    public void conditionalPerPosition() {
+        for (boolean value : mask) {
+            Conditional.conditional(value)
+                       .onTrue(executionsOnTrue::increment)
+                       .onFalse(executionsOnFalse::increment)
+                       .execute();
+        }
+    }
+
+    @Benchmark
+    public ConditionalBatch batch() {
+        return batch.execute();
+    }
+
+    @Benchmark
+    public ConditionalBatch batchParallel() {
+        return batch.executeParallel();
+    }
+
+    @Benchmark
+    public void conditionalPerPositionSparse() {
+        for (boolean value : mask) {
+            Conditional.conditional(value)
+                       .onTrue(executionsOnTrue::increment)
+                       .execute();
+        }
+    }
+
+    @Benchmark
+    public ConditionalBatch batchSparse() {
+        return sparseBatch.execute();
+    }
+}
@@ -0,0 +1,166 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalBatchTest {
+
+    private static final int LARGE_SIZE = 1_000_003;
+
+    @Test
+    void mustExecuteActionsForPositionsOfBooleanArray() {
+        boolean[] mask = {true, false, false, true, true};
+        List<String> executionLog = new ArrayList<>();
+        ConditionalBatch.over(mask)
+                        .onTrue(position -> executionLog.add("true-1:" + position))
+                        .onFalse(position -> executionLog.add("false:" + position))
+                        .onTrue(position -> executionLog.add("true-2:" + position))
+                        .execute();
+        List<String> expectedLog = List.of("false:1", "false:2", "true-1:0", "true-2:0",
+                                           "true-1:3", "true-2:3", "true-1:4", "true-2:4");
+        assertEquals(expectedLog, executionLog);
+    }
+
+    @Test
+    void mustExecuteActionsForPositionsOfBitSet() {
+        BitSet mask = new BitSet();
+        mask.set(1);
+        mask.set(64);
+        mask.set(130);
+        mask.set(200);
+        List<Integer> positionsOnTrue = new ArrayList<>();
+        List<Integer> positionsOnFalse = new ArrayList<>();
+        ConditionalBatch batch = ConditionalBatch.over(mask, 131)
+                                                 .onTrue(positionsOnTrue::add)
+                                                 .onFalse(positionsOnFalse::add)
+                                                 .execute();
+        assertAll(
+                () -> assertEquals(List.of(1, 64, 130), positionsOnTrue),
+                () -> assertEquals(128, positionsOnFalse.size()),
+                () -> assertFalse(positionsOnFalse.contains(200)),
+                () -> assertEquals(131, batch.size()),
+                () -> assertEquals(3, batch.countTrue())
+        );
+    }
+
+    @Test
+    void mustExecuteActionsForPositionsOfLongArray() {
+        long[] mask = {Long.MIN_VALUE | 1L, -1L};
+        List<Integer> positionsOnTrue = new ArrayList<>();
+        AtomicInteger executionsOnFalse = new AtomicInteger();
+        ConditionalBatch batch = ConditionalBatch.over(mask)
+                                                 .onTrue(positionsOnTrue::add)
+                                                 .onFalse(position -> executionsOnFalse.incrementAndGet())
+                                                 .execute();
+        assertAll(
+                () -> assertEquals(66, positionsOnTrue.size()),
+                () -> assertEquals(List.of(0, 63, 64), positionsOnTrue.subList(0, 3)),
+                () -> assertEquals(127, positionsOnTrue.get(65)),
+                () -> assertEquals(62, executionsOnFalse.get()),
+                () -> assertEquals(128, batch.size()),
+                () -> assertEquals(66, batch.countTrue())
+        );
+    }
+
+    @Test
+    void mustNotBeAffectedByModificationsOfPassedMasks() {
+        boolean[] booleanMask = {true};
+        BitSet bitSetMask = new BitSet();
+        bitSetMask.set(0);
+        long[] longMask = {1L};
+        ConditionalBatch overBooleans = ConditionalBatch.over(booleanMask);
+        ConditionalBatch overBitSet = ConditionalBatch.over(bitSetMask, 1);
+        ConditionalBatch overLongs = ConditionalBatch.over(longMask);
+        booleanMask[0] = false;
+        bitSetMask.clear();
+        longMask[0] = 0L;
+        assertAll(
+                () -> assertEquals(1, overBooleans.countTrue()),
+                () -> assertEquals(1, overBitSet.countTrue()),
+                () -> assertEquals(1, overLongs.countTrue())
+        );
+    }
+
+    @Test
+    void mustSubmitActionsWithoutModifyingOriginalBatch() {
+        AtomicInteger executionsOnTrue = new AtomicInteger();
+        AtomicInteger executionsOnFalse = new AtomicInteger();
+        ConditionalBatch original = ConditionalBatch.over(new boolean[]{true, false})
+                                                    .onTrue(position -> executionsOnTrue.incrementAndGet());
+        ConditionalBatch extended = original.onFalse(position -> executionsOnFalse.incrementAndGet());
+        original.execute();
+        extended.execute();
+        assertAll(
+                () -> assertEquals(2, executionsOnTrue.get()),
+                () -> assertEquals(1, executionsOnFalse.get())
+        );
+    }
+
+    @Test
+    void mustHandleEmptyMasksAndBatchesWithoutActions() {
+        ConditionalBatch emptyBatch = ConditionalBatch.over(new boolean[0])
+                                                      .onTrue(position -> fail())
+                                                      .onFalse(position -> fail());
+        ConditionalBatch batchWithoutActions = ConditionalBatch.over(new long[]{-1L, 0L});
+        assertAll(
+                () -> assertSame(emptyBatch, emptyBatch.execute().executeParallel()),
+                () -> assertEquals(0, emptyBatch.countTrue()),
+                () -> assertSame(batchWithoutActions, batchWithoutActions.execute()),
+                () -> assertEquals(64, batchWithoutActions.countTrue())
+        );
+    }
+
+    @Test
+    void mustThrowForNegativeSize() {
+        BitSet mask = new BitSet();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                                                           () -> ConditionalBatch.over(mask, -1));
+        assertEquals("Amount of positions must not be negative, but was -1", exception.getMessage());
+    }
+
+    @Test
+    void mustExecuteInParallel() {
+        boolean[] mask = new boolean[LARGE_SIZE];
+        IntStream.range(0, LARGE_SIZE).filter(position -> position % 7 == 0).forEach(position -> mask[position] = true);
+        Set<Integer> positionsOnTrue = ConcurrentHashMap.newKeySet();
+        AtomicInteger executionsOnFalse = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConditionalBatch.over(mask)
+                            .onTrue(positionsOnTrue::add)
+                            .onFalse(position -> executionsOnFalse.incrementAndGet())
+                            .executeParallel(pool);
+        } finally {
+            pool.shutdown();
+        }
+        Set<Integer> expectedOnTrue = IntStream.range(0, LARGE_SIZE)
+                                               .filter(position -> position % 7 == 0)
+                                               .boxed()
+                                               .collect(Collectors.toSet());
+        assertAll(
+                () -> assertEquals(expectedOnTrue, positionsOnTrue),
+                () -> assertEquals(LARGE_SIZE - expectedOnTrue.size(), executionsOnFalse.get())
+        );
+    }
+
+    @Test
+    void mustPropagateExceptionFromParallelExecution() {
+        ConditionalBatch batch = ConditionalBatch.over(new boolean[LARGE_SIZE])
+                                                 .onFalse(position -> Conditional.isFalseOrThrow(
+                                                         position == LARGE_SIZE - 1,
+                                                         new IllegalStateException(Variables.EXCEPTION_TEST_MESSAGE)
+                                                 ));
+        assertThrows(IllegalStateException.class, batch::executeParallel);
+    }
+}
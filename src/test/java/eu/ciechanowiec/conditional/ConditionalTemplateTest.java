@@ -0,0 +1,121 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static eu.ciechanowiec.conditional.ConditionalTemplate.template;
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalTemplateTest {
+
+    @Test
+    void mustCreateEmptyTemplate() {
+        ConditionalTemplate emptyTemplate = template();
+        assertAll(
+                () -> assertTrue(emptyTemplate.actionsOnTrue().isEmpty()),
+                () -> assertTrue(emptyTemplate.actionsOnFalse().isEmpty()),
+                () -> assertSame(emptyTemplate, emptyTemplate.execute(true).execute(false))
+        );
+    }
+
+    @Test
+    void mustSubmitActionsWithoutModifyingOriginalTemplate() {
+        Action<String> actionOnTrue = new Action<>(() -> HELLO);
+        Action<String> actionOnFalse = new Action<>(() -> EXCEPTION_TEST_MESSAGE);
+        ConditionalTemplate original = template().onTrue(actionOnTrue);
+        ConditionalTemplate extended = original.onFalse(actionOnFalse)
+                                               .onTrue(() -> HELLO)
+                                               .onFalse(() -> System.out.println(HELLO));
+        assertAll(
+                () -> assertEquals(List.of(actionOnTrue), original.actionsOnTrue()),
+                () -> assertTrue(original.actionsOnFalse().isEmpty()),
+                () -> assertEquals(2, extended.actionsOnTrue().size()),
+                () -> assertEquals(actionOnTrue, extended.actionsOnTrue().get(0)),
+                () -> assertEquals(2, extended.actionsOnFalse().size()),
+                () -> assertEquals(actionOnFalse, extended.actionsOnFalse().get(0)),
+                () -> assertThrows(UnsupportedOperationException.class,
+                                   () -> extended.actionsOnTrue().add(actionOnFalse))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void mustExecuteSubsequentlyActionsBoundToPassedValue(boolean value) {
+        List<String> executionLog = new ArrayList<>();
+        ConditionalTemplate template = template()
+                .onTrue(() -> executionLog.add("true-1"))
+                .onFalse(() -> executionLog.add("false-1"))
+                .onTrue(new Action<>(() -> executionLog.add("true-2")))
+                .onFalse(new Action<>(() -> executionLog.add("false-2")));
+        template.execute(value).execute(value);
+        String expectedPrefix = String.valueOf(value);
+        List<String> expectedLog = List.of(expectedPrefix + "-1", expectedPrefix + "-2",
+                                           expectedPrefix + "-1", expectedPrefix + "-2");
+        assertEquals(expectedLog, executionLog);
+    }
+
+    @Test
+    void mustGetValueBoundToPassedValue() {
+        ConditionalTemplate template = template()
+                .onTrue(() -> HELLO)
+                .onFalse(() -> EXCEPTION_TEST_MESSAGE);
+        assertAll(
+                () -> assertEquals(HELLO, template.get(true, String.class)),
+                () -> assertEquals(EXCEPTION_TEST_MESSAGE, template.get(false, String.class)),
+                () -> assertThrows(MismatchedReturnTypeException.class, () -> template.get(true, List.class))
+        );
+    }
+
+    @Test
+    void mustThrowWhenGetWithNotExactlyOneAction() {
+        ConditionalTemplate template = template()
+                .onTrue(() -> HELLO)
+                .onTrue(() -> HELLO);
+        assertAll(
+                () -> assertThrows(UndeterminedReturnValueException.class, () -> template.get(true, String.class)),
+                () -> assertThrows(UndeterminedReturnValueException.class, () -> template.get(false, String.class))
+        );
+    }
+
+    @Test
+    void mustThrowFromAction() {
+        ConditionalTemplate template = template()
+                .onTrue(() -> {
+                    throw new IOException(EXCEPTION_TEST_MESSAGE);
+                });
+        assertAll(
+                () -> assertThrows(IOException.class, () -> template.execute(true)),
+                () -> assertDoesNotThrow(() -> template.execute(false))
+        );
+    }
+
+    @Test
+    void mustBeShareableBetweenThreads() throws InterruptedException, ExecutionException {
+        ConditionalTemplate template = template()
+                .onTrue(() -> HELLO)
+                .onFalse(() -> EXCEPTION_TEST_MESSAGE);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> tasks = IntStream.range(0, 1000)
+                    .<Callable<String>>mapToObj(index -> () -> template.get(index % 2 == 0, String.class))
+                    .collect(Collectors.toList());
+            List<Future<String>> results = executorService.invokeAll(tasks);
+            for (int index = 0; index < results.size(); index++) {
+                String expected = index % 2 == 0 ? HELLO : EXCEPTION_TEST_MESSAGE;
+                assertEquals(expected, results.get(index).get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
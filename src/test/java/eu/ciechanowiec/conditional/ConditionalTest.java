@@ -24,12 +24,23 @@ import java.awt.*;
 import java.io.IOException;
 import java.lang.annotation.AnnotationTypeMismatchException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.rmi.AlreadyBoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.prefs.BackingStoreException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -61,6 +72,40 @@ class ConditionalTest {
         assertEquals(expectedValue, actualValue);
     }
 
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustCreateSpecifiedPrunedConditional(boolean expectedValue) {
+        Conditional conditional = pruned(expectedValue);
+        assertNotNull(conditional);
+        boolean actualValue = conditional.describedValue();
+        assertEquals(expectedValue, actualValue);
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustCreateSpecifiedConcurrentConditional(boolean expectedValue) {
+        Conditional conditional = concurrent(expectedValue);
+        assertNotNull(conditional);
+        boolean actualValue = conditional.describedValue();
+        assertEquals(expectedValue, actualValue);
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustCreateSpecifiedLazyConditional(boolean expectedValue) {
+        AtomicInteger evaluations = new AtomicInteger();
+        Conditional conditional = conditional(() -> evaluations.incrementAndGet() > 0 == expectedValue);
+        int evaluationsOnCreation = evaluations.get();
+        boolean actualValue = conditional.describedValue();
+        assertAll(
+                () -> assertEquals(0, evaluationsOnCreation),
+                () -> assertEquals(expectedValue, actualValue),
+                () -> assertEquals(expectedValue, conditional.isTrue()),
+                () -> assertEquals(!expectedValue, conditional.isFalse()),
+                () -> assertEquals(1, evaluations.get())
+        );
+    }
+
 //  <!-- ====================================================================== -->
 //  <!--        RETRIEVING DATA                                                 -->
 //  <!-- ====================================================================== -->
@@ -219,6 +264,154 @@ class ConditionalTest {
         );
     }
 
+    @Test
+    void mustDiscardActionsOnFalseIfPrunedTrue() {
+        Action<String> actionOnTrue = new Action<>(() -> HELLO);
+        Conditional conditional = pruned(TRUE)
+                .onTrue(actionOnTrue)
+                .onFalse(() -> HELLO)
+                .onFalse(() -> System.out.println(HELLO))
+                .onFalse(new Action<>(() -> HELLO))
+                .onFalseThrow(new IOException());
+        assertAll(
+                () -> assertEquals(List.of(actionOnTrue), conditional.actionsOnTrue().getAll()),
+                () -> assertTrue(conditional.actionsOnFalse().getAll().isEmpty()),
+                () -> assertEquals(HELLO, conditional.get(String.class))
+        );
+    }
+
+    @Test
+    void mustDiscardActionsOnTrueIfPrunedFalse() {
+        Action<String> actionOnFalse = new Action<>(() -> HELLO);
+        Conditional conditional = pruned(FALSE)
+                .onTrue(() -> HELLO)
+                .onTrue(() -> System.out.println(HELLO))
+                .onTrue(new Action<>(() -> HELLO))
+                .onTrueThrow(new IOException())
+                .onFalse(actionOnFalse);
+        assertAll(
+                () -> assertTrue(conditional.actionsOnTrue().getAll().isEmpty()),
+                () -> assertEquals(List.of(actionOnFalse), conditional.actionsOnFalse().getAll()),
+                () -> assertEquals(HELLO, conditional.get(String.class))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustExecuteAllActionsForDescribedValueIfPruned(boolean describedValue) {
+        List<String> executionLog = new ArrayList<>();
+        pruned(describedValue)
+                .onTrue(() -> executionLog.add("true-1"))
+                .onFalse(() -> executionLog.add("false-1"))
+                .onTrue(() -> executionLog.add("true-2"))
+                .onFalse(() -> executionLog.add("false-2"))
+                .execute();
+        String expectedPrefix = String.valueOf(describedValue);
+        assertEquals(List.of(expectedPrefix + "-1", expectedPrefix + "-2"), executionLog);
+    }
+
+    @Test
+    void mustSubmitConcurrentlyToConcurrentConditional() throws InterruptedException {
+        Conditional conditional = concurrent(TRUE);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            IntStream.range(0, 400).forEach(index -> executorService.execute(() -> {
+                conditional.onTrue(() -> executed.add(index))
+                           .onFalse(() -> executed.add(-index))
+                           .execute();
+            }));
+        } finally {
+            executorService.shutdown();
+        }
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+        executed.clear();
+        conditional.execute();
+        List<Integer> expected = IntStream.range(0, 400).boxed().collect(Collectors.toList());
+        List<Integer> actual = new ArrayList<>(executed);
+        Collections.sort(actual);
+        conditional.discardActionsOnTrue().discardActionsOnFalse();
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertTrue(conditional.actionsOnTrue().getAll().isEmpty()),
+                () -> assertTrue(conditional.actionsOnFalse().getAll().isEmpty())
+        );
+    }
+
+    @Test
+    void mustNotEvaluateLazyConditionalWithoutActions() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Conditional conditional = conditional(() -> evaluations.incrementAndGet() > 0);
+        conditional.execute().execute(3);
+        assertThrows(UndeterminedReturnValueException.class, () -> conditional.get(String.class));
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    void mustEvaluateLazyConditionalOnceOnExecution() {
+        AtomicInteger evaluations = new AtomicInteger();
+        List<String> executionLog = new ArrayList<>();
+        Conditional conditional = conditional(() -> evaluations.incrementAndGet() < 0)
+                .onTrue(() -> executionLog.add("true"));
+        conditional.execute();
+        int evaluationsWithActionOnTrue = evaluations.get();
+        conditional.onFalse(() -> HELLO).execute();
+        String value = conditional.get(String.class);
+        assertAll(
+                () -> assertEquals(1, evaluationsWithActionOnTrue),
+                () -> assertEquals(HELLO, value),
+                () -> assertTrue(executionLog.isEmpty()),
+                () -> assertEquals(1, evaluations.get())
+        );
+    }
+
+    @Test
+    void mustRethrowExceptionFromLazyConditionalEvaluation() {
+        AtomicInteger evaluations = new AtomicInteger();
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Conditional conditional = conditional(() -> {
+            evaluations.incrementAndGet();
+            throw failure;
+        }).onFalse(() -> HELLO);
+        IOException thrownOnExecution = assertThrows(IOException.class, conditional::execute);
+        IOException thrownOnRetrieval = assertThrows(IOException.class, conditional::describedValue);
+        assertAll(
+                () -> assertSame(failure, thrownOnExecution),
+                () -> assertSame(failure, thrownOnRetrieval),
+                () -> assertEquals(1, evaluations.get())
+        );
+    }
+
+    @Test
+    void mustEvaluateSharedLazyConditionalOnce() throws InterruptedException {
+        int threads = 8;
+        AtomicInteger evaluations = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        Conditional conditional = conditional(() -> {
+            evaluations.incrementAndGet();
+            Thread.sleep(50);
+            return true;
+        }).onTrueInt(() -> 1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Callable<Integer>> tasks = IntStream.range(0, threads)
+                .<Callable<Integer>>mapToObj(index -> () -> {
+                    barrier.await(1, TimeUnit.MINUTES);
+                    return conditional.getAsInt();
+                })
+                .collect(Collectors.toList());
+        try {
+            int sum = executorService.invokeAll(tasks).stream()
+                                     .mapToInt(future -> assertDoesNotThrow(() -> future.get()))
+                                     .sum();
+            assertAll(
+                    () -> assertEquals(threads, sum),
+                    () -> assertEquals(1, evaluations.get())
+            );
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
 //  <!-- ====================================================================== -->
 //  <!--        EXECUTION OPERATIONS - USUAL                                    -->
 //  <!-- ====================================================================== -->
@@ -613,6 +806,267 @@ class ConditionalTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustExecuteParallelOnlyActionsForDescribedValue(boolean describedValue) {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        Conditional conditional = conditional(describedValue)
+                .onTrue(() -> executed.add("true-1"))
+                .onTrue(() -> executed.add("true-2"))
+                .onFalse(() -> executed.add("false-1"));
+        conditional.executeParallel();
+        List<String> afterDefaultPool = new ArrayList<>(executed);
+        executed.clear();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            conditional.executeParallel(executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+        List<String> afterCustomExecutor = new ArrayList<>(executed);
+        Collections.sort(afterDefaultPool);
+        Collections.sort(afterCustomExecutor);
+        List<String> expected = describedValue ? List.of("true-1", "true-2") : List.of("false-1");
+        assertAll(
+                () -> assertEquals(expected, afterDefaultPool),
+                () -> assertEquals(expected, afterCustomExecutor)
+        );
+    }
+
+    @Test
+    void mustThrowAggregateFromParallelExecution() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Conditional conditional = conditional(TRUE)
+                .onTrueThrow(failure)
+                .onTrue(() -> HELLO)
+                .onFalseThrow(new IOException());
+        ParallelExecutionException exception = assertThrows(ParallelExecutionException.class,
+                                                             conditional::executeParallel);
+        assertArrayEquals(new Throwable[]{failure}, exception.getSuppressed());
+    }
+
+    @Test
+    void mustExecuteEveryActionOnItsOwnThread() {
+        int actions = 3;
+        CyclicBarrier barrier = new CyclicBarrier(actions);
+        Set<Thread> executingThreads = ConcurrentHashMap.newKeySet();
+        Callable<Integer> actionAwaitingOthers = () -> {
+            executingThreads.add(Thread.currentThread());
+            return barrier.await(1, TimeUnit.MINUTES);
+        };
+        Conditional conditional = conditional(TRUE)
+                .onTrue(actionAwaitingOthers)
+                .onTrue(actionAwaitingOthers)
+                .onTrue(actionAwaitingOthers)
+                .onFalse(actionAwaitingOthers);
+        conditional.executeOnVirtualThreads();
+        assertAll(
+                () -> assertEquals(actions, executingThreads.size()),
+                () -> assertFalse(executingThreads.contains(Thread.currentThread()))
+        );
+    }
+
+    @Test
+    void mustThrowAggregateFromVirtualThreadsExecution() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Conditional conditional = conditional(FALSE)
+                .onFalseThrow(failure)
+                .onFalse(() -> HELLO)
+                .onTrueThrow(new IOException());
+        ParallelExecutionException exception = assertThrows(ParallelExecutionException.class,
+                                                             conditional::executeOnVirtualThreads);
+        assertArrayEquals(new Throwable[]{failure}, exception.getSuppressed());
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustExecuteFailFastOnlyActionsForDescribedValue(boolean describedValue) {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        Conditional conditional = conditional(describedValue)
+                .onTrue(() -> executed.add("true-1"))
+                .onTrue(() -> executed.add("true-2"))
+                .onFalse(() -> executed.add("false-1"));
+        conditional.executeFailFast();
+        Collections.sort(executed);
+        List<String> expected = describedValue ? List.of("true-1", "true-2") : List.of("false-1");
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    void mustRethrowFirstFailureFromFailFastExecution() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Conditional conditional = conditional(TRUE)
+                .onTrue(() -> Thread.sleep(TimeUnit.MINUTES.toMillis(1)))
+                .onTrueThrow(failure)
+                .onFalseThrow(new IOException());
+        IOException thrown = assertThrows(IOException.class, conditional::executeFailFast);
+        assertSame(failure, thrown);
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustExecuteCyclesOnlyOfActionsForDescribedValue(boolean describedValue) {
+        AtomicInteger executionsOnTrue = new AtomicInteger();
+        AtomicInteger executionsOnFalse = new AtomicInteger();
+        CycleReport report = conditional(describedValue)
+                .onTrue(executionsOnTrue::incrementAndGet)
+                .onFalse(executionsOnFalse::incrementAndGet)
+                .executeCycles(100, 10);
+        int expectedOnTrue = describedValue ? 100 : 0;
+        assertAll(
+                () -> assertEquals(100, report.cyclesExecuted()),
+                () -> assertEquals(expectedOnTrue, executionsOnTrue.get()),
+                () -> assertEquals(100 - expectedOnTrue, executionsOnFalse.get())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustExecuteWithinBudgetOnlyActionsForDescribedValue(boolean describedValue) {
+        AtomicInteger executionsOnTrue = new AtomicInteger();
+        AtomicInteger executionsOnFalse = new AtomicInteger();
+        BudgetReport report = conditional(describedValue)
+                .onTrue(executionsOnTrue::incrementAndGet)
+                .onTrue(executionsOnTrue::incrementAndGet)
+                .onFalse(executionsOnFalse::incrementAndGet)
+                .executeWithin(Duration.ofMinutes(1));
+        int expectedOnTrue = describedValue ? 2 : 0;
+        int expectedOnFalse = describedValue ? 0 : 1;
+        assertAll(
+                () -> assertTrue(report.isWithinBudget()),
+                () -> assertEquals(expectedOnTrue + expectedOnFalse, report.completedActions().size()),
+                () -> assertEquals(expectedOnTrue, executionsOnTrue.get()),
+                () -> assertEquals(expectedOnFalse, executionsOnFalse.get())
+        );
+    }
+
+    @Test
+    void mustGetWithinBudget() {
+        Conditional conditional = conditional(FALSE)
+                .onTrue(() -> EXCEPTION_TEST_MESSAGE)
+                .onFalse(() -> HELLO);
+        Conditional slowConditional = conditional(TRUE)
+                .onTrue(() -> {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    return HELLO;
+                });
+        Duration timeout = Duration.ofMillis(100);
+        assertAll(
+                () -> assertEquals(HELLO, conditional.getWithin(String.class, Duration.ofMinutes(1))),
+                () -> assertThrows(BudgetExceededException.class, () -> slowConditional.getWithin(String.class, timeout)),
+                () -> assertThrows(UndeterminedReturnValueException.class,
+                                   () -> conditional(TRUE).getWithin(String.class, timeout))
+        );
+    }
+
+    @Test
+    void mustExecuteWithinBudgetViaPassedExecutor() throws ExecutionException, InterruptedException {
+        Set<Thread> executingThreads = ConcurrentHashMap.newKeySet();
+        Conditional conditional = conditional(TRUE).onTrue(() -> executingThreads.add(Thread.currentThread()));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Thread executorThread = executorService.submit(Thread::currentThread).get();
+            BudgetReport report = conditional.executeWithin(Duration.ofMinutes(1), OverrunPolicy.ABANDON,
+                                                            executorService);
+            assertAll(
+                    () -> assertTrue(report.isWithinBudget()),
+                    () -> assertEquals(Set.of(executorThread), executingThreads)
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void mustGetWithinBudgetViaPassedExecutor() throws ExecutionException, InterruptedException {
+        Conditional conditional = conditional(TRUE).onTrue(Thread::currentThread);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Thread executorThread = executorService.submit(Thread::currentThread).get();
+            assertSame(executorThread, conditional.getWithin(Thread.class, Duration.ofMinutes(1),
+                                                             OverrunPolicy.ABANDON, executorService));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustExecuteAsyncOnlyActionsForDescribedValue(boolean describedValue) {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        Conditional conditional = conditional(describedValue)
+                .onTrue(() -> executed.add("true-1"))
+                .onTrue(() -> executed.add("true-2"))
+                .onFalse(() -> executed.add("false-1"));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Void> execution = conditional.executeAsync(executorService);
+            conditional.onTrue(() -> executed.add("submitted after call"))
+                       .onFalse(() -> executed.add("submitted after call"));
+            assertNull(execution.join());
+        } finally {
+            executorService.shutdownNow();
+        }
+        List<String> expected = describedValue ? List.of("true-1", "true-2") : List.of("false-1");
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    void mustCompleteAsyncExecutionExceptionally() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        List<String> executed = new ArrayList<>();
+        CompletableFuture<Void> execution = conditional(TRUE)
+                .onTrueThrow(failure)
+                .onTrue(() -> executed.add(HELLO))
+                .executeAsync(task -> task.run());
+        ExecutionException exception = assertThrows(ExecutionException.class, execution::get);
+        assertAll(
+                () -> assertSame(failure, exception.getCause()),
+                () -> assertTrue(executed.isEmpty())
+        );
+    }
+
+    @Test
+    void mustGetAsync() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> onTrue = conditional(TRUE)
+                    .onTrue(() -> HELLO)
+                    .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                    .getAsync(String.class, executorService);
+            CompletableFuture<String> onFalse = conditional(FALSE)
+                    .onTrue(() -> HELLO)
+                    .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                    .getAsync(String.class, executorService);
+            assertAll(
+                    () -> assertEquals(HELLO, onTrue.get()),
+                    () -> assertEquals(EXCEPTION_TEST_MESSAGE, onFalse.get())
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void mustCompleteAsyncGetExceptionally() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        CompletableFuture<String> withFailure = conditional(TRUE)
+                .onTrueThrow(failure)
+                .getAsync(String.class, task -> task.run());
+        CompletableFuture<String> withoutAction = conditional(TRUE)
+                .getAsync(String.class, task -> task.run());
+        CompletableFuture<Integer> withMismatchedType = conditional(TRUE)
+                .onTrue(() -> HELLO)
+                .getAsync(Integer.class, task -> task.run());
+        assertAll(
+                () -> assertSame(failure, assertThrows(ExecutionException.class, withFailure::get).getCause()),
+                () -> assertEquals(UndeterminedReturnValueException.class,
+                                   assertThrows(ExecutionException.class, withoutAction::get).getCause().getClass()),
+                () -> assertEquals(MismatchedReturnTypeException.class,
+                                   assertThrows(ExecutionException.class, withMismatchedType::get).getCause().getClass())
+        );
+    }
+
 //  <!-- ====================================================================== -->
 //  <!--        GET OPERATIONS                                                  -->
 //  <!-- ====================================================================== -->
@@ -803,6 +1257,51 @@ class ConditionalTest {
         conditional.get(String.class, null, null, null, null);
     }
 
+    @ParameterizedTest
+    @MethodSource("generateBooleans")
+    void mustGetPrimitives(boolean describedValue) {
+        Conditional conditional = conditional(describedValue);
+        int actualInt = conditional.onTrueInt(() -> 1000).onFalseInt(() -> -1000).getAsInt();
+        conditional.discardAllActions();
+        long actualLong = conditional.onTrueLong(() -> 1L).onFalseLong(() -> -1L).getAsLong();
+        conditional.discardAllActions();
+        double actualDouble = conditional.onTrueDouble(() -> 0.5).onFalseDouble(() -> -0.5).getAsDouble();
+        conditional.discardAllActions();
+        boolean actualBoolean = conditional.onTrueBoolean(() -> true).onFalseBoolean(() -> false).getAsBoolean();
+        int sign = Boolean.compare(describedValue, false) * 2 - 1;
+        assertAll(
+                () -> assertEquals(sign * 1000, actualInt),
+                () -> assertEquals(sign, actualLong),
+                () -> assertEquals(sign * 0.5, actualDouble),
+                () -> assertEquals(describedValue, actualBoolean)
+        );
+    }
+
+    @Test
+    void mustGetPrimitivesFromGenericActions() {
+        Conditional conditional = conditional(TRUE).onTrue(() -> 1000);
+        assertAll(
+                () -> assertEquals(1000, conditional.getAsInt()),
+                () -> assertThrows(MismatchedReturnTypeException.class, conditional::getAsLong),
+                () -> assertThrows(MismatchedReturnTypeException.class, conditional::getAsDouble),
+                () -> assertThrows(MismatchedReturnTypeException.class, conditional::getAsBoolean),
+                () -> assertEquals(1000, conditional.get(Integer.class))
+        );
+    }
+
+    @Test
+    void mustThrowWhenGetPrimitiveWithNotExactlyOneAction() {
+        Conditional conditional = conditional(TRUE)
+                .onTrueInt(() -> 1)
+                .onTrueInt(() -> 2);
+        assertAll(
+                () -> assertThrows(UndeterminedReturnValueException.class, conditional::getAsInt),
+                () -> assertThrows(UndeterminedReturnValueException.class, conditional::getAsLong),
+                () -> assertThrows(UndeterminedReturnValueException.class, conditional::getAsDouble),
+                () -> assertThrows(UndeterminedReturnValueException.class, conditional::getAsBoolean)
+        );
+    }
+
 //  <!-- ====================================================================== -->
 //  <!--        DISCARD OPERATIONS                                              -->
 //  <!-- ====================================================================== -->
@@ -968,6 +1467,39 @@ class ConditionalTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("generateException")
+    void testIsTrueOrThrowLazily(Exception genericException) {
+        assertDoesNotThrow(() -> Conditional.isTrueOrThrowLazily(TRUE, () -> genericException));
+        try {
+            Conditional.isTrueOrThrowLazily(FALSE, () -> genericException);
+            fail();
+        } catch (Exception caughtException) {
+            assertEquals(caughtException, genericException);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateException")
+    void testIsFalseOrThrowLazily(Exception genericException) {
+        assertDoesNotThrow(() -> Conditional.isFalseOrThrowLazily(FALSE, () -> genericException));
+        try {
+            Conditional.isFalseOrThrowLazily(TRUE, () -> genericException);
+            fail();
+        } catch (Exception caughtException) {
+            assertEquals(caughtException, genericException);
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "OverlyBroadThrowsClause"})
+    void mustNotCallExceptionSupplierIfConditionIsMet() throws Exception {
+        Supplier<RuntimeException> exceptionSupplier = mock(Supplier.class);
+        Conditional.isTrueOrThrowLazily(TRUE, exceptionSupplier);
+        Conditional.isFalseOrThrowLazily(FALSE, exceptionSupplier);
+        verify(exceptionSupplier, never()).get();
+    }
+
     @SuppressWarnings("DataFlowIssue")
     @Test
     void mustThrowNPEWhenNullAsExceptionPassed() {
@@ -988,7 +1520,13 @@ class ConditionalTest {
                 () -> assertThrows(NullPointerException.class, () -> isTrueOrThrow(FALSE, null)),
                 () -> assertDoesNotThrow(() -> isTrueOrThrow(TRUE, null)),
                 () -> assertThrows(NullPointerException.class, () -> isFalseOrThrow(TRUE, null)),
-                () -> assertDoesNotThrow(() -> isFalseOrThrow(FALSE, null))
+                () -> assertDoesNotThrow(() -> isFalseOrThrow(FALSE, null)),
+                () -> assertThrows(NullPointerException.class, () -> isTrueOrThrowLazily(FALSE, null)),
+                () -> assertThrows(NullPointerException.class, () -> isTrueOrThrowLazily(FALSE, () -> null)),
+                () -> assertDoesNotThrow(() -> isTrueOrThrowLazily(TRUE, null)),
+                () -> assertThrows(NullPointerException.class, () -> isFalseOrThrowLazily(TRUE, null)),
+                () -> assertThrows(NullPointerException.class, () -> isFalseOrThrowLazily(TRUE, () -> null)),
+                () -> assertDoesNotThrow(() -> isFalseOrThrowLazily(FALSE, null))
         );
     }
 
@@ -1039,22 +1577,22 @@ class ConditionalTest {
     }
 
     ActionsList extractActionsViaReflection(Conditional conditional, boolean actionsCategory) {
-        Map<Boolean, ActionsList> actionsMap = extractUnaryInternalActionsMap(conditional);
-        return actionsMap.get(actionsCategory);
+        ActionsList[] actionsByValue = extractUnaryInternalActionsArray(conditional);
+        return actionsByValue[BooleanIndex.of(actionsCategory)];
     }
 
-    Map<Boolean, ActionsList> extractUnaryInternalActionsMap(Conditional conditional) {
-        List<Map<Boolean, ActionsList>> internalActionsMaps = extractAllInternalActionsMaps(conditional);
-        Validate.isTrue(internalActionsMaps.size() == NumberUtils.INTEGER_ONE);
-        return internalActionsMaps.get(NumberUtils.INTEGER_ZERO);
+    ActionsList[] extractUnaryInternalActionsArray(Conditional conditional) {
+        List<ActionsList[]> internalActionsArrays = extractAllInternalActionsArrays(conditional);
+        Validate.isTrue(internalActionsArrays.size() == NumberUtils.INTEGER_ONE);
+        return internalActionsArrays.get(NumberUtils.INTEGER_ZERO);
     }
 
-    List<Map<Boolean, ActionsList>> extractAllInternalActionsMaps(Conditional conditional) {
+    List<ActionsList[]> extractAllInternalActionsArrays(Conditional conditional) {
         Class<? extends Conditional> conditionalClass = conditional.getClass();
         Field[] conditionalFields = conditionalClass.getDeclaredFields();
         Stream.of(conditionalFields).forEach(field -> field.setAccessible(TRUE));
-        //noinspection unchecked
         return Stream.of(conditionalFields)
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
                 .map(field -> {
                     try {
                         return field.get(conditional);
@@ -1063,17 +1601,11 @@ class ConditionalTest {
                     }
                     throw new IllegalStateException("Unforeseen application flow");
                 })
-                .filter(fieldObj -> {
-                    Class<?> fieldObjAsClass = fieldObj.getClass();
-                    String fieldObjClassName = fieldObjAsClass.getName();
-                    //noinspection rawtypes
-                    Class<HashMap> hashMapClass = HashMap.class;
-                    String hashMapClassName = hashMapClass.getName();
-                    return fieldObjClassName.equals(hashMapClassName);
-                })
-                .map(fieldObj -> (Map<Boolean, ActionsList>) fieldObj)
+                .filter(ActionsList[].class::isInstance)
+                .map(ActionsList[].class::cast)
                 .collect(Collectors.toCollection(ArrayList::new));
     }
+
     static Stream<Arguments> generateBooleans() {
         return Stream.of(
                 arguments(TRUE),
@@ -0,0 +1,75 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a hand-written conjunction of conditions with an adaptive one created via
+ * {@link Conditions#allOf(BooleanCallable...)} on a skewed workload: the first declared condition is
+ * expensive and almost always {@code true}, while the last one is cheap and rarely {@code true}.
+ * Since the declared order is the worst possible one, the adaptive conjunction should move the cheap
+ * condition first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionsBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final int EXPENSIVE_TOKENS = 500;
+    private static final int MODERATE_TOKENS = 100;
+    private static final int CHEAP_TOKENS = 5;
+
+    private boolean[] expensiveResults;
+    private boolean[] moderateResults;
+    private boolean[] cheapResults;
+    private int sample;
+    private BooleanCallable adaptiveConjunction;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(SAMPLES);
+        expensiveResults = new boolean[SAMPLES];
+        moderateResults = new boolean[SAMPLES];
+        cheapResults = new boolean[SAMPLES];
+        for (int index = 0; index < SAMPLES; index++) {
+            expensiveResults[index] = random.nextDouble() < 0.99;
+            moderateResults[index] = random.nextDouble() < 0.5;
+            cheapResults[index] = random.nextDouble() < 0.05;
+        }
+        adaptiveConjunction = Conditions.allOf(this::expensive, this::moderate, this::cheap);
+    }
+
+    private boolean expensive() {
+        Blackhole.consumeCPU(EXPENSIVE_TOKENS);
+        return expensiveResults[sample];
+    }
+
+    private boolean moderate() {
+        Blackhole.consumeCPU(MODERATE_TOKENS);
+        return moderateResults[sample];
+    }
+
+    private boolean cheap() {
+        Blackhole.consumeCPU(CHEAP_TOKENS);
+        return cheapResults[sample];
+    }
+
+    @Benchmark
+    public boolean handWritten() {
+        sample = (sample + 1) & (SAMPLES - 1);
+        return expensive() && moderate() && cheap();
+    }
+
+    @Benchmark
+    public boolean adaptive() throws Exception {
+        sample = (sample + 1) & (SAMPLES - 1);
+        return adaptiveConjunction.call();
+    }
+}
@@ -0,0 +1,163 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static eu.ciechanowiec.conditional.Conditional.conditional;
+import static eu.ciechanowiec.conditional.Conditions.*;
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionsTest {
+
+    private static final BooleanCallable TRUE_CONDITION = () -> true;
+    private static final BooleanCallable FALSE_CONDITION = () -> false;
+
+    @Test
+    void mustCombineConditionsWithAllOf() {
+        assertAll(
+                () -> assertTrue(allOf().call()),
+                () -> assertTrue(allOf(TRUE_CONDITION, TRUE_CONDITION).call()),
+                () -> assertFalse(allOf(TRUE_CONDITION, FALSE_CONDITION).call()),
+                () -> assertFalse(allOf(FALSE_CONDITION, TRUE_CONDITION).call())
+        );
+    }
+
+    @Test
+    void mustCombineConditionsWithAnyOf() {
+        assertAll(
+                () -> assertFalse(anyOf().call()),
+                () -> assertFalse(anyOf(FALSE_CONDITION, FALSE_CONDITION).call()),
+                () -> assertTrue(anyOf(FALSE_CONDITION, TRUE_CONDITION).call()),
+                () -> assertTrue(anyOf(TRUE_CONDITION, FALSE_CONDITION).call())
+        );
+    }
+
+    @Test
+    void mustNegateCondition() {
+        assertAll(
+                () -> assertFalse(not(TRUE_CONDITION).call()),
+                () -> assertTrue(not(FALSE_CONDITION).call()),
+                () -> assertTrue(anyOf(not(TRUE_CONDITION), allOf(TRUE_CONDITION, not(FALSE_CONDITION))).call())
+        );
+    }
+
+    @Test
+    void mustShortCircuit() throws Exception {
+        List<String> evaluationLog = new ArrayList<>();
+        BooleanCallable first = () -> evaluationLog.add("first") && false;
+        BooleanCallable second = () -> evaluationLog.add("second");
+        boolean result = allOf(first, second).call();
+        assertAll(
+                () -> assertFalse(result),
+                () -> assertEquals(List.of("first"), evaluationLog)
+        );
+    }
+
+    @Test
+    void mustPlugIntoConditional() {
+        String value = conditional(allOf(TRUE_CONDITION, not(FALSE_CONDITION)))
+                .onTrue(() -> HELLO)
+                .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                .get(String.class);
+        assertEquals(HELLO, value);
+    }
+
+    @Test
+    void mustFallBackWhenConditionIsTooSlow() {
+        BooleanCallable slowCondition = () -> {
+            Thread.sleep(Duration.ofMinutes(1).toMillis());
+            return true;
+        };
+        TimedCondition timedCondition = withTimeout(slowCondition, Duration.ofMillis(10), false);
+        TimedCondition abandonedCondition = withTimeout(TRUE_CONDITION, Duration.ofMinutes(1), false,
+                                                        OverrunPolicy.ABANDON);
+        String value = conditional(timedCondition)
+                .onTrue(() -> HELLO)
+                .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                .get(String.class);
+        assertAll(
+                () -> assertEquals(EXCEPTION_TEST_MESSAGE, value),
+                () -> assertEquals("1 evaluations, 1 fallbacks", timedCondition.toString()),
+                () -> assertTrue(abandonedCondition.call()),
+                () -> assertEquals(0, abandonedCondition.fallbacks())
+        );
+    }
+
+    @Test
+    void mustEvaluateTimedConditionViaPassedExecutor() throws Exception {
+        List<Thread> evaluatingThreads = new ArrayList<>();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Thread executorThread = executorService.submit(Thread::currentThread).get();
+            TimedCondition timedCondition = withTimeout(() -> evaluatingThreads.add(Thread.currentThread()),
+                                                        Duration.ofMinutes(1), false, OverrunPolicy.ABANDON,
+                                                        executorService);
+            assertAll(
+                    () -> assertTrue(timedCondition.call()),
+                    () -> assertEquals(List.of(executorThread), evaluatingThreads)
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void mustCacheCondition() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        CachedCondition cachedCondition = cached(() -> evaluations.incrementAndGet() > 0, Duration.ofHours(1));
+        String value = conditional(cachedCondition.call())
+                .onTrue(() -> HELLO)
+                .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                .get(String.class);
+        boolean secondRead = cachedCondition.call();
+        assertAll(
+                () -> assertEquals(HELLO, value),
+                () -> assertTrue(secondRead),
+                () -> assertEquals(1, evaluations.get()),
+                () -> assertEquals(1, cachedCondition.hits()),
+                () -> assertThrows(IllegalArgumentException.class,
+                                   () -> cached(TRUE_CONDITION, Duration.ofMinutes(1), Duration.ofHours(1)))
+        );
+    }
+
+    @Test
+    void mustRefreshCachedConditionViaPassedExecutor() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        AtomicInteger submittedRefreshes = new AtomicInteger();
+        Executor countingExecutor = task -> {
+            submittedRefreshes.incrementAndGet();
+            task.run();
+        };
+        CachedCondition cachedCondition = cached(() -> evaluations.incrementAndGet() > 0, Duration.ofHours(1),
+                                                 Duration.ofHours(1), countingExecutor);
+        boolean firstRead = cachedCondition.call();
+        boolean secondRead = cachedCondition.call();
+        assertAll(
+                () -> assertTrue(firstRead),
+                () -> assertTrue(secondRead),
+                () -> assertEquals(1, submittedRefreshes.get()),
+                () -> assertEquals(2, evaluations.get()),
+                () -> assertEquals(2, cachedCondition.refreshes())
+        );
+    }
+
+    @Test
+    void mustRethrowExceptionFromCondition() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        BooleanCallable failingCondition = () -> {
+            throw failure;
+        };
+        IOException thrown = assertThrows(IOException.class, () -> anyOf(FALSE_CONDITION, failingCondition).call());
+        assertSame(failure, thrown);
+    }
+}
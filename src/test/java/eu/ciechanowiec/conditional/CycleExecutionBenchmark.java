@@ -0,0 +1,46 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures execution of many cycles of cheap actions bound to the same value of a {@link Conditional},
+ * either sequentially via {@link Conditional#execute(int)} or split into batches executed
+ * on a fork-join pool via {@link Conditional#executeCycles(long, int)}. On a single-core host, the benchmark
+ * measures only the overhead of batching, since batches can't be executed simultaneously.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CycleExecutionBenchmark {
+
+    private static final int CYCLES = 1_000_000;
+
+    @Param({"1000", "100000"})
+    private int cyclesPerBatch;
+
+    private Conditional conditional;
+
+    @Setup
+    public void setup() {
+        LongAdder counter = new LongAdder();
+        conditional = Conditional.conditional(true)
+                                 .onTrue(counter::increment)
+                                 .onTrue(counter::increment);
+    }
+
+    @Benchmark
+    public Conditional sequential() {
+        return conditional.execute(CYCLES);
+    }
+
+    @Benchmark
+    public CycleReport batched() {
+        return conditional.executeCycles(CYCLES, cyclesPerBatch);
+    }
+}
@@ -0,0 +1,110 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CycleExecutionTest {
+
+    private static final int CYCLES = 1000;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setup() {
+        pool = new ForkJoinPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, CYCLES, CYCLES * 5})
+    void mustExecuteExactAmountOfCycles(int cyclesPerBatch) {
+        LongAdder executions = new LongAdder();
+        ActionsList actionsList = new InlineActionsList();
+        actionsList.add(executions::increment);
+        actionsList.add(executions::increment);
+        CycleReport report = CycleExecution.execute(actionsList, CYCLES, cyclesPerBatch, pool);
+        assertAll(
+                () -> assertEquals(CYCLES * 2, executions.sum()),
+                () -> assertEquals(CYCLES, report.cyclesExecuted()),
+                () -> assertTrue(report.cyclesPerSecond() > 0)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -5})
+    void mustDoNothingForNonPositiveCycles(long cyclesToExecute) {
+        LongAdder executions = new LongAdder();
+        ActionsList actionsList = new InlineActionsList();
+        actionsList.add(executions::increment);
+        CycleReport report = CycleExecution.execute(actionsList, cyclesToExecute, 1, pool);
+        assertAll(
+                () -> assertEquals(0, executions.sum()),
+                () -> assertEquals(0, report.cyclesExecuted())
+        );
+    }
+
+    @Test
+    void mustNotOverflowBatchBoundsNearMaxCycles() {
+        long lastBatchStart = Long.MAX_VALUE - 3;
+        assertAll(
+                () -> assertEquals(Long.MAX_VALUE, CycleExecution.batchEnd(lastBatchStart, 10, Long.MAX_VALUE)),
+                () -> assertEquals(Long.MAX_VALUE, CycleExecution.batchEnd(Long.MAX_VALUE, 10, Long.MAX_VALUE)),
+                () -> assertEquals(Long.MAX_VALUE, CycleExecution.batchEnd(lastBatchStart, Integer.MAX_VALUE,
+                                                                           Long.MAX_VALUE)),
+                () -> assertEquals(17, CycleExecution.batchEnd(7, 10, Long.MAX_VALUE)),
+                () -> assertEquals(0, CycleExecution.batchEnd(0, 10, -5)),
+                () -> assertEquals(0, CycleExecution.batchEnd(0, 10, Long.MIN_VALUE))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void mustRejectNonPositiveBatch(int cyclesPerBatch) {
+        ActionsList actionsList = new InlineActionsList();
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> CycleExecution.execute(actionsList, CYCLES, cyclesPerBatch, pool)
+        );
+        assertEquals("Amount of cycles in a batch must be positive, but was " + cyclesPerBatch,
+                     exception.getMessage());
+    }
+
+    @Test
+    void mustStopEarlyAndRethrowFirstFailure() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        ActionsList actionsList = new InlineActionsList();
+        actionsList.add(() -> {
+            Conditional.onTrueExecute(calls.incrementAndGet() == 1, () -> {
+                failed.countDown();
+                throw failure;
+            });
+            failed.await(1, TimeUnit.MINUTES);
+            Thread.sleep(50);
+        });
+        IOException thrown = assertThrows(IOException.class,
+                                          () -> CycleExecution.execute(actionsList, CYCLES * CYCLES, 1, pool));
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertTrue(calls.get() <= pool.getParallelism(), String.valueOf(calls.get()))
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CycleReportTest {
+
+    @Test
+    void mustComputeCyclesPerSecond() {
+        CycleReport report = new CycleReport(500, Duration.ofMillis(250));
+        assertAll(
+                () -> assertEquals(500, report.cyclesExecuted()),
+                () -> assertEquals(Duration.ofMillis(250), report.elapsed()),
+                () -> assertEquals(2000, report.cyclesPerSecond()),
+                () -> assertEquals("500 cycles in PT0.25S (2000 cycles/s)", report.toString())
+        );
+    }
+
+    @Test
+    void mustNotDivideByZeroElapsedTime() {
+        CycleReport report = new CycleReport(3, Duration.ZERO);
+        assertEquals(3_000_000_000.0, report.cyclesPerSecond());
+    }
+}
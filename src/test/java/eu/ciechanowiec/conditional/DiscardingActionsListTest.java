@@ -0,0 +1,30 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiscardingActionsListTest {
+
+    @Test
+    void mustDiscardAllSubmittedActions() {
+        DiscardingActionsList discardingActionsList = new DiscardingActionsList();
+        discardingActionsList.add(new Action<>(() -> Variables.HELLO));
+        discardingActionsList.add(() -> Variables.HELLO);
+        discardingActionsList.add(() -> System.out.println(Variables.HELLO));
+        discardingActionsList.add((IntCallable) () -> 1);
+        discardingActionsList.add((LongCallable) () -> 1L);
+        discardingActionsList.add((DoubleCallable) () -> 1.0);
+        discardingActionsList.add((BooleanCallable) () -> true);
+        assertAll(
+                () -> assertTrue(discardingActionsList.getAll().isEmpty()),
+                () -> assertTrue(discardingActionsList.isEmpty()),
+                () -> assertFalse(discardingActionsList.isExactlyOneActionInList()),
+                () -> assertThrows(NoSuchElementException.class, discardingActionsList::getFirst),
+                () -> assertDoesNotThrow(discardingActionsList::executeAll),
+                () -> assertDoesNotThrow(discardingActionsList::clear)
+        );
+    }
+}
@@ -34,6 +34,21 @@ class ExceptionThrowerTest {
         );
     }
 
+    @Test
+    void mustThrowSuppliedOnlyIfActive() {
+        Exception exception = new Exception("Generic exception for tests");
+        RuntimeException uncheckedException = new RuntimeException("Generic exception for tests");
+        ExceptionThrower activeThrower = new ExceptionThrowerActive();
+        ExceptionThrower voidThrower = new ExceptionThrowerVoid();
+        assertAll(
+                () -> assertThrows(Exception.class, () -> activeThrower.throwSuppliedIfActive(() -> exception)),
+                () -> assertThrows(RuntimeException.class,
+                        () -> activeThrower.throwSuppliedIfActive(() -> uncheckedException)),
+                () -> assertDoesNotThrow(() -> voidThrower.throwSuppliedIfActive(() -> exception)),
+                () -> assertDoesNotThrow(() -> voidThrower.throwSuppliedIfActive(() -> uncheckedException))
+        );
+    }
+
     @Test
     void mustThrowUnsupportedOperation() {
         RuntimeException uncheckedException = new RuntimeException("Generic exception for tests");
@@ -50,7 +65,9 @@ class ExceptionThrowerTest {
                 () -> assertThrows(UnsupportedOperationException.class,
                         () -> activeCheckedThrower.throwIfActive(uncheckedException)),
                 () -> assertThrows(UnsupportedOperationException.class,
-                        () -> voidCheckedThrower.throwIfActive(uncheckedException))
+                        () -> voidCheckedThrower.throwIfActive(uncheckedException)),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> activeCheckedThrower.throwSuppliedIfActive(() -> checkedException))
         );
     }
 
@@ -68,7 +85,11 @@ class ExceptionThrowerTest {
                 () -> assertThrows(NullPointerException.class,
                         () -> activeCheckedThrower.throwIfActive(null)),
                 () -> assertDoesNotThrow(
-                        () -> voidCheckedThrower.throwIfActive(null))
+                        () -> voidCheckedThrower.throwIfActive(null)),
+                () -> assertThrows(NullPointerException.class,
+                        () -> activeCheckedThrower.throwSuppliedIfActive(null)),
+                () -> assertDoesNotThrow(
+                        () -> voidCheckedThrower.throwSuppliedIfActive(null))
         );
     }
 }
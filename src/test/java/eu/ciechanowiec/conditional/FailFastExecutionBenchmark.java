@@ -0,0 +1,60 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parallel and fail-fast execution of actions bound to the same value of a {@link Conditional},
+ * where one action fails shortly after the start, while all other actions imitate long I/O by sleeping.
+ * Parallel execution is expected to wait until all sleeping actions finish, while fail-fast execution
+ * is expected to interrupt them and return shortly after the failure.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailFastExecutionBenchmark {
+
+    private static final long FAILURE_DELAY_MILLIS = 2;
+    private static final long SIBLING_LATENCY_MILLIS = 50;
+
+    @Param({"5", "15"})
+    private int siblings;
+
+    private Conditional conditional;
+
+    @Setup
+    public void setup() {
+        conditional = Conditional.conditional(true);
+        for (int siblingIndex = 0; siblingIndex < siblings; siblingIndex++) {
+            conditional.onTrue(() -> Thread.sleep(SIBLING_LATENCY_MILLIS));
+        }
+        conditional.onTrue(() -> {
+            Thread.sleep(FAILURE_DELAY_MILLIS);
+            throw new IllegalStateException(Variables.EXCEPTION_TEST_MESSAGE);
+        });
+    }
+
+    @Benchmark
+    public Throwable parallel() {
+        try {
+            conditional.executeParallel();
+            return null;
+        } catch (ParallelExecutionException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Throwable failFast() {
+        try {
+            conditional.executeFailFast();
+            return null;
+        } catch (IllegalStateException exception) {
+            return exception;
+        }
+    }
+}
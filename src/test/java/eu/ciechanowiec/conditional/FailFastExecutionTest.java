@@ -0,0 +1,249 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailFastExecutionTest {
+
+    private static final long FAILURE_DELAY_MILLIS = 100;
+    private static final Duration WASTED_WORK_BOUND = Duration.ofSeconds(5);
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setup() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void mustExecuteAllActionsWithoutFailures() {
+        AtomicInteger executions = new AtomicInteger();
+        Action<?> countingAction = new Action<>(executions::incrementAndGet);
+        List<Action<?>> actions = List.of(countingAction, countingAction, countingAction);
+        assertDoesNotThrow(() -> FailFastExecution.executeAll(actions, executorService));
+        assertEquals(actions.size(), executions.get());
+    }
+
+    @Test
+    void mustDoNothingWithoutActions() {
+        assertDoesNotThrow(() -> FailFastExecution.executeAll(List.of(), executorService));
+    }
+
+    @Test
+    void mustInterruptRunningSiblingsAndRethrowFirstFailure() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Action<?> blockingSibling = new Action<>(() -> Thread.sleep(TimeUnit.MINUTES.toMillis(1)));
+        Action<?> failingAction = new Action<>(() -> {
+            Thread.sleep(FAILURE_DELAY_MILLIS);
+            throw failure;
+        });
+        List<Action<?>> actions = List.of(blockingSibling, failingAction, blockingSibling);
+        long start = System.nanoTime();
+        IOException thrown = assertThrows(IOException.class,
+                                          () -> FailFastExecution.executeAll(actions, executorService));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertEquals(2, thrown.getSuppressed().length),
+                () -> assertInstanceOf(InterruptedException.class, thrown.getSuppressed()[0]),
+                () -> assertInstanceOf(InterruptedException.class, thrown.getSuppressed()[1]),
+                () -> assertTrue(elapsed.compareTo(WASTED_WORK_BOUND) < 0, elapsed.toString())
+        );
+    }
+
+    @Test
+    void mustStopBusySiblingBeforeReturning() throws InterruptedException {
+        AtomicLong iterations = new AtomicLong();
+        Action<?> busySibling = new Action<>(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                iterations.incrementAndGet();
+            }
+        });
+        Action<?> failingAction = new Action<>(() -> {
+            Thread.sleep(FAILURE_DELAY_MILLIS);
+            throw new IllegalStateException(EXCEPTION_TEST_MESSAGE);
+        });
+        List<Action<?>> actions = List.of(busySibling, failingAction);
+        long start = System.nanoTime();
+        assertThrows(IllegalStateException.class, () -> FailFastExecution.executeAll(actions, executorService));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long iterationsOnReturn = iterations.get();
+        Thread.sleep(FAILURE_DELAY_MILLIS);
+        assertAll(
+                () -> assertEquals(iterationsOnReturn, iterations.get()),
+                () -> assertTrue(elapsed.compareTo(WASTED_WORK_BOUND) < 0, elapsed.toString())
+        );
+    }
+
+    @Test
+    void mustNeverStartPendingActionsAfterFailure() {
+        AtomicInteger executions = new AtomicInteger();
+        Action<?> failingAction = new Action<>(() -> {
+            throw new IOException(EXCEPTION_TEST_MESSAGE);
+        });
+        Action<?> countingAction = new Action<>(executions::incrementAndGet);
+        List<Action<?>> actions = List.of(failingAction, countingAction, countingAction);
+        IOException thrown = assertThrows(IOException.class,
+                                          () -> FailFastExecution.executeAll(actions, task -> task.run()));
+        assertAll(
+                () -> assertEquals(0, executions.get()),
+                () -> assertEquals(0, thrown.getSuppressed().length)
+        );
+    }
+
+    @Test
+    void mustHandleRejectionAsFailure() {
+        AtomicInteger executions = new AtomicInteger();
+        Action<?> countingAction = new Action<>(executions::incrementAndGet);
+        List<Action<?>> actions = List.of(countingAction, countingAction);
+        executorService.shutdown();
+        RejectedExecutionException thrown = assertThrows(
+                RejectedExecutionException.class, () -> FailFastExecution.executeAll(actions, executorService)
+        );
+        assertAll(
+                () -> assertEquals(0, executions.get()),
+                () -> assertEquals(0, thrown.getSuppressed().length)
+        );
+    }
+
+    @Test
+    void mustNotWaitForCancelledActionsDroppedByExecutor() {
+        AtomicInteger executions = new AtomicInteger();
+        Action<?> countingAction = new Action<>(executions::incrementAndGet);
+        Action<?> failingAction = new Action<>(() -> {
+            throw new IOException(EXCEPTION_TEST_MESSAGE);
+        });
+        List<java.lang.Runnable> droppedTasks = new ArrayList<>();
+        Executor droppingExecutor = task -> {
+            Conditional.onTrueExecute(droppedTasks.size() == 1, task::run);
+            droppedTasks.add(task);
+        };
+        List<Action<?>> actions = List.of(countingAction, failingAction, countingAction);
+        IOException thrown = assertTimeoutPreemptively(
+                Duration.ofMinutes(1),
+                () -> assertThrows(IOException.class, () -> FailFastExecution.executeAll(actions, droppingExecutor))
+        );
+        assertAll(
+                () -> assertEquals(0, executions.get()),
+                () -> assertEquals(0, thrown.getSuppressed().length),
+                () -> assertEquals(2, droppedTasks.size()),
+                () -> assertTrue(((Future<?>) droppedTasks.get(0)).isCancelled())
+        );
+    }
+
+    @Test
+    void mustIgnoreRejectionOfCancelledAction() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        Action<?> failingAction = new Action<>(() -> {
+            throw failure;
+        });
+        Action<?> countingAction = new Action<>(() -> 1);
+        Queue<java.lang.Runnable> queuedTasks = new ArrayDeque<>();
+        Executor failingThenRejectingExecutor = task -> {
+            queuedTasks.add(task);
+            Conditional.onTrueExecute(queuedTasks.size() > 1, () -> {
+                queuedTasks.remove().run();
+                throw new RejectedExecutionException(EXCEPTION_TEST_MESSAGE);
+            });
+        };
+        IOException thrown = assertThrows(IOException.class, () -> FailFastExecution.executeAll(
+                List.of(failingAction, countingAction), failingThenRejectingExecutor
+        ));
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertEquals(0, thrown.getSuppressed().length)
+        );
+    }
+
+    @Test
+    void mustCancelActionsWhenWaitingThreadIsInterrupted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch actionInterrupted = new CountDownLatch(1);
+        Action<?> blockingAction = new Action<>(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException exception) {
+                actionInterrupted.countDown();
+                throw exception;
+            }
+        });
+        AtomicReference<Throwable> thrownInCaller = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                FailFastExecution.executeAll(List.of(blockingAction), executorService);
+            } catch (Throwable throwable) {
+                thrownInCaller.set(throwable);
+            }
+        });
+        caller.start();
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        caller.interrupt();
+        caller.join(TimeUnit.MINUTES.toMillis(1));
+        assertAll(
+                () -> assertInstanceOf(InterruptedException.class, thrownInCaller.get()),
+                () -> assertTrue(actionInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustAwaitRunningActionsWhenWaitingThreadIsInterrupted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean isActionFinished = new AtomicBoolean();
+        AtomicReference<Thread> callerThread = new AtomicReference<>();
+        Action<?> slowlyStoppingAction = new Action<>(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } finally {
+                callerThread.get().interrupt();
+                Thread.sleep(100);
+                isActionFinished.set(true);
+            }
+            return null;
+        });
+        AtomicReference<Throwable> thrownInCaller = new AtomicReference<>();
+        AtomicBoolean wasActionFinishedOnReturn = new AtomicBoolean();
+        AtomicBoolean isCallerInterruptedOnReturn = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            try {
+                FailFastExecution.executeAll(List.of(slowlyStoppingAction), executorService);
+            } catch (Throwable throwable) {
+                thrownInCaller.set(throwable);
+                wasActionFinishedOnReturn.set(isActionFinished.get());
+                isCallerInterruptedOnReturn.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        callerThread.set(caller);
+        caller.start();
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        caller.interrupt();
+        caller.join(TimeUnit.MINUTES.toMillis(1));
+        assertAll(
+                () -> assertInstanceOf(InterruptedException.class, thrownInCaller.get()),
+                () -> assertTrue(wasActionFinishedOnReturn.get()),
+                () -> assertTrue(isCallerInterruptedOnReturn.get())
+        );
+    }
+}
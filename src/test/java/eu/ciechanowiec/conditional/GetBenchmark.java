@@ -0,0 +1,47 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Conditional#get(Class)} on a prepared {@link Conditional}. A successful
+ * {@code get(...)} must not construct an {@link UndeterminedReturnValueException}, so with
+ * {@code -prof gc} the allocation rate of {@link GetBenchmark#get()} is expected to be zero.
+ * {@link GetBenchmark#typedGet()} measures the same for a {@link TypedConditional},
+ * that requires neither a {@link Class} token nor a runtime cast.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetBenchmark {
+
+    @Param({"true", "false"})
+    private boolean describedValue;
+
+    private Conditional conditional;
+    private TypedConditional<String> typedConditional;
+
+    @Setup
+    public void setup() {
+        conditional = Conditional.conditional(describedValue)
+                                 .onTrue(() -> Variables.HELLO)
+                                 .onFalse(() -> Variables.EXCEPTION_TEST_MESSAGE);
+        typedConditional = Conditional.<String>returning(describedValue)
+                                      .onTrue(() -> Variables.HELLO)
+                                      .onFalse(() -> Variables.EXCEPTION_TEST_MESSAGE);
+    }
+
+    @Benchmark
+    public String get() {
+        return conditional.get(String.class);
+    }
+
+    @Benchmark
+    public String typedGet() {
+        return typedConditional.get();
+    }
+}
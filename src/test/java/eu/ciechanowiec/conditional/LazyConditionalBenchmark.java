@@ -0,0 +1,53 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares conditionals describing a value evaluated upfront and lazily, where the value is
+ * evaluated via a regex match. The {@code ...WithoutActions} benchmarks don't submit any actions,
+ * so a lazy conditional doesn't evaluate the value at all.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyConditionalBenchmark {
+
+    private static final Pattern EMAIL = Pattern.compile("^[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+$");
+
+    private String address;
+
+    @Setup
+    public void setup() {
+        address = "first.last+tag@mail.example.com";
+    }
+
+    private boolean isEmail() {
+        return EMAIL.matcher(address).matches();
+    }
+
+    @Benchmark
+    public int eager() {
+        return Conditional.conditional(isEmail()).onTrueInt(() -> 1).onFalseInt(() -> 0).getAsInt();
+    }
+
+    @Benchmark
+    public int lazy() {
+        return Conditional.conditional(this::isEmail).onTrueInt(() -> 1).onFalseInt(() -> 0).getAsInt();
+    }
+
+    @Benchmark
+    public Conditional eagerWithoutActions() {
+        return Conditional.conditional(isEmail()).execute();
+    }
+
+    @Benchmark
+    public Conditional lazyWithoutActions() {
+        return Conditional.conditional(this::isEmail).execute();
+    }
+}
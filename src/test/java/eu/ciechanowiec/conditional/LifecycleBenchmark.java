@@ -0,0 +1,69 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole lifecycle of a {@link Conditional}: creation, submission of one action
+ * per branch and either execution or retrieval of a value. Run with {@code -prof gc} to see
+ * the amount of memory allocated per {@link Conditional}. The {@code pruned...} benchmarks
+ * measure the same lifecycle of a {@link Conditional} created via {@link Conditional#pruned(boolean)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LifecycleBenchmark {
+
+    @Param({"true", "false"})
+    private boolean describedValue;
+
+    private Runnable actionOnTrue;
+    private Runnable actionOnFalse;
+    private Callable<String> valueOnTrue;
+    private Callable<String> valueOnFalse;
+
+    @Setup
+    public void setup() {
+        actionOnTrue = () -> { };
+        actionOnFalse = () -> { };
+        valueOnTrue = () -> Variables.HELLO;
+        valueOnFalse = () -> Variables.EXCEPTION_TEST_MESSAGE;
+    }
+
+    @Benchmark
+    public Conditional execute() {
+        return Conditional.conditional(describedValue)
+                          .onTrue(actionOnTrue)
+                          .onFalse(actionOnFalse)
+                          .execute();
+    }
+
+    @Benchmark
+    public String get() {
+        return Conditional.conditional(describedValue)
+                          .onTrue(valueOnTrue)
+                          .onFalse(valueOnFalse)
+                          .get(String.class);
+    }
+
+    @Benchmark
+    public Conditional prunedExecute() {
+        return Conditional.pruned(describedValue)
+                          .onTrue(actionOnTrue)
+                          .onFalse(actionOnFalse)
+                          .execute();
+    }
+
+    @Benchmark
+    public String prunedGet() {
+        return Conditional.pruned(describedValue)
+                          .onTrue(valueOnTrue)
+                          .onFalse(valueOnFalse)
+                          .get(String.class);
+    }
+}
@@ -0,0 +1,61 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares usual and memoizing actions that perform the same expensive computation. The {@code ...Get}
+ * benchmarks retrieve the return value of an action, while the {@code ...Conditionals} benchmarks execute
+ * an action bound to several {@link Conditional}s, imitating a value that is shared by many branches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizedActionBenchmark {
+
+    private static final int COMPUTATION_TOKENS = 1_000;
+    private static final int CONDITIONALS = 4;
+
+    private Action<Long> usualAction;
+    private MemoizedAction<Long> memoizedAction;
+
+    @Setup
+    public void setup() {
+        usualAction = new Action<>(MemoizedActionBenchmark::compute);
+        memoizedAction = Action.memoized(MemoizedActionBenchmark::compute);
+    }
+
+    private static long compute() {
+        Blackhole.consumeCPU(COMPUTATION_TOKENS);
+        return System.identityHashCode(MemoizedActionBenchmark.class);
+    }
+
+    @Benchmark
+    public Long usualGet() {
+        return usualAction.get();
+    }
+
+    @Benchmark
+    public Long memoizedGet() {
+        return memoizedAction.get();
+    }
+
+    @Benchmark
+    public void usualConditionals() {
+        for (int conditional = 0; conditional < CONDITIONALS; conditional++) {
+            Conditional.conditional(true).onTrue(usualAction).execute();
+        }
+    }
+
+    @Benchmark
+    public void memoizedConditionals() {
+        for (int conditional = 0; conditional < CONDITIONALS; conditional++) {
+            Conditional.conditional(true).onTrue(memoizedAction).execute();
+        }
+    }
+}
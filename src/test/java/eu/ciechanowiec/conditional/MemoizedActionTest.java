@@ -0,0 +1,177 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizedActionTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void mustComputeOnlyOnce() {
+        AtomicInteger computations = new AtomicInteger();
+        MemoizedAction<String> action = Action.memoized(() -> {
+            computations.incrementAndGet();
+            return HELLO;
+        });
+        action.execute();
+        String first = action.get();
+        String second = action.get(String.class);
+        Conditional.conditional(true).onTrue(action).execute();
+        assertAll(
+                () -> assertEquals(HELLO, first),
+                () -> assertEquals(HELLO, second),
+                () -> assertEquals(1, computations.get())
+        );
+    }
+
+    @Test
+    void mustComputeOnlyOnceUnderContention() throws InterruptedException {
+        AtomicInteger computations = new AtomicInteger();
+        MemoizedAction<Integer> action = Action.memoized(() -> {
+            Thread.sleep(100);
+            return computations.incrementAndGet();
+        });
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Integer>> tasks = IntStream.range(0, THREADS)
+                    .<Callable<Integer>>mapToObj(index -> () -> {
+                        barrier.await(1, TimeUnit.MINUTES);
+                        return action.get();
+                    })
+                    .collect(Collectors.toList());
+            List<Integer> results = executorService.invokeAll(tasks).stream()
+                    .map(future -> assertDoesNotThrow(() -> future.get()))
+                    .collect(Collectors.toList());
+            assertAll(
+                    () -> assertEquals(1, computations.get()),
+                    () -> assertEquals(List.of(1, 1, 1, 1, 1, 1, 1, 1), results)
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void mustParkWaitingThreads() throws InterruptedException {
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch computationReleased = new CountDownLatch(1);
+        MemoizedAction<String> action = Action.memoized(() -> {
+            computationStarted.countDown();
+            computationReleased.await();
+            return HELLO;
+        });
+        Thread computingThread = new Thread(action::execute);
+        computingThread.start();
+        assertTrue(computationStarted.await(1, TimeUnit.MINUTES));
+        Thread waitingThread = new Thread(action::execute);
+        waitingThread.start();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (waitingThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        Thread.State waitingThreadState = waitingThread.getState();
+        computationReleased.countDown();
+        computingThread.join(TimeUnit.MINUTES.toMillis(1));
+        waitingThread.join(TimeUnit.MINUTES.toMillis(1));
+        assertEquals(Thread.State.WAITING, waitingThreadState);
+    }
+
+    @Test
+    void mustRecomputeAfterInvalidation() {
+        AtomicInteger computations = new AtomicInteger();
+        MemoizedAction<Integer> action = Action.memoized(computations::incrementAndGet);
+        Integer first = action.get();
+        Integer memoized = action.get();
+        action.invalidate();
+        Integer recomputed = action.get();
+        assertAll(
+                () -> assertEquals(1, first),
+                () -> assertEquals(1, memoized),
+                () -> assertEquals(2, recomputed)
+        );
+    }
+
+    @Test
+    void mustCacheFailure() {
+        AtomicInteger computations = new AtomicInteger();
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        MemoizedAction<String> action = Action.memoized(() -> {
+            computations.incrementAndGet();
+            throw failure;
+        }, FailurePolicy.CACHE);
+        IOException firstThrown = assertThrows(IOException.class, action::execute);
+        IOException secondThrown = assertThrows(IOException.class, action::get);
+        assertAll(
+                () -> assertSame(failure, firstThrown),
+                () -> assertSame(failure, secondThrown),
+                () -> assertEquals(1, computations.get())
+        );
+    }
+
+    @Test
+    void mustRetryAfterFailure() {
+        AtomicInteger computations = new AtomicInteger();
+        MemoizedAction<Integer> action = Action.memoized(() -> {
+            int computation = computations.incrementAndGet();
+            Conditional.isFalseOrThrow(computation == 1, new IOException(EXCEPTION_TEST_MESSAGE));
+            return computation;
+        });
+        assertThrows(IOException.class, action::get);
+        Integer retried = action.get();
+        Integer memoized = action.get();
+        assertAll(
+                () -> assertEquals(2, retried),
+                () -> assertEquals(2, memoized),
+                () -> assertEquals(2, computations.get())
+        );
+    }
+
+    @Test
+    void mustRejectReentrantExecutionInsteadOfDeadlocking() {
+        AtomicReference<MemoizedAction<Integer>> selfReference = new AtomicReference<>();
+        MemoizedAction<Integer> reentrantAction = Action.memoized(() -> selfReference.get().get() + 1);
+        selfReference.set(reentrantAction);
+        IllegalStateException thrown = assertTimeoutPreemptively(
+                Duration.ofMinutes(1), () -> assertThrows(IllegalStateException.class, reentrantAction::get)
+        );
+        selfReference.set(Action.memoized(() -> 1));
+        Integer retried = reentrantAction.get();
+        assertAll(
+                () -> assertEquals("Memoized action was executed by its own computation", thrown.getMessage()),
+                () -> assertEquals(2, retried)
+        );
+    }
+
+    @Test
+    void mustMemoizeExistingAction() {
+        AtomicInteger executions = new AtomicInteger();
+        Action<?> action = new Action<>(() -> {
+            executions.incrementAndGet();
+        });
+        MemoizedAction<?> memoizedAction = action.memoize();
+        MemoizedAction<?> memoizedWithCachedFailure = action.memoize(FailurePolicy.CACHE);
+        memoizedAction.execute();
+        memoizedAction.execute();
+        memoizedWithCachedFailure.execute();
+        memoizedWithCachedFailure.execute();
+        action.execute();
+        assertAll(
+                () -> assertNull(memoizedAction.get()),
+                () -> assertEquals(3, executions.get())
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and parallel evaluation of independent conditions that imitate remote lookups
+ * by sleeping. The {@code ...AllTrue} benchmarks need all conditions to decide the result, while in the
+ * {@code ...ShortCircuit} benchmarks the last and slowest condition isn't needed, since a faster one
+ * is {@code false}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelConditionBenchmark {
+
+    private static final long LOOKUP_MILLIS = 2;
+    private static final long SLOW_LOOKUP_MILLIS = 10;
+
+    private ExecutorService executorService;
+    private BooleanCallable lookup;
+    private BooleanCallable failingLookup;
+    private BooleanCallable slowLookup;
+
+    @Setup
+    public void setup() {
+        executorService = Executors.newCachedThreadPool();
+        lookup = () -> {
+            Thread.sleep(LOOKUP_MILLIS);
+            return true;
+        };
+        failingLookup = () -> {
+            Thread.sleep(LOOKUP_MILLIS);
+            return false;
+        };
+        slowLookup = () -> {
+            Thread.sleep(SLOW_LOOKUP_MILLIS);
+            return true;
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean sequentialAllTrue() throws Exception {
+        return lookup.call() && lookup.call() && lookup.call();
+    }
+
+    @Benchmark
+    public boolean parallelAllTrue() throws Exception {
+        return Conditions.allOfParallel(executorService, lookup, lookup, lookup).call();
+    }
+
+    @Benchmark
+    public boolean sequentialShortCircuit() throws Exception {
+        return slowLookup.call() && lookup.call() && failingLookup.call();
+    }
+
+    @Benchmark
+    public boolean parallelShortCircuit() throws Exception {
+        return Conditions.allOfParallel(executorService, slowLookup, lookup, failingLookup).call();
+    }
+}
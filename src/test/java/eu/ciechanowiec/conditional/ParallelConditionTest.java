@@ -0,0 +1,182 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelConditionTest {
+
+    private static final Duration LONG_EVALUATION = Duration.ofMinutes(1);
+    private static final Duration WAITING_BOUND = Duration.ofSeconds(5);
+
+    private ExecutorService executorService;
+    private CountDownLatch stragglerStarted;
+    private CountDownLatch stragglerInterrupted;
+    private BooleanCallable straggler;
+
+    @BeforeEach
+    void setup() {
+        executorService = Executors.newCachedThreadPool();
+        stragglerStarted = new CountDownLatch(1);
+        stragglerInterrupted = new CountDownLatch(1);
+        straggler = () -> {
+            stragglerStarted.countDown();
+            try {
+                Thread.sleep(LONG_EVALUATION.toMillis());
+            } catch (InterruptedException exception) {
+                stragglerInterrupted.countDown();
+                throw exception;
+            }
+            return true;
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void mustCombineConditionsConcurrently() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        BooleanCallable meetingCondition = () -> barrier.await(1, TimeUnit.MINUTES) >= 0;
+        assertAll(
+                () -> assertTrue(new ParallelCondition(false, List.of(meetingCondition, meetingCondition,
+                                                                      meetingCondition), executorService).call()),
+                () -> assertFalse(new ParallelCondition(true, List.of(() -> false, () -> false),
+                                                        executorService).call()),
+                () -> assertTrue(new ParallelCondition(false, List.of(), executorService).call()),
+                () -> assertFalse(new ParallelCondition(true, List.of(), executorService).call())
+        );
+    }
+
+    @Test
+    void mustShortCircuitConjunctionAndCancelStragglers() throws Exception {
+        ParallelCondition condition = new ParallelCondition(false, List.of(straggler, () -> {
+            stragglerStarted.await();
+            return false;
+        }), executorService);
+        long start = System.nanoTime();
+        boolean result = condition.call();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertAll(
+                () -> assertFalse(result),
+                () -> assertTrue(elapsed.compareTo(WAITING_BOUND) < 0, elapsed.toString()),
+                () -> assertTrue(stragglerInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustShortCircuitDisjunctionAndCancelStragglers() throws Exception {
+        ParallelCondition condition = new ParallelCondition(true, List.of(straggler, () -> {
+            stragglerStarted.await();
+            return true;
+        }), executorService);
+        boolean result = condition.call();
+        assertAll(
+                () -> assertTrue(result),
+                () -> assertTrue(stragglerInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustRethrowFirstFailureAndCancelStragglers() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        ParallelCondition condition = new ParallelCondition(false, List.of(straggler, () -> {
+            stragglerStarted.await();
+            throw failure;
+        }), executorService);
+        IOException thrown = assertThrows(IOException.class, condition::call);
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertTrue(stragglerInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustHandleRejectionAsFailure() {
+        Executor rejectingExecutor = task -> {
+            throw new RejectedExecutionException(EXCEPTION_TEST_MESSAGE);
+        };
+        ParallelCondition condition = new ParallelCondition(true, List.of(() -> true), rejectingExecutor);
+        assertThrows(RejectedExecutionException.class, condition::call);
+    }
+
+    @Test
+    void mustStopSubmittingAfterRejection() {
+        AtomicInteger submissions = new AtomicInteger();
+        Executor rejectingExecutor = task -> {
+            submissions.incrementAndGet();
+            throw new RejectedExecutionException(EXCEPTION_TEST_MESSAGE);
+        };
+        ParallelCondition condition = new ParallelCondition(true, List.of(() -> true, () -> true),
+                                                            rejectingExecutor);
+        RejectedExecutionException exception = assertThrows(RejectedExecutionException.class, condition::call);
+        assertAll(
+                () -> assertEquals(1, submissions.get()),
+                () -> assertEquals(0, exception.getSuppressed().length)
+        );
+    }
+
+    @Test
+    void mustStopSubmittingAfterDecisiveResult() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        Executor callerRunsExecutor = java.lang.Runnable::run;
+        ParallelCondition condition = new ParallelCondition(true, List.of(
+                () -> evaluations.incrementAndGet() > 0,
+                () -> evaluations.incrementAndGet() > 0
+        ), callerRunsExecutor);
+        boolean result = condition.call();
+        assertAll(
+                () -> assertTrue(result),
+                () -> assertEquals(1, evaluations.get())
+        );
+    }
+
+    @Test
+    void mustCancelConditionsWhenWaitingThreadIsInterrupted() throws InterruptedException {
+        ParallelCondition condition = new ParallelCondition(false, List.of(straggler), executorService);
+        AtomicReference<Throwable> thrownInCaller = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                condition.call();
+            } catch (Throwable throwable) {
+                thrownInCaller.set(throwable);
+            }
+        });
+        caller.start();
+        assertTrue(stragglerStarted.await(1, TimeUnit.MINUTES));
+        caller.interrupt();
+        caller.join(TimeUnit.MINUTES.toMillis(1));
+        assertAll(
+                () -> assertInstanceOf(InterruptedException.class, thrownInCaller.get()),
+                () -> assertTrue(stragglerInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustPlugIntoConditional() {
+        String value = Conditional.conditional(Conditions.anyOfParallel(executorService, straggler, () -> true))
+                                  .onTrue(() -> HELLO)
+                                  .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                                  .get(String.class);
+        boolean conjunction = assertDoesNotThrow(
+                () -> Conditions.allOfParallel(executorService, () -> true, () -> false).call()
+        );
+        assertAll(
+                () -> assertEquals(HELLO, value),
+                () -> assertFalse(conjunction)
+        );
+    }
+}
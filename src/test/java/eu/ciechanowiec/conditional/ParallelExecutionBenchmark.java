@@ -0,0 +1,46 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and parallel execution of independent blocking actions,
+ * that imitate I/O by sleeping, bound to the same value of a {@link Conditional}.
+ * Latency of the sequential execution is expected to be the sum of latencies of all
+ * actions, while latency of the parallel execution is expected to be close to the
+ * latency of a single action.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelExecutionBenchmark {
+
+    private static final long ACTION_LATENCY_MILLIS = 2;
+
+    @Param({"5", "20"})
+    private int actions;
+
+    private Conditional conditional;
+
+    @Setup
+    public void setup() {
+        conditional = Conditional.conditional(true);
+        for (int actionIndex = 0; actionIndex < actions; actionIndex++) {
+            conditional.onTrue(() -> Thread.sleep(ACTION_LATENCY_MILLIS));
+        }
+    }
+
+    @Benchmark
+    public Conditional sequential() {
+        return conditional.execute();
+    }
+
+    @Benchmark
+    public Conditional parallel() {
+        return conditional.executeParallel();
+    }
+}
@@ -0,0 +1,102 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelExecutionTest {
+
+    private static final int ACTIONS = 8;
+
+    @Test
+    void mustExecuteAllActionsConcurrently() throws InterruptedException {
+        CyclicBarrier barrier = new CyclicBarrier(ACTIONS);
+        Action<?> actionAwaitingOthers = new Action<>(() -> barrier.await(1, TimeUnit.MINUTES));
+        List<Action<?>> actions = Collections.nCopies(ACTIONS, actionAwaitingOthers);
+        ExecutorService executorService = Executors.newFixedThreadPool(ACTIONS);
+        try {
+            assertDoesNotThrow(() -> ParallelExecution.executeAll(actions, executorService));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(0, barrier.getNumberWaiting());
+    }
+
+    @Test
+    void mustAggregateAllFailures() {
+        IOException checkedFailure = new IOException(EXCEPTION_TEST_MESSAGE);
+        IllegalStateException uncheckedFailure = new IllegalStateException(EXCEPTION_TEST_MESSAGE);
+        List<Action<?>> actions = List.of(
+                new Action<>(() -> {
+                    throw checkedFailure;
+                }),
+                new Action<>(() -> Variables.HELLO),
+                new Action<>(() -> {
+                    throw uncheckedFailure;
+                })
+        );
+        ParallelExecutionException exception = assertThrows(
+                ParallelExecutionException.class,
+                () -> ParallelExecution.executeAll(actions, ParallelExecution.DEFAULT_POOL)
+        );
+        assertAll(
+                () -> assertArrayEquals(new Throwable[]{checkedFailure, uncheckedFailure}, exception.getSuppressed()),
+                () -> assertEquals("2 of 3 actions failed during parallel execution", exception.getMessage())
+        );
+    }
+
+    @Test
+    void mustAggregateRejectionsByShutDownExecutor() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.shutdown();
+        List<Action<?>> actions = Collections.nCopies(2, new Action<>(() -> Variables.HELLO));
+        ParallelExecutionException exception = assertThrows(
+                ParallelExecutionException.class, () -> ParallelExecution.executeAll(actions, executorService)
+        );
+        assertAll(
+                () -> assertEquals(2, exception.getSuppressed().length),
+                () -> assertInstanceOf(RejectedExecutionException.class, exception.getSuppressed()[0]),
+                () -> assertInstanceOf(RejectedExecutionException.class, exception.getSuppressed()[1]),
+                () -> assertEquals("2 of 2 actions failed during parallel execution", exception.getMessage())
+        );
+    }
+
+    @Test
+    void mustAwaitSubmittedActionsAfterRejection() {
+        ExecutorService executorService = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>()
+        );
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Action<?>> actions = List.of(
+                new Action<>(() -> {
+                    Thread.sleep(100);
+                    return executed.add(Variables.HELLO);
+                }),
+                new Action<>(() -> executed.add(Variables.HELLO))
+        );
+        try {
+            ParallelExecutionException exception = assertThrows(
+                    ParallelExecutionException.class, () -> ParallelExecution.executeAll(actions, executorService)
+            );
+            assertAll(
+                    () -> assertEquals(List.of(Variables.HELLO), executed),
+                    () -> assertEquals(1, exception.getSuppressed().length),
+                    () -> assertInstanceOf(RejectedExecutionException.class, exception.getSuppressed()[0])
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void mustDoNothingWithoutActions() {
+        assertDoesNotThrow(() -> ParallelExecution.executeAll(List.of(), task -> task.run()));
+    }
+}
@@ -0,0 +1,90 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link IntAction}, {@link LongAction}, {@link DoubleAction} and {@link BooleanAction}.
+ */
+class PrimitiveActionTest {
+
+    @Test
+    void mustGetPrimitives() {
+        IntAction intAction = new IntAction(() -> 1000);
+        LongAction longAction = new LongAction(() -> Long.MAX_VALUE);
+        DoubleAction doubleAction = new DoubleAction(() -> 0.5);
+        BooleanAction booleanAction = new BooleanAction(() -> true);
+        assertAll(
+                () -> assertEquals(1000, intAction.getAsInt()),
+                () -> assertEquals(Long.MAX_VALUE, longAction.getAsLong()),
+                () -> assertEquals(0.5, doubleAction.getAsDouble()),
+                () -> assertTrue(booleanAction.getAsBoolean())
+        );
+    }
+
+    @Test
+    void mustGetBoxedPrimitives() {
+        IntAction intAction = new IntAction(() -> 1000);
+        LongAction longAction = new LongAction(() -> Long.MAX_VALUE);
+        DoubleAction doubleAction = new DoubleAction(() -> 0.5);
+        BooleanAction booleanAction = new BooleanAction(() -> false);
+        assertAll(
+                () -> assertEquals(1000, intAction.get(Integer.class)),
+                () -> assertEquals(Long.MAX_VALUE, longAction.get()),
+                () -> assertEquals(0.5, doubleAction.get(Double.class)),
+                () -> assertFalse(booleanAction.get(Boolean.class)),
+                () -> assertThrows(MismatchedReturnTypeException.class, () -> intAction.get(String.class))
+        );
+    }
+
+    @Test
+    void mustExecute() {
+        List<String> executionLog = new ArrayList<>();
+        new IntAction(() -> {
+            executionLog.add("int");
+            return 1;
+        }).execute();
+        new LongAction(() -> {
+            executionLog.add("long");
+            return 1L;
+        }).execute();
+        new DoubleAction(() -> {
+            executionLog.add("double");
+            return 1.0;
+        }).execute();
+        new BooleanAction(() -> executionLog.add("boolean")).execute();
+        assertEquals(List.of("int", "long", "double", "boolean"), executionLog);
+    }
+
+    @Test
+    void mustThrowExceptionFromPassedCallable() {
+        IntAction intAction = new IntAction(() -> {
+            throw new IOException(EXCEPTION_TEST_MESSAGE);
+        });
+        LongAction longAction = new LongAction(() -> {
+            throw new IOException(EXCEPTION_TEST_MESSAGE);
+        });
+        DoubleAction doubleAction = new DoubleAction(() -> {
+            throw new IOException(EXCEPTION_TEST_MESSAGE);
+        });
+        BooleanAction booleanAction = new BooleanAction(() -> {
+            throw new IOException(EXCEPTION_TEST_MESSAGE);
+        });
+        assertAll(
+                () -> assertThrows(IOException.class, intAction::execute),
+                () -> assertThrows(IOException.class, intAction::getAsInt),
+                () -> assertThrows(IOException.class, longAction::execute),
+                () -> assertThrows(IOException.class, longAction::getAsLong),
+                () -> assertThrows(IOException.class, doubleAction::execute),
+                () -> assertThrows(IOException.class, doubleAction::getAsDouble),
+                () -> assertThrows(IOException.class, booleanAction::execute),
+                () -> assertThrows(IOException.class, booleanAction::getAsBoolean)
+        );
+    }
+}
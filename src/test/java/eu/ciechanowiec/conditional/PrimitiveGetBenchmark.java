@@ -0,0 +1,47 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares retrieval of a {@code double} value from a prepared {@link Conditional} via
+ * {@link Conditional#get(Class)} (boxed into {@link Double}) and via {@link Conditional#getAsDouble()}
+ * (never boxed). With {@code -prof gc} the allocation rate of the primitive path is expected to be zero.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveGetBenchmark {
+
+    @Param({"true", "false"})
+    private boolean describedValue;
+
+    private double weight;
+    private Conditional boxedConditional;
+    private Conditional primitiveConditional;
+
+    @Setup
+    public void setup() {
+        weight = 0.75;
+        boxedConditional = Conditional.conditional(describedValue)
+                                      .onTrue(() -> weight)
+                                      .onFalse(() -> -weight);
+        primitiveConditional = Conditional.conditional(describedValue)
+                                          .onTrueDouble(() -> weight)
+                                          .onFalseDouble(() -> -weight);
+    }
+
+    @Benchmark
+    public double boxedGet() {
+        return boxedConditional.get(Double.class);
+    }
+
+    @Benchmark
+    public double primitiveGet() {
+        return primitiveConditional.getAsDouble();
+    }
+}
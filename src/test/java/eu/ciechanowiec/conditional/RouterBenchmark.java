@@ -0,0 +1,78 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares routing of stream elements via a {@link Conditional} created for every element and via
+ * a {@link Router}, as well as partitioning via a {@link Router} and via
+ * {@link Collectors#partitioningBy(java.util.function.Predicate)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+
+    private static final int ELEMENTS = 10_000;
+
+    private List<Integer> elements;
+    private LongAdder routedOnTrue;
+    private LongAdder routedOnFalse;
+    private Router<Integer> router;
+
+    @Setup
+    public void setup() {
+        elements = IntStream.range(0, ELEMENTS).boxed().collect(Collectors.toList());
+        routedOnTrue = new LongAdder();
+        routedOnFalse = new LongAdder();
+        router = Conditional.<Integer>router(RouterBenchmark::isEven)
+                            .onTrue(value -> routedOnTrue.increment())
+                            .onFalse(value -> routedOnFalse.increment());
+    }
+
+    private static boolean isEven(int value) {
+        return value % 2 == 0;
+    }
+
+    @Benchmark
+    public void conditionalPerElement() {
+        elements.forEach(value -> Conditional.conditional(isEven(value))
+                                             .onTrue(routedOnTrue::increment)
+                                             .onFalse(routedOnFalse::increment)
+                                             .execute());
+    }
+
+    @Benchmark
+    public void routerSequential() {
+        elements.forEach(router);
+    }
+
+    @Benchmark
+    public void routerParallel() {
+        elements.parallelStream().forEach(router);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partitioningBy() {
+        return elements.stream().collect(Collectors.partitioningBy(RouterBenchmark::isEven));
+    }
+
+    @Benchmark
+    public Partition<Integer> routerPartition() {
+        return router.partition(elements);
+    }
+
+    @Benchmark
+    public Partition<Integer> routerToPartition() {
+        return elements.stream().collect(router.toPartition());
+    }
+}
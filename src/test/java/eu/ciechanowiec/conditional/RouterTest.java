@@ -0,0 +1,156 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouterTest {
+
+    private static final int ELEMENTS = 10_000;
+
+    @Test
+    void mustRouteElementsToSinksSubsequently() {
+        List<String> routingLog = new ArrayList<>();
+        Router<Integer> router = Conditional.<Integer>router(value -> value % 2 == 0)
+                .onTrue(value -> routingLog.add("even-1:" + value))
+                .onFalse(value -> routingLog.add("odd-1:" + value))
+                .onTrue(value -> routingLog.add("even-2:" + value));
+        Stream.of(1, 2, 3).forEach(router);
+        List<String> expectedLog = List.of("odd-1:1", "even-1:2", "even-2:2", "odd-1:3");
+        assertEquals(expectedLog, routingLog);
+    }
+
+    @Test
+    void mustRouteWithoutSinks() {
+        AtomicInteger tests = new AtomicInteger();
+        Router<Integer> router = Conditional.router(value -> tests.incrementAndGet() > 0);
+        assertDoesNotThrow(() -> Stream.of(1, 2, 3).forEach(router));
+        assertEquals(3, tests.get());
+    }
+
+    @Test
+    void mustSubmitSinksWithoutModifyingOriginalRouter() {
+        List<Integer> routedOnTrue = new ArrayList<>();
+        List<Integer> routedOnFalse = new ArrayList<>();
+        Router<Integer> original = Conditional.<Integer>router(value -> value > 0).onTrue(routedOnTrue::add);
+        Router<Integer> extended = original.onFalse(routedOnFalse::add);
+        original.accept(1);
+        original.accept(-1);
+        extended.accept(-2);
+        assertAll(
+                () -> assertNotSame(original, extended),
+                () -> assertEquals(List.of(1), routedOnTrue),
+                () -> assertEquals(List.of(-2), routedOnFalse)
+        );
+    }
+
+    @Test
+    void mustRouteElementsOfParallelStream() {
+        Set<Integer> routedOnTrue = ConcurrentHashMap.newKeySet();
+        Set<Integer> routedOnFalse = ConcurrentHashMap.newKeySet();
+        Router<Integer> router = Conditional.<Integer>router(value -> value % 3 == 0)
+                .onTrue(routedOnTrue::add)
+                .onFalse(routedOnFalse::add);
+        IntStream.range(0, ELEMENTS).boxed().parallel().forEach(router);
+        Set<Integer> expectedOnTrue = IntStream.range(0, ELEMENTS)
+                                               .filter(value -> value % 3 == 0)
+                                               .boxed()
+                                               .collect(Collectors.toSet());
+        assertAll(
+                () -> assertEquals(expectedOnTrue, routedOnTrue),
+                () -> assertEquals(ELEMENTS - expectedOnTrue.size(), routedOnFalse.size())
+        );
+    }
+
+    @Test
+    void mustPartitionPreservingOrder() {
+        AtomicInteger routed = new AtomicInteger();
+        Router<Integer> router = Conditional.<Integer>router(value -> value % 2 == 0)
+                .onTrue(value -> routed.incrementAndGet());
+        Partition<Integer> partition = router.partition(List.of(1, 2, 3, 4, 5, 6, 7));
+        assertAll(
+                () -> assertEquals(List.of(2, 4, 6), partition.trueElements()),
+                () -> assertEquals(List.of(1, 3, 5, 7), partition.falseElements()),
+                () -> assertEquals("3 true, 4 false", partition.toString()),
+                () -> assertEquals(0, routed.get()),
+                () -> assertThrows(UnsupportedOperationException.class, () -> partition.trueElements().add(8))
+        );
+    }
+
+    @Test
+    void mustPartitionEmptyAndUniformCollections() {
+        Router<Integer> router = Conditional.router(value -> value > 0);
+        Partition<Integer> empty = router.partition(List.of());
+        Partition<Integer> allTrue = router.partition(List.of(1, 2));
+        Partition<Integer> allFalse = router.partition(List.of(-1, -2));
+        assertAll(
+                () -> assertEquals("0 true, 0 false", empty.toString()),
+                () -> assertEquals(List.of(1, 2), allTrue.trueElements()),
+                () -> assertTrue(allTrue.falseElements().isEmpty()),
+                () -> assertTrue(allFalse.trueElements().isEmpty()),
+                () -> assertEquals(List.of(-1, -2), allFalse.falseElements())
+        );
+    }
+
+    @Test
+    void mustPartitionCollectionWithSizeNotMatchingIteration() {
+        Router<Integer> router = Conditional.router(value -> value % 2 == 0);
+        List<Integer> elements = List.of(1, 2, 3, 4, 5);
+        Collection<Integer> underestimated = new AbstractCollection<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return elements.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+        Collection<Integer> overestimated = new AbstractCollection<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return elements.iterator();
+            }
+
+            @Override
+            public int size() {
+                return elements.size() * 2;
+            }
+        };
+        Partition<Integer> underestimatedPartition = router.partition(underestimated);
+        Partition<Integer> overestimatedPartition = router.partition(overestimated);
+        assertAll(
+                () -> assertEquals(List.of(2, 4), underestimatedPartition.trueElements()),
+                () -> assertEquals(List.of(1, 3, 5), underestimatedPartition.falseElements()),
+                () -> assertEquals(List.of(2, 4), overestimatedPartition.trueElements()),
+                () -> assertEquals(List.of(1, 3, 5), overestimatedPartition.falseElements())
+        );
+    }
+
+    @Test
+    void mustCollectPartitionOfParallelStreamPreservingOrder() {
+        Router<Integer> router = Conditional.router(value -> value % 3 == 0);
+        List<Integer> elements = IntStream.range(0, ELEMENTS).boxed().collect(Collectors.toList());
+        Partition<Integer> sequentialPartition = router.partition(elements);
+        Partition<Integer> parallelPartition = elements.parallelStream().collect(router.toPartition());
+        assertAll(
+                () -> assertEquals(sequentialPartition.trueElements(), parallelPartition.trueElements()),
+                () -> assertEquals(sequentialPartition.falseElements(), parallelPartition.falseElements()),
+                () -> assertEquals(ELEMENTS, parallelPartition.trueElements().size()
+                                             + parallelPartition.falseElements().size())
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package eu.ciechanowiec.conditional;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RunnableExecutorTest {
+
+    @Test
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    void mustExecuteOnlyIfActive() throws Exception {
+        Runnable runnable = spy(Runnable.class);
+        RunnableExecutor activeExecutor = new RunnableExecutorActive();
+        RunnableExecutor voidExecutor = new RunnableExecutorVoid();
+        voidExecutor.executeIfActive(runnable);
+        verify(runnable, never()).run();
+        activeExecutor.executeIfActive(runnable);
+        verify(runnable, times(NumberUtils.INTEGER_ONE)).run();
+    }
+
+    @Test
+    void mustThrowFromRunnableOnlyIfActive() {
+        Exception exception = new Exception("Generic exception for tests");
+        Runnable runnable = () -> {
+            throw exception;
+        };
+        RunnableExecutor activeExecutor = new RunnableExecutorActive();
+        RunnableExecutor voidExecutor = new RunnableExecutorVoid();
+        assertAll(
+                () -> assertThrows(Exception.class, () -> activeExecutor.executeIfActive(runnable)),
+                () -> assertDoesNotThrow(() -> voidExecutor.executeIfActive(runnable))
+        );
+    }
+
+    @Test
+    void mustHandleNPEIfPassingNull() {
+        RunnableExecutor activeExecutor = new RunnableExecutorActive();
+        RunnableExecutor voidExecutor = new RunnableExecutorVoid();
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> activeExecutor.executeIfActive(null)),
+                () -> assertDoesNotThrow(() -> voidExecutor.executeIfActive(null))
+        );
+    }
+}
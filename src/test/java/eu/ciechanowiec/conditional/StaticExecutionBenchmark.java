@@ -0,0 +1,59 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static eu.ciechanowiec.conditional.Conditional.onFalseExecute;
+import static eu.ciechanowiec.conditional.Conditional.onTrueExecute;
+
+/**
+ * Compares static execution operations of {@link Conditional} with a plain {@code if} statement.
+ * Run with {@code -prof gc} to see the allocation rate of every compared variant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticExecutionBenchmark {
+
+    @Param({"true", "false"})
+    private boolean condition;
+
+    private Blackhole blackhole;
+    private Runnable action;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        action = () -> this.blackhole.consume(condition);
+    }
+
+    @Benchmark
+    @SuppressWarnings({"squid:S112", "ProhibitedExceptionDeclared"})
+    public void plainIf() throws Exception {
+        if (condition) {
+            action.run();
+        }
+    }
+
+    @Benchmark
+    public void onTrueExecuteStatic() {
+        onTrueExecute(condition, action);
+    }
+
+    @Benchmark
+    public void onFalseExecuteStatic() {
+        onFalseExecute(condition, action);
+    }
+
+    @Benchmark
+    public void fullConditional() {
+        Conditional.conditional(condition)
+                   .onTrue(action)
+                   .execute();
+    }
+}
@@ -0,0 +1,70 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluation of a prebuilt {@link ConditionalTemplate} against construction of
+ * a new {@link Conditional} with the same actions on every call. With {@code -prof gc}
+ * the allocation rate of the {@code template...} benchmarks is expected to be zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+
+    @Param({"true", "false"})
+    private boolean value;
+
+    private Runnable actionOnTrue;
+    private Runnable actionOnFalse;
+    private Callable<String> valueOnTrue;
+    private Callable<String> valueOnFalse;
+    private ConditionalTemplate executedTemplate;
+    private ConditionalTemplate gotTemplate;
+
+    @Setup
+    public void setup() {
+        actionOnTrue = () -> { };
+        actionOnFalse = () -> { };
+        valueOnTrue = () -> Variables.HELLO;
+        valueOnFalse = () -> Variables.EXCEPTION_TEST_MESSAGE;
+        executedTemplate = ConditionalTemplate.template()
+                                              .onTrue(actionOnTrue)
+                                              .onFalse(actionOnFalse);
+        gotTemplate = ConditionalTemplate.template()
+                                         .onTrue(valueOnTrue)
+                                         .onFalse(valueOnFalse);
+    }
+
+    @Benchmark
+    public Conditional conditionalExecute() {
+        return Conditional.conditional(value)
+                          .onTrue(actionOnTrue)
+                          .onFalse(actionOnFalse)
+                          .execute();
+    }
+
+    @Benchmark
+    public ConditionalTemplate templateExecute() {
+        return executedTemplate.execute(value);
+    }
+
+    @Benchmark
+    public String conditionalGet() {
+        return Conditional.conditional(value)
+                          .onTrue(valueOnTrue)
+                          .onFalse(valueOnFalse)
+                          .get(String.class);
+    }
+
+    @Benchmark
+    public String templateGet() {
+        return gotTemplate.get(value, String.class);
+    }
+}
@@ -0,0 +1,68 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares direct evaluation of a condition that imitates a remote lookup by sleeping with its
+ * evaluation within a time budget. The {@code ...Slow} benchmarks use a lookup that overruns
+ * the budget, so the time-budgeted evaluation falls back to a default value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimedConditionBenchmark {
+
+    private static final long LOOKUP_MILLIS = 1;
+    private static final long SLOW_LOOKUP_MILLIS = 20;
+    private static final Duration TIMEOUT = Duration.ofMillis(5);
+
+    private BooleanCallable lookup;
+    private BooleanCallable slowLookup;
+    private TimedCondition timedLookup;
+    private TimedCondition timedSlowLookup;
+
+    @Setup
+    public void setup() {
+        lookup = () -> {
+            Thread.sleep(LOOKUP_MILLIS);
+            return true;
+        };
+        slowLookup = () -> {
+            Thread.sleep(SLOW_LOOKUP_MILLIS);
+            return true;
+        };
+        timedLookup = Conditions.withTimeout(lookup, TIMEOUT, false);
+        timedSlowLookup = Conditions.withTimeout(slowLookup, TIMEOUT, false);
+    }
+
+    @Benchmark
+    public boolean direct() throws Exception {
+        return lookup.call();
+    }
+
+    @Benchmark
+    public boolean timed() throws Exception {
+        return timedLookup.call();
+    }
+
+    @Benchmark
+    public boolean directSlow() throws Exception {
+        return slowLookup.call();
+    }
+
+    @Benchmark
+    public boolean timedSlow() throws Exception {
+        return timedSlowLookup.call();
+    }
+
+    @Benchmark
+    public boolean timedSlowAsync() {
+        return timedSlowLookup.callAsync().join();
+    }
+}
@@ -0,0 +1,162 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedConditionTest {
+
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(20);
+    private static final Duration LONG_TIMEOUT = Duration.ofMinutes(1);
+
+    private ExecutorService executorService;
+    private CountDownLatch slowConditionInterrupted;
+    private CountDownLatch slowConditionReleased;
+    private CountDownLatch slowConditionFinished;
+    private BooleanCallable slowCondition;
+
+    @BeforeEach
+    void setup() {
+        executorService = Executors.newCachedThreadPool();
+        slowConditionInterrupted = new CountDownLatch(1);
+        slowConditionReleased = new CountDownLatch(1);
+        slowConditionFinished = new CountDownLatch(1);
+        slowCondition = () -> {
+            try {
+                slowConditionReleased.await();
+            } catch (InterruptedException exception) {
+                slowConditionInterrupted.countDown();
+                throw exception;
+            }
+            slowConditionFinished.countDown();
+            return true;
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void mustReturnResultWithinTimeout() throws Exception {
+        TimedCondition timedCondition = new TimedCondition(() -> true, LONG_TIMEOUT, false,
+                                                           OverrunPolicy.INTERRUPT, executorService);
+        boolean firstResult = timedCondition.call();
+        boolean secondResult = timedCondition.call();
+        assertAll(
+                () -> assertTrue(firstResult),
+                () -> assertTrue(secondResult),
+                () -> assertEquals(2, timedCondition.evaluations()),
+                () -> assertEquals(0, timedCondition.fallbacks()),
+                () -> assertEquals("2 evaluations, 0 fallbacks", timedCondition.toString())
+        );
+    }
+
+    @Test
+    void mustFallBackAndInterruptOverrunningEvaluation() throws Exception {
+        TimedCondition timedCondition = new TimedCondition(slowCondition, SHORT_TIMEOUT, false,
+                                                           OverrunPolicy.INTERRUPT, executorService);
+        boolean result = timedCondition.call();
+        assertAll(
+                () -> assertFalse(result),
+                () -> assertEquals(1, timedCondition.fallbacks()),
+                () -> assertTrue(slowConditionInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustFallBackAndAbandonOverrunningEvaluation() throws Exception {
+        TimedCondition timedCondition = new TimedCondition(slowCondition, SHORT_TIMEOUT, false,
+                                                           OverrunPolicy.ABANDON, executorService);
+        boolean result = timedCondition.call();
+        slowConditionReleased.countDown();
+        assertAll(
+                () -> assertFalse(result),
+                () -> assertEquals(1, timedCondition.fallbacks()),
+                () -> assertTrue(slowConditionFinished.await(1, TimeUnit.MINUTES)),
+                () -> assertEquals(1, slowConditionInterrupted.getCount())
+        );
+    }
+
+    @Test
+    void mustRethrowExceptionFromCondition() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        TimedCondition timedCondition = new TimedCondition(() -> {
+            throw failure;
+        }, LONG_TIMEOUT, true, OverrunPolicy.INTERRUPT, executorService);
+        IOException thrown = assertThrows(IOException.class, timedCondition::call);
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> assertEquals(0, timedCondition.fallbacks())
+        );
+    }
+
+    @Test
+    void mustCancelEvaluationOnInterruption() {
+        List<java.lang.Runnable> submittedTasks = new ArrayList<>();
+        TimedCondition timedCondition = new TimedCondition(() -> true, LONG_TIMEOUT, false,
+                                                           OverrunPolicy.ABANDON, submittedTasks::add);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, timedCondition::call);
+        assertAll(
+                () -> assertFalse(Thread.currentThread().isInterrupted()),
+                () -> assertTrue(((Future<?>) submittedTasks.get(0)).isCancelled()),
+                () -> assertEquals(0, timedCondition.fallbacks())
+        );
+    }
+
+    @Test
+    void mustCompleteAsynchronously() throws Exception {
+        TimedCondition fastCondition = new TimedCondition(() -> false, LONG_TIMEOUT, true,
+                                                          OverrunPolicy.INTERRUPT, executorService);
+        TimedCondition timedCondition = new TimedCondition(slowCondition, SHORT_TIMEOUT, true,
+                                                           OverrunPolicy.INTERRUPT, executorService);
+        CompletableFuture<Boolean> fastResult = fastCondition.callAsync();
+        CompletableFuture<Boolean> fallbackResult = timedCondition.callAsync();
+        assertAll(
+                () -> assertFalse(fastResult.get(1, TimeUnit.MINUTES)),
+                () -> assertTrue(fallbackResult.get(1, TimeUnit.MINUTES)),
+                () -> assertEquals(0, fastCondition.fallbacks()),
+                () -> assertEquals(1, timedCondition.fallbacks()),
+                () -> assertTrue(slowConditionInterrupted.await(1, TimeUnit.MINUTES))
+        );
+    }
+
+    @Test
+    void mustCompleteExceptionallyAsynchronously() {
+        IOException failure = new IOException(EXCEPTION_TEST_MESSAGE);
+        TimedCondition timedCondition = new TimedCondition(() -> {
+            throw failure;
+        }, LONG_TIMEOUT, true, OverrunPolicy.INTERRUPT, executorService);
+        CompletableFuture<Boolean> result = timedCondition.callAsync();
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.MINUTES));
+        assertAll(
+                () -> assertSame(failure, thrown.getCause()),
+                () -> assertEquals(1, timedCondition.evaluations()),
+                () -> assertEquals(0, timedCondition.fallbacks())
+        );
+    }
+
+    @Test
+    void mustPlugIntoConditionalAsynchronously() throws Exception {
+        TimedCondition timedCondition = new TimedCondition(slowCondition, SHORT_TIMEOUT, false,
+                                                           OverrunPolicy.INTERRUPT, executorService);
+        String value = timedCondition.callAsync()
+                                     .thenApply(Conditional::conditional)
+                                     .thenApply(conditional -> conditional.onTrue(() -> "on true")
+                                                                          .onFalse(() -> "on false")
+                                                                          .get(String.class))
+                                     .get(1, TimeUnit.MINUTES);
+        assertEquals("on false", value);
+    }
+}
@@ -0,0 +1,82 @@
+package eu.ciechanowiec.conditional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static eu.ciechanowiec.conditional.Conditional.returning;
+import static eu.ciechanowiec.conditional.Variables.EXCEPTION_TEST_MESSAGE;
+import static eu.ciechanowiec.conditional.Variables.HELLO;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedConditionalTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void mustCreateSpecifiedTypedConditional(boolean expectedValue) {
+        TypedConditional<String> typedConditional = returning(expectedValue);
+        assertEquals(expectedValue, typedConditional.describedValue());
+    }
+
+    @Test
+    void mustGetWithoutClassToken() {
+        String actualOnTrue = Conditional.<String>returning(true)
+                .onTrue(() -> HELLO)
+                .onFalse(() -> EXCEPTION_TEST_MESSAGE)
+                .get();
+        CharSequence actualOnFalse = Conditional.<CharSequence>returning(false)
+                .onTrue(() -> HELLO)
+                .onFalse(StringBuilder::new)
+                .get();
+        Integer actualNull = Conditional.<Integer>returning(true)
+                .onTrue(() -> null)
+                .get();
+        assertAll(
+                () -> assertEquals(HELLO, actualOnTrue),
+                () -> assertEquals(StringBuilder.class, actualOnFalse.getClass()),
+                () -> assertNull(actualNull)
+        );
+    }
+
+    @Test
+    void mustThrowWhenGetWithNotExactlyOneAction() {
+        TypedConditional<String> withTwoActions = Conditional.<String>returning(true)
+                .onTrue(() -> HELLO)
+                .onTrue(() -> HELLO);
+        TypedConditional<String> withoutActions = Conditional.<String>returning(false)
+                .onTrue(() -> HELLO);
+        assertAll(
+                () -> assertThrows(UndeterminedReturnValueException.class, withTwoActions::get),
+                () -> assertThrows(UndeterminedReturnValueException.class, withoutActions::get)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void mustExecuteActionsBoundToDescribedValue(boolean describedValue) {
+        List<String> executionLog = new ArrayList<>();
+        Conditional.<Boolean>returning(describedValue)
+                .onTrue(() -> executionLog.add("true-1"))
+                .onFalse(() -> executionLog.add("false-1"))
+                .onTrue(() -> executionLog.add("true-2"))
+                .execute();
+        List<String> expectedLog = describedValue ? List.of("true-1", "true-2") : List.of("false-1");
+        assertEquals(expectedLog, executionLog);
+    }
+
+    @Test
+    void mustThrowExceptionFromAction() {
+        TypedConditional<String> typedConditional = Conditional.<String>returning(true)
+                .onTrue(() -> {
+                    throw new IOException(EXCEPTION_TEST_MESSAGE);
+                });
+        assertAll(
+                () -> assertThrows(IOException.class, typedConditional::get),
+                () -> assertThrows(IOException.class, typedConditional::execute)
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package eu.ciechanowiec.conditional;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures execution of many concurrent blocking actions, that imitate I/O by sleeping,
+ * bound to the same value of a {@link Conditional}. When run on Java 21 and newer from the multi-release
+ * jar file, every action is executed on its own virtual thread; otherwise, actions are executed on the default
+ * pool of {@link Conditional#executeParallel()}. For comparison, the same actions are executed on that default
+ * pool directly, where the number of actions executed at once is limited by the size of that pool.
+ * <p>
+ * To measure virtual threads, run the shaded jar file built on JDK 21 with the test classes on JDK 21, e.g.:
+ * {@code java -cp target/conditional-<version>.jar:target/test-classes:<jmh> org.openjdk.jmh.Main VirtualThreadsBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+    private static final long ACTION_LATENCY_MILLIS = 50;
+
+    @Param({"1000", "10000"})
+    private int actions;
+
+    private Conditional conditional;
+
+    @Setup
+    public void setup() {
+        conditional = Conditional.conditional(true);
+        for (int actionIndex = 0; actionIndex < actions; actionIndex++) {
+            conditional.onTrue(() -> Thread.sleep(ACTION_LATENCY_MILLIS));
+        }
+    }
+
+    @Benchmark
+    public Conditional virtualThreads() {
+        return conditional.executeOnVirtualThreads();
+    }
+
+    @Benchmark
+    public Conditional defaultPool() {
+        return conditional.executeParallel();
+    }
+}
@@ -0,0 +1,62 @@
+package eu.ciechanowiec.conditional;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static eu.ciechanowiec.conditional.Conditional.conditional;
+import static java.lang.Boolean.TRUE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assures that the multi-release jar file executes actions on virtual threads on Java 21 and newer.
+ * Run by the {@code java21} profile against the packaged jar file on a JDK 21 toolchain, since
+ * classes from {@code META-INF/versions/21} are never loaded from the compiled classes directory.
+ */
+class VirtualThreadsIT {
+
+    /**
+     * More than the number of threads of {@link ParallelExecution#DEFAULT_POOL},
+     * so that the actions can't be executed at once by that pool.
+     */
+    private static final int ACTIONS = 1000;
+
+    @Test
+    void mustLoadVirtualThreadsFromJavaTwentyOneLayerOfJar() {
+        String location = VirtualThreads.class.getProtectionDomain().getCodeSource().getLocation().toString();
+        assertAll(
+                () -> assertTrue(Runtime.version().feature() >= 21),
+                () -> assertTrue(location.endsWith(".jar")),
+                () -> assertNotSame(ParallelExecution.DEFAULT_POOL, VirtualThreads.EXECUTOR)
+        );
+    }
+
+    @Test
+    void mustExecuteEveryActionOnItsOwnVirtualThread() {
+        CyclicBarrier barrier = new CyclicBarrier(ACTIONS);
+        Set<Thread> executingThreads = ConcurrentHashMap.newKeySet();
+        Conditional conditional = conditional(TRUE);
+        IntStream.range(0, ACTIONS).forEach(actionIndex -> conditional.onTrue(() -> {
+            executingThreads.add(Thread.currentThread());
+            return barrier.await(1, TimeUnit.MINUTES);
+        }));
+        conditional.executeOnVirtualThreads();
+        assertAll(
+                () -> assertEquals(ACTIONS, executingThreads.size()),
+                () -> assertTrue(executingThreads.stream().allMatch(VirtualThreadsIT::isVirtual))
+        );
+    }
+
+    /**
+     * Calls {@code Thread#isVirtual()} reflectively, since test sources are compiled for Java 11.
+     */
+    @SneakyThrows
+    private static boolean isVirtual(Thread thread) {
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}